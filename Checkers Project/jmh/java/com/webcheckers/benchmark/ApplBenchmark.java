@@ -0,0 +1,90 @@
+package com.webcheckers.benchmark;
+
+import com.webcheckers.appl.PlayerLobby;
+import com.webcheckers.appl.TurnController;
+import com.webcheckers.model.Game;
+import com.webcheckers.model.Player;
+import com.webcheckers.ui.JsonCodec;
+import com.webcheckers.ui.Message;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for the application-tier paths hit by every request: finding the
+ * player for a session and validating a move sent by the client.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ApplBenchmark {
+    //
+    // Constants
+    //
+    private static final String SIMPLE_MOVE_JSON = "{\"start\":{\"row\":5,\"cell\":0},\"end\":{\"row\":4,\"cell\":1}}";
+
+    //
+    // Attributes
+    //
+    @Param({"10000"})
+    public int players;
+
+    private PlayerLobby playerLobby;
+    private TurnController turnController;
+    private String[] sessionIDs;
+    private String redSessionID;
+    private Game game;
+    private int next;
+
+    @Setup
+    public void setup() {
+        playerLobby = new PlayerLobby();
+        sessionIDs = new String[players];
+        for (int i = 0; i < players; i++) {
+            sessionIDs[i] = "session" + i;
+            playerLobby.signIn("player" + i, sessionIDs[i]);
+        }
+        Player red = playerLobby.getPlayerBySessionID(sessionIDs[0]);
+        Player white = playerLobby.getPlayerBySessionID(sessionIDs[1]);
+        game = playerLobby.startGame(red, white);
+        redSessionID = sessionIDs[0];
+        turnController = new TurnController(playerLobby, JsonCodec.GSON);
+    }
+
+    //
+    // Benchmarks
+    //
+
+    /**
+     * Look up sessions spread over the whole lobby, so a linear scan pays
+     * for the average position rather than the first entry
+     */
+    @Benchmark
+    public Player getPlayerBySessionID() {
+        next = (next + 7919) % players;
+        return playerLobby.getPlayerBySessionID(sessionIDs[next]);
+    }
+
+    /**
+     * Validate the red player's opening move, then back it up so every
+     * invocation sees the same position
+     */
+    @Benchmark
+    public Message handleValidation() {
+        Message message = turnController.handleValidation(SIMPLE_MOVE_JSON, redSessionID);
+        turnController.backupMove(game);
+        return message;
+    }
+}
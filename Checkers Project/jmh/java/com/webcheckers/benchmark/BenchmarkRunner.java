@@ -0,0 +1,44 @@
+package com.webcheckers.benchmark;
+
+import java.io.File;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs every benchmark in this package and archives the results as JSON, so
+ * runs from different commits can be diffed.
+ *
+ * <p>
+ * Usage: {@code BenchmarkRunner [results-dir [label]]}. The results go to
+ * {@code results-dir/<label>.json}; the label defaults to a timestamp, but a
+ * commit hash makes the archive easier to read.
+ * </p>
+ */
+public class BenchmarkRunner {
+    //
+    // Constants
+    //
+    private static final String DEFAULT_RESULTS_DIR = "benchmarks";
+
+    public static void main(String[] args) throws RunnerException {
+        File directory = new File(args.length > 0 ? args[0] : DEFAULT_RESULTS_DIR);
+        String label = args.length > 1 ? args[1] : new SimpleDateFormat("yyyyMMdd-HHmmss").format(new Date());
+        if (!directory.isDirectory() && !directory.mkdirs()) {
+            throw new IllegalStateException("Could not create " + directory);
+        }
+        File results = new File(directory, label + ".json");
+
+        Options options = new OptionsBuilder()
+            .include(BenchmarkRunner.class.getPackage().getName() + "\\..*Benchmark")
+            .resultFormat(ResultFormatType.JSON)
+            .result(results.getPath())
+            .build();
+        new Runner(options).run();
+        System.out.println("Results written to " + results);
+    }
+}
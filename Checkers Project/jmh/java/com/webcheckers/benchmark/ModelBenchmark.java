@@ -0,0 +1,129 @@
+package com.webcheckers.benchmark;
+
+import com.webcheckers.model.Board;
+import com.webcheckers.model.Game;
+import com.webcheckers.model.JumpMove;
+import com.webcheckers.model.LegalMoves;
+import com.webcheckers.model.MoveGenerator;
+import com.webcheckers.model.Piece;
+import com.webcheckers.model.Player;
+import com.webcheckers.model.Position;
+import com.webcheckers.model.SimpleMove;
+import com.webcheckers.ui.BoardView;
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for the model-tier paths that run on every move and every
+ * {@code GET /game}. The positions are the opening and the demo games, so the
+ * numbers are comparable between commits.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ModelBenchmark {
+    //
+    // Attributes
+    //
+    private Game opening;
+    private Game doubleJump;
+    private SimpleMove openingMove;
+    private JumpMove firstJump;
+
+    @Setup
+    public void setup() {
+        Player red = new Player("red");
+        Player white = new Player("white");
+        opening = new Game(red, white, 0);
+        doubleJump = Game.testDoubleJump(red, white, 1);
+        openingMove = new SimpleMove(Position.of(5, 0), Position.of(4, 1));
+        firstJump = new JumpMove(Position.of(7, 0), Position.of(5, 2));
+    }
+
+    //
+    // Benchmarks
+    //
+    @Benchmark
+    public boolean simpleMoveValidate() {
+        return openingMove.validateMove(opening);
+    }
+
+    @Benchmark
+    public boolean jumpMoveValidate() {
+        return firstJump.validateMove(doubleJump);
+    }
+
+    @Benchmark
+    public boolean jumpMoveAvailable() {
+        return doubleJump.getLegalMoves().hasCaptures();
+    }
+
+    /**
+     * Move generation without the per-turn cache in Game, i.e. the cost of
+     * the first request after a turn is submitted
+     */
+    @Benchmark
+    public LegalMoves generateOpening() {
+        return MoveGenerator.generate(opening.getBoard(), Piece.PColor.red);
+    }
+
+    /**
+     * Apply a turn that takes the last white piece, which is where the
+     * winner is decided
+     */
+    @Benchmark
+    public String applyWinningTurn(WinningTurn winningTurn) {
+        winningTurn.game.applyTurnMoves();
+        return winningTurn.game.getWinningPlayerName();
+    }
+
+    @Benchmark
+    public ArrayList<Position> getPieceLocations() {
+        return opening.getBoard().getPieceLocations(Piece.PColor.red);
+    }
+
+    @Benchmark
+    public BoardView boardViewRed() {
+        return new BoardView(opening.getBoard(), false);
+    }
+
+    @Benchmark
+    public BoardView boardViewWhite() {
+        return new BoardView(opening.getBoard(), true);
+    }
+
+    @Benchmark
+    public long positionHash() {
+        Board board = opening.getBoard();
+        return board.positionHash();
+    }
+
+    /**
+     * A game with red's capture of the last white piece queued, made afresh
+     * for every invocation because applying it ends the game
+     */
+    @State(Scope.Thread)
+    public static class WinningTurn {
+        Game game;
+
+        @Setup(Level.Invocation)
+        public void setup() {
+            game = Game.testCaptureToEnd(new Player("red"), new Player("white"), 2);
+            game.addMove(new JumpMove(Position.of(2, 1), Position.of(0, 3)));
+        }
+    }
+}
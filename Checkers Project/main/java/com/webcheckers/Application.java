@@ -9,6 +9,8 @@ import java.util.logging.Logger;
 
 import com.google.gson.Gson;
 import com.webcheckers.appl.PlayerLobby;
+import com.webcheckers.ui.JsonCodec;
+import com.webcheckers.ui.ServerThreadPool;
 import com.webcheckers.ui.WebServer;
 
 import spark.TemplateEngine;
@@ -23,6 +25,17 @@ import spark.template.freemarker.FreeMarkerEngine;
 public final class Application {
     private static final Logger LOG = Logger.getLogger(Application.class.getName());
 
+    //
+    // Constants
+    //
+
+    /** System properties for the web server's threads, e.g. {@code -Dwebcheckers.virtualThreads=true} */
+    static final String MAX_THREADS_PROPERTY = "webcheckers.maxThreads";
+    static final String MIN_THREADS_PROPERTY = "webcheckers.minThreads";
+    static final String IDLE_TIMEOUT_PROPERTY = "webcheckers.threadIdleTimeoutMillis";
+    static final String QUEUE_LIMIT_PROPERTY = "webcheckers.requestQueueLimit";
+    static final String VIRTUAL_THREADS_PROPERTY = "webcheckers.virtualThreads";
+
     //
     // Application Launch method
     //
@@ -55,8 +68,9 @@ public final class Application {
 
         // The application uses Gson to generate JSON representations of Java objects.
         // This should be used by your Ajax Routes to generate JSON for the HTTP
-        // response to Ajax requests.
-        final Gson gson = new Gson();
+        // response to Ajax requests. The shared one is safe across threads and
+        // knows the messages and moves the routes send.
+        final Gson gson = JsonCodec.GSON;
 
         // Create a GameCenter to keep track of the games going on
         final GameCenter gameCenter = new GameCenter();
@@ -66,11 +80,20 @@ public final class Application {
 
         // Create a turn controller so that we can handle turn translation
         // between the model and ui tiers
-        final TurnController turnController = new TurnController(playerLobby);
+        final TurnController turnController = new TurnController(playerLobby, gson);
+
+        // Threads for the web server, which can be tuned with system properties
+        final ServerThreadPool threadPool = new ServerThreadPool(
+            Integer.getInteger(MAX_THREADS_PROPERTY, ServerThreadPool.DEFAULT_MAX_THREADS),
+            Integer.getInteger(MIN_THREADS_PROPERTY, ServerThreadPool.DEFAULT_MIN_THREADS),
+            Integer.getInteger(IDLE_TIMEOUT_PROPERTY, ServerThreadPool.DEFAULT_IDLE_TIMEOUT_MILLIS),
+            Integer.getInteger(QUEUE_LIMIT_PROPERTY, ServerThreadPool.DEFAULT_QUEUE_LIMIT),
+            Boolean.getBoolean(VIRTUAL_THREADS_PROPERTY));
+        LOG.config("Web server threads: " + threadPool);
 
         // inject the template engine, gson object, and player lobby into the
         // web server to assist with route view creation
-        final WebServer webServer = new WebServer(templateEngine, gson, playerLobby, turnController, gameCenter);
+        final WebServer webServer = new WebServer(templateEngine, gson, playerLobby, turnController, gameCenter, threadPool);
 
         // inject web server into application
         final Application app = new Application(webServer);
@@ -3,14 +3,29 @@ package com.webcheckers.appl;
 import com.webcheckers.model.*;
 import com.webcheckers.ui.BoardView;
 
-import java.lang.reflect.Array;
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.HashMap;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Class that keeps track of all of the games currently active, and the opponents that are currently
  * matched up
+ *
+ * <p>
+ * The registries are concurrent maps and are never locked as a whole.
+ * Anything that changes a single game locks that game only.
+ * </p>
+ *
+ * <p>
+ * A game's commands run on the caller's thread, holding that game's lock,
+ * rather than on a per-game actor. The routes can't give up their thread
+ * while a command runs, so an actor would tie up two threads per command,
+ * and the pages that read a game still need its lock to see whole turns.
+ * </p>
  */
 
 public class GameCenter {
@@ -35,22 +50,26 @@ public class GameCenter {
     //
     // Attributes
     //
-    ArrayList<Game> activeGames;
-    HashMap<String, Player> opponents;
-    int gameID = 0;
+    /** The active games, by game ID */
+    Map<Integer, Game> activeGames;
+    Map<String, Player> opponents;
+    final AtomicInteger gameID = new AtomicInteger();
 
     //
     // Constructor
     //
     public GameCenter() {
-        this.activeGames = new ArrayList<>();
-        this.opponents = new HashMap<>();
+        this.activeGames = new ConcurrentHashMap<>();
+        this.opponents = new ConcurrentHashMap<>();
     }
 
     /** Constructor used for testing */
-    public GameCenter(HashMap<String, Player> opponents, ArrayList<Game> activeGames) {
+    public GameCenter(Map<String, Player> opponents, Collection<Game> activeGames) {
         this.opponents = opponents;
-        this.activeGames = activeGames;
+        this.activeGames = new ConcurrentHashMap<>();
+        for (Game game : activeGames) {
+            this.activeGames.put(game.getGameID(), game);
+        }
     }
 
     //
@@ -70,14 +89,25 @@ public class GameCenter {
      * @param player player that is playing in the desired game
      * @return game object
      */
-    public synchronized Game getGame(Player player) {
-        for (Game game : activeGames) {
-            // System.out.println(readGameID(player));
-            if (readGameID(player) == game.getGameID()) {
-                return game;
-            }
-        }
-        return null;
+    public Game getGame(Player player) {
+        return activeGames.get(readGameID(player));
+    }
+
+    /**
+     * Gets a game by its ID
+     * @param gameID the ID of the game
+     * @return the game, or null if there is no active game with that ID
+     */
+    public Game getGameByID(int gameID) {
+        return activeGames.get(gameID);
+    }
+
+    /**
+     * Gets every active game
+     * @return a read-only view of the active games
+     */
+    public Collection<Game> getActiveGames() {
+        return Collections.unmodifiableCollection(activeGames.values());
     }
 
     /**
@@ -108,12 +138,13 @@ public class GameCenter {
      * @param whitePlayer
      * @return
      */
-    public synchronized Game startGame(Player redPlayer, Player whitePlayer) {
+    public Game startGame(Player redPlayer, Player whitePlayer) {
+        int gameID = this.gameID.getAndIncrement();
         String redName = redPlayer.getName();
         String whiteName = whitePlayer.getName();
         this.opponents.put(redName, whitePlayer);
         this.opponents.put(whiteName, redPlayer);
-        Game game = new Game(redPlayer, whitePlayer, this.gameID);
+        Game game = new Game(redPlayer, whitePlayer, gameID);
         if (customNames.contains(redName)) {
             switch (redName) {
                 case KING_PIECE:
@@ -139,9 +170,8 @@ public class GameCenter {
                     break;
             }
         }
-        changeGame(redPlayer, this.gameID);
-        gameID++;
-        activeGames.add(game);
+        changeGame(redPlayer, gameID);
+        activeGames.put(game.getGameID(), game);
         redPlayer.addCurrentGameID(game.getGameID());
         redPlayer.addCurrentOpponentName(whitePlayer.getName());
         whitePlayer.addCurrentGameID(game.getGameID());
@@ -155,13 +185,15 @@ public class GameCenter {
      *
      * @param game the game to end
      */
-    synchronized void endGame(Game game) {
-        if (game.getState() == Game.State.ACTIVE) {
-            game.setStateEnded();
-        } else {
-            this.opponents.remove(game.getRedPlayer().getName());
-            this.opponents.remove(game.getWhitePlayer().getName());
-            this.activeGames.remove(game);
+    void endGame(Game game) {
+        synchronized (game) {
+            if (game.getState() == Game.State.ACTIVE) {
+                game.setStateEnded();
+            } else {
+                this.opponents.remove(game.getRedPlayer().getName());
+                this.opponents.remove(game.getWhitePlayer().getName());
+                this.activeGames.remove(game.getGameID(), game);
+            }
         }
     }
 
@@ -171,9 +203,11 @@ public class GameCenter {
      * @param gameToResignFrom the game from which the player is resigning
      * @param playerThatsResigning the player that is resigning
      */
-    public synchronized void resignFromGame(Game gameToResignFrom, Player playerThatsResigning) {
-        gameToResignFrom.leaveFromGame(playerThatsResigning);
-        endGame(gameToResignFrom);
+    public void resignFromGame(Game gameToResignFrom, Player playerThatsResigning) {
+        synchronized (gameToResignFrom) {
+            gameToResignFrom.leaveFromGame(playerThatsResigning);
+            endGame(gameToResignFrom);
+        }
     }
 
     /**
@@ -185,12 +219,11 @@ public class GameCenter {
     public ArrayList<Game> getAllGames(Player player) {
         ArrayList<Game> games = new ArrayList<>();
 
-        // Loop through all of the IDs in the player's game ID list
-        for(int id : player.getCurrentGameIDs()) {
-            // Loop through all of the games the GameCenter knows about
-            for(Game game : this.activeGames) {
-                // If the IDs match, add it to the results
-                if (game.getGameID() == id) {
+        // The player keeps the IDs of their own games, so look each one up
+        synchronized (player) {
+            for(int id : player.getCurrentGameIDs()) {
+                Game game = this.activeGames.get(id);
+                if (game != null) {
                     games.add(game);
                 }
             }
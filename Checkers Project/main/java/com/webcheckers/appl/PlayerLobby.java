@@ -5,8 +5,10 @@ import com.webcheckers.model.Player;
 import com.webcheckers.ui.BoardView;
 
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.Collection;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * The Application-tier controller that is responsible for all Player-based
@@ -29,7 +31,19 @@ public class PlayerLobby {
     /**
      * Record of all players that have ever signed into the game
      */
-    private HashMap<String, Player> players;
+    private Map<String, Player> players;
+
+    /**
+     * The signed-in players, by session ID. Every route looks the player up
+     * by session, so this saves scanning every player ever seen. Kept in
+     * step with the players' session IDs by signIn and signOut.
+     */
+    private Map<String, Player> playersBySession;
+
+    /**
+     * The names of the signed-in players
+     */
+    private Set<String> signedInNames;
 
     /**
      * The GameCenter instance used to handle game information
@@ -56,7 +70,9 @@ public class PlayerLobby {
      *      PlayerLobby instance.
      */
     public PlayerLobby(GameCenter gameCenter) {
-        this.players = new HashMap<>();
+        this.players = new ConcurrentHashMap<>();
+        this.playersBySession = new ConcurrentHashMap<>();
+        this.signedInNames = ConcurrentHashMap.newKeySet();
         this.gameCenter = gameCenter;
     }
 
@@ -84,13 +100,27 @@ public class PlayerLobby {
      *
      * @return an ArrayList of Strings that are unique values for each signed in player
      */
-    public synchronized ArrayList<String> getSignedInPlayers() {
-        ArrayList<String> signedInPlayers = new ArrayList<>();
-        for (Player player : players.values()) {
-            if (player.isSignedIn())
-                signedInPlayers.add(player.getName());
-        }
-        return signedInPlayers;
+    public ArrayList<String> getSignedInPlayers() {
+        return new ArrayList<>(signedInNames);
+    }
+
+    /**
+     * Get the number of players that are currently signed in
+     *
+     * @return the number of signed in players
+     */
+    public int getSignedInCount() {
+        return signedInNames.size();
+    }
+
+    /**
+     * Check if a player with a given name is currently signed in
+     *
+     * @param playerName the name to check
+     * @return true if a player with that name is signed in
+     */
+    public boolean isSignedIn(String playerName) {
+        return signedInNames.contains(playerName);
     }
 
     /**
@@ -102,7 +132,7 @@ public class PlayerLobby {
      *      true if the player was signed in successfully, false if the player
      *      could not be signed in.
      */
-    public synchronized boolean signIn(String playerName, String sessionID) {
+    public boolean signIn(String playerName, String sessionID) {
         return signIn(new Player(playerName, sessionID));
     }
 
@@ -114,21 +144,39 @@ public class PlayerLobby {
      *      true if the player was signed in successfully, false if the player
      *      could not be signed in.
      */
-    public synchronized boolean signIn(Player player) {
-        if(!validName(player.getName())) {
+    public boolean signIn(Player player) {
+        String name = player.getName();
+        if(!validName(name)) {
             // Make sure the name is valid
             return false;
-        } else if (getSignedInPlayers().contains(player.getName())) {
-            // Make sure the name isn't already in use
+        }
+        // Claim the name before anything else, so two sign ins racing for
+        // it are settled before either one touches a player
+        if (!signedInNames.add(name)) {
             return false;
-        } else if (players.containsKey(player.getName())) {
-            // If the player already exists, sign them in
-            this.getPlayer(player.getName()).signIn(player.getSessionID());
-            return true;
+        }
+        Player existing = players.putIfAbsent(name, player);
+        if (existing == null) {
+            // The player did not exist; a player without a session is only
+            // recorded, not signed in
+            if (!player.isSignedIn()) {
+                signedInNames.remove(name);
+            }
+            index(player, player.getSessionID());
         } else {
-            // The player does not exist, sign in the new player
-            players.put(player.getName(), player);
-            return true;
+            // The player already exists, sign them in
+            existing.signIn(player.getSessionID());
+            index(existing, player.getSessionID());
+        }
+        return true;
+    }
+
+    /**
+     * Add a player that has just signed in to the session index
+     */
+    private void index(Player player, String sessionID) {
+        if (sessionID != null) {
+            playersBySession.put(sessionID, player);
         }
     }
 
@@ -137,7 +185,15 @@ public class PlayerLobby {
      * @param playerName name of the player to be signed out
      */
     public void signOut(String playerName) {
-        players.get(playerName).signOut();
+        Player player = players.get(playerName);
+        String sessionID = player.getSessionID();
+        if (sessionID != null) {
+            playersBySession.remove(sessionID, player);
+        }
+        player.signOut();
+        // Release the name last, so it can't be signed in again before the
+        // old session is gone
+        signedInNames.remove(playerName);
         // We don't want the player to be removed from the list of players!!
         // players.remove(playerName);
     }
@@ -148,11 +204,8 @@ public class PlayerLobby {
      * @return player name if a player is using the given ID
      */
     public String getPlayerNameBySessionID(String sessionID) {
-        for(Player player: players.values()) {
-            if(player.isSignedIn(sessionID))
-                return player.getName();
-        }
-        return null;
+        Player player = getPlayerBySessionID(sessionID);
+        return player == null ? null : player.getName();
     }
 
     /**
@@ -162,16 +215,10 @@ public class PlayerLobby {
      * there is no player for the given session ID.
      */
     public Player getPlayerBySessionID(String sessionID) {
-        for(Player player : players.values()) {
-            if(player.isSignedIn(sessionID)) {
-                // If we've found a match, we can return now.  There should be
-                // no session ID duplicates.  If there is, either something
-                // else is broken in our code, or we just found a CVE in Spark.
-                return player;
-            }
+        if (sessionID == null) {
+            return null;
         }
-        // If we get here, then there are no players that match that session ID
-        return null;
+        return playersBySession.get(sessionID);
     }
 
     /**
@@ -188,7 +235,7 @@ public class PlayerLobby {
      * @param player player whose game is being found
      * @return game object of player, null if player is not in game
      */
-    public synchronized Game getGame(Player player) {
+    public Game getGame(Player player) {
         if (player == null) {
             return null;
         } else {
@@ -196,6 +243,23 @@ public class PlayerLobby {
         }
     }
 
+    /**
+     * Passes up the active game with a given ID
+     * @param gameID the ID of the game
+     * @return the game, or null if there is no active game with that ID
+     */
+    public Game getGameByID(int gameID) {
+        return this.gameCenter.getGameByID(gameID);
+    }
+
+    /**
+     * Passes up every active game
+     * @return a read-only view of the active games
+     */
+    public Collection<Game> getActiveGames() {
+        return this.gameCenter.getActiveGames();
+    }
+
     public void changeGame(Player player, int gameID) {
         gameCenter.changeGame(player, gameID);
     }
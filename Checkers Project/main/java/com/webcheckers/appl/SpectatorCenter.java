@@ -0,0 +1,372 @@
+package com.webcheckers.appl;
+
+import com.webcheckers.model.Game;
+import com.webcheckers.model.GameSnapshot;
+import com.webcheckers.model.Player;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+/**
+ * Keeps track of who is watching which game, and shares one
+ * {@link GameSnapshot} of each watched game between all of its watchers.
+ *
+ * <p>
+ * A watched game has a broadcast, which listens for the game's changes. A
+ * change only marks the broadcast out of date, so the players' requests do
+ * no more work however many people are watching. The first watcher to ask
+ * for the new version takes the snapshot, holding the game's lock once, and
+ * everyone after them is given the same one. Nobody waits on a broadcast:
+ * watchers either poll it or have their events pushed to them.
+ * </p>
+ *
+ * <p>
+ * Each game takes at most {@code maxWatchers} watchers. Watchers who haven't
+ * asked for anything for a while are dropped to make room, and a broadcast
+ * stops listening to its game once its last watcher has gone.
+ * </p>
+ */
+public class SpectatorCenter {
+    private static final Logger LOG = Logger.getLogger(SpectatorCenter.class.getName());
+
+    //
+    // Constants
+    //
+    /** The most people that can watch one game */
+    public static final int DEFAULT_MAX_WATCHERS = 1000;
+
+    /** How long a watcher can stay quiet before losing their place */
+    public static final long DEFAULT_IDLE_MILLIS = 60000;
+
+    //
+    // Attributes
+    //
+    private final PlayerLobby playerLobby;
+    private final int maxWatchers;
+    private final long idleMillis;
+
+    /** The broadcasts of the watched games, by game ID */
+    private final Map<Integer, Broadcast> broadcasts = new ConcurrentHashMap<>();
+
+    /** When the idle watchers of every game were last dropped */
+    private final AtomicLong lastSweep = new AtomicLong(System.currentTimeMillis());
+
+    //
+    // Constructor
+    //
+    public SpectatorCenter(final PlayerLobby playerLobby) {
+        this(playerLobby, DEFAULT_MAX_WATCHERS, DEFAULT_IDLE_MILLIS);
+    }
+
+    /**
+     * Create a SpectatorCenter
+     * @param playerLobby the lobby the games are found in
+     * @param maxWatchers the most people that can watch one game
+     * @param idleMillis how long a watcher can stay quiet before losing their
+     *      place, in milliseconds
+     */
+    public SpectatorCenter(final PlayerLobby playerLobby, int maxWatchers, long idleMillis) {
+        Objects.requireNonNull(playerLobby, "playerLobby must not be null");
+        if (maxWatchers < 1) {
+            throw new IllegalArgumentException("maxWatchers must be at least 1");
+        }
+
+        this.playerLobby = playerLobby;
+        this.maxWatchers = maxWatchers;
+        this.idleMillis = idleMillis;
+    }
+
+    //
+    // Methods
+    //
+
+    /**
+     * Start watching a game, or carry on watching it
+     * @param viewer the person watching
+     * @param gameID the ID of the game
+     * @return the game as it is now, or null if there is no such game or it
+     *      already has as many watchers as it can take
+     */
+    public GameSnapshot startWatching(Player viewer, int gameID) {
+        sweepIfDue();
+        String name = viewer.getName();
+
+        // Someone already watching can still see how a finished game ended
+        Broadcast broadcast = broadcasts.get(gameID);
+        if (broadcast != null && broadcast.touch(name)) {
+            return broadcast.getSnapshot();
+        }
+
+        Game game = playerLobby.getGameByID(gameID);
+        if (game == null) {
+            return null;
+        }
+        while (true) {
+            broadcast = broadcasts.computeIfAbsent(gameID, id -> new Broadcast(game));
+            switch (broadcast.join(name)) {
+                case ADMITTED:
+                    return broadcast.getSnapshot();
+                case FULL:
+                    LOG.fine("Game " + gameID + " has no room for " + name);
+                    return null;
+                default:
+                    // The last watcher left while we were joining; start over
+                    broadcasts.remove(gameID, broadcast);
+            }
+        }
+    }
+
+    /**
+     * Stop watching a game
+     * @param viewer the person watching
+     * @param gameID the ID of the game
+     */
+    public void stopWatching(Player viewer, int gameID) {
+        broadcasts.computeIfPresent(gameID, (id, broadcast) -> broadcast.leave(viewer.getName()) ? null : broadcast);
+    }
+
+    /**
+     * Tells whether someone is watching a game
+     * @param viewer the person
+     * @param gameID the ID of the game
+     * @return true if they are watching it
+     */
+    public boolean isWatching(Player viewer, int gameID) {
+        Broadcast broadcast = broadcasts.get(gameID);
+        return broadcast != null && broadcast.watchers.containsKey(viewer.getName());
+    }
+
+    /**
+     * Record the version of a game a watcher has been shown
+     * @param viewer the person watching
+     * @param gameID the ID of the game
+     * @param version the version they were shown
+     */
+    public void markSeen(Player viewer, int gameID, long version) {
+        Broadcast broadcast = broadcasts.get(gameID);
+        Watcher watcher = broadcast == null ? null : broadcast.watchers.get(viewer.getName());
+        if (watcher != null) {
+            watcher.seenVersion = version;
+            watcher.lastActive = System.currentTimeMillis();
+        }
+    }
+
+    /**
+     * Tells whether a game has changed since the watcher was last shown it
+     * @param viewer the person watching
+     * @param gameID the ID of the game
+     * @return true if the game has changed, or they are no longer watching
+     *      it, so their page is out of date
+     */
+    public boolean hasChanged(Player viewer, int gameID) {
+        Broadcast broadcast = broadcasts.get(gameID);
+        Watcher watcher = broadcast == null ? null : broadcast.watchers.get(viewer.getName());
+        if (watcher == null) {
+            return true;
+        }
+        watcher.lastActive = System.currentTimeMillis();
+        return watcher.seenVersion != broadcast.latestVersion;
+    }
+
+    /**
+     * Note that a watcher is still there, so they keep their place
+     * @param viewer the person watching
+     * @param gameID the ID of the game
+     * @return false if they are no longer watching it
+     */
+    public boolean keepWatching(Player viewer, int gameID) {
+        Broadcast broadcast = broadcasts.get(gameID);
+        return broadcast != null && broadcast.touch(viewer.getName());
+    }
+
+    /**
+     * Gets the snapshot of a watched game's latest version, shared by all of
+     * its watchers
+     * @param gameID the ID of the game
+     * @return the snapshot, or null if nobody is watching the game
+     */
+    public GameSnapshot getSnapshot(int gameID) {
+        Broadcast broadcast = broadcasts.get(gameID);
+        return broadcast == null ? null : broadcast.getSnapshot();
+    }
+
+    /**
+     * Gets how many people are watching a game
+     * @param gameID the ID of the game
+     * @return the number of watchers
+     */
+    public int getWatcherCount(int gameID) {
+        Broadcast broadcast = broadcasts.get(gameID);
+        return broadcast == null ? 0 : broadcast.watchers.size();
+    }
+
+    /**
+     * Gets the games someone could watch, the most watched first
+     * @param viewer the person looking for a game, whose own games are left
+     *      out
+     * @param limit the most games to list
+     * @return the games
+     */
+    public List<Game> getFeaturedGames(Player viewer, int limit) {
+        List<Game> games = new ArrayList<>();
+        for (Game game : playerLobby.getActiveGames()) {
+            if (game.isGameOver() || game.getResigningPlayer() != null
+                || viewer.equals(game.getRedPlayer()) || viewer.equals(game.getWhitePlayer())) {
+                continue;
+            }
+            games.add(game);
+        }
+        games.sort(Comparator.comparingInt((Game game) -> getWatcherCount(game.getGameID())).reversed()
+            .thenComparingInt(Game::getGameID));
+        return games.size() > limit ? new ArrayList<>(games.subList(0, limit)) : games;
+    }
+
+    /**
+     * Drop the watchers who have been quiet too long from every game, and
+     * stop the broadcasts nobody is left watching
+     */
+    public void evictIdle() {
+        long cutoff = System.currentTimeMillis() - idleMillis;
+        for (Integer gameID : broadcasts.keySet()) {
+            broadcasts.computeIfPresent(gameID, (id, broadcast) -> broadcast.evictIdle(cutoff) ? null : broadcast);
+        }
+    }
+
+    private void sweepIfDue() {
+        long last = lastSweep.get();
+        long now = System.currentTimeMillis();
+        if (now - last >= idleMillis && lastSweep.compareAndSet(last, now)) {
+            evictIdle();
+        }
+    }
+
+    private enum Admission {
+        ADMITTED, FULL, CLOSED
+    }
+
+    /**
+     * Someone watching a game
+     */
+    private static final class Watcher {
+        volatile long lastActive = System.currentTimeMillis();
+        volatile long seenVersion = -1;
+    }
+
+    /**
+     * A watched game, its watchers, and the snapshot they share
+     */
+    private final class Broadcast {
+        private final Game game;
+        private final Consumer<Game> listener = this::changed;
+        private final Map<String, Watcher> watchers = new ConcurrentHashMap<>();
+
+        /** The latest version of the game, set by its change listener */
+        private volatile long latestVersion;
+        /** The last snapshot taken, which may be older than latestVersion */
+        private volatile GameSnapshot snapshot;
+        /** Set, holding the broadcast's lock, once the last watcher has left */
+        private volatile boolean closed;
+
+        Broadcast(Game game) {
+            this.game = game;
+            // Listen before taking the first snapshot, so no change is missed
+            synchronized (game) {
+                game.addChangeListener(listener);
+                this.snapshot = GameSnapshot.of(game, null);
+                this.latestVersion = snapshot.getVersion();
+            }
+        }
+
+        /**
+         * Called by the game, holding its lock, on every change. It must not
+         * block, so it only notes the version.
+         */
+        private void changed(Game game) {
+            latestVersion = game.getVersion();
+        }
+
+        /**
+         * Get the snapshot of the latest version, taking it if nobody has yet
+         */
+        GameSnapshot getSnapshot() {
+            GameSnapshot current = snapshot;
+            if (current.getVersion() == latestVersion) {
+                return current;
+            }
+            synchronized (this) {
+                current = snapshot;
+                if (current.getVersion() != latestVersion) {
+                    current = GameSnapshot.of(game, current);
+                    snapshot = current;
+                }
+                return current;
+            }
+        }
+
+        synchronized Admission join(String name) {
+            if (closed) {
+                return Admission.CLOSED;
+            }
+            if (watchers.containsKey(name)) {
+                watchers.get(name).lastActive = System.currentTimeMillis();
+                return Admission.ADMITTED;
+            }
+            if (watchers.size() >= maxWatchers) {
+                dropIdle(System.currentTimeMillis() - idleMillis);
+                if (watchers.size() >= maxWatchers) {
+                    return Admission.FULL;
+                }
+            }
+            watchers.put(name, new Watcher());
+            return Admission.ADMITTED;
+        }
+
+        /**
+         * Note that a watcher is still there
+         * @return false if they are no longer watching
+         */
+        boolean touch(String name) {
+            Watcher watcher = watchers.get(name);
+            if (watcher == null) {
+                return false;
+            }
+            watcher.lastActive = System.currentTimeMillis();
+            return true;
+        }
+
+        /**
+         * @return true if nobody is left watching, and the broadcast closed
+         */
+        synchronized boolean leave(String name) {
+            watchers.remove(name);
+            return closeIfEmpty();
+        }
+
+        /**
+         * @return true if nobody is left watching, and the broadcast closed
+         */
+        synchronized boolean evictIdle(long cutoff) {
+            dropIdle(cutoff);
+            return closeIfEmpty();
+        }
+
+        private void dropIdle(long cutoff) {
+            watchers.values().removeIf(watcher -> watcher.lastActive <= cutoff);
+        }
+
+        private boolean closeIfEmpty() {
+            if (!closed && watchers.isEmpty()) {
+                closed = true;
+                game.removeChangeListener(listener);
+            }
+            return closed;
+        }
+    }
+}
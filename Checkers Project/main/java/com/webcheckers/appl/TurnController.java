@@ -1,8 +1,7 @@
 package com.webcheckers.appl;
 
-import com.webcheckers.model.*;
-import com.google.gson.GsonBuilder;
 import com.google.gson.Gson;
+import com.webcheckers.model.*;
 import com.webcheckers.ui.Message;
 import com.webcheckers.ui.Message.MessageType;
 import java.util.logging.Logger;
@@ -15,14 +14,36 @@ public class TurnController {
     static final String TOO_MANY_SIMPLE_MOVES_ERROR_MSG = "You may only make one simple move per turn.";
     static final String VALID_MOVE = "Valid move!";
     static final String GENERIC_MOVE_ERR = "GENERIC MOVE ERROR";
+    public static final String SUBMIT_ERROR_MSG = "Submitted turn is incomplete";
+    public static final String SUBMIT_SUCCESS_MSG = "Turn submitted";
+    static final String BACKUP_SIMPLE_MSG = "Simple move undone.";
+    static final String BACKUP_JUMP_MSG = "Jump move undone.";
+    static final String BACKUP_NONE_MSG = "No moves to undo.";
+    static final String BACKUP_UNKNOWN_MSG = "Unknown error";
+    static final String KING_MADE_MSG = "You have created a king piece, so your turn is over. Please submit!";
+
+    // The fixed answers, which the Ajax routes encode once
+    public static final Message VALID_MOVE_MESSAGE = new Message(VALID_MOVE);
+    public static final Message KING_MADE_MESSAGE = new Message(KING_MADE_MSG, MessageType.error);
+    public static final Message TOO_MANY_SIMPLE_MOVES_MESSAGE = new Message(TOO_MANY_SIMPLE_MOVES_ERROR_MSG, MessageType.error);
+    public static final Message SUBMIT_ERROR_MESSAGE = new Message(SUBMIT_ERROR_MSG, MessageType.error);
+    public static final Message SUBMIT_SUCCESS_MESSAGE = new Message(SUBMIT_SUCCESS_MSG, MessageType.info);
+    public static final Message BACKUP_SIMPLE_MESSAGE = new Message(BACKUP_SIMPLE_MSG, MessageType.info);
+    public static final Message BACKUP_JUMP_MESSAGE = new Message(BACKUP_JUMP_MSG, MessageType.info);
+    public static final Message BACKUP_NONE_MESSAGE = new Message(BACKUP_NONE_MSG, MessageType.error);
+    public static final Message BACKUP_UNKNOWN_MESSAGE = new Message(BACKUP_UNKNOWN_MSG, MessageType.error);
 
     // Private attributes
-    GsonBuilder builder;
     PlayerLobby playerLobby;
+    private final Gson gson;
 
-    public TurnController(PlayerLobby playerLobby) {
-        builder = new GsonBuilder();
+    /**
+     * @param playerLobby the lobby to find players' games in
+     * @param gson the Gson to read moves and write messages with
+     */
+    public TurnController(PlayerLobby playerLobby, Gson gson) {
         this.playerLobby = playerLobby;
+        this.gson = gson;
     }
 
     /**
@@ -31,7 +52,6 @@ public class TurnController {
      * @return a string continaing a message
      */
     public String MessageFromModeltoUI(Message message) {
-        Gson gson = this.builder.create();
         return gson.toJson(message, Message.class);
     }
 
@@ -43,15 +63,7 @@ public class TurnController {
      */
     Move MovefromUItoModel(String json) {
         LOG.fine(json);
-        Gson gson = this.builder.create();
-        Move translatedMove = gson.fromJson(json, Move.class);
-
-        // Do checking for move type in order to return correct type
-        if(SimpleMove.isSimpleMove(translatedMove)) {
-            return new SimpleMove(translatedMove.getStart(), translatedMove.getEnd());
-        } else {
-            return new JumpMove(translatedMove.getStart(), translatedMove.getEnd());
-        }
+        return gson.fromJson(json, Move.class);
     }
 
     /**
@@ -62,25 +74,41 @@ public class TurnController {
      */
     public Message handleValidation(String moveToBeValidated, String sessionID) {
         Player playerMakingMove = playerLobby.getPlayerBySessionID(sessionID);
-        Game currentGame = playerLobby.getGame(playerMakingMove);
-        Move currentMove = MovefromUItoModel(moveToBeValidated);
+        return handleValidation(playerLobby.getGame(playerMakingMove), MovefromUItoModel(moveToBeValidated));
+    }
+
+    /**
+     * Starts the validation in the model tier for a move in a game.
+     * @param currentGame the game the move is made in
+     * @param currentMove the move
+     * @return the message for the player
+     */
+    public Message handleValidation(Game currentGame, Move currentMove) {
+        // Hold the game while validating and queueing, so a move from another
+        // tab can't be queued in between
+        synchronized (currentGame) {
+            return validateAndQueue(currentGame, currentMove);
+        }
+    }
+
+    private Message validateAndQueue(Game currentGame, Move currentMove) {
         boolean movesMade = currentGame.hasMovesInCurrentTurn();
         boolean result = currentMove.validateMove(currentGame);
         // If we have made a king, the move is over
         if(currentGame.madeKing) {
-            return new Message("You have created a king piece, so your turn is over. Please submit!", MessageType.error);
+            return KING_MADE_MESSAGE;
         }
         // test if move is valid
         if(result) {
             if (movesMade) {
                 Move lastMove = currentGame.getLastMoveMade();
                 if (currentMove instanceof SimpleMove || lastMove instanceof SimpleMove) {
-                    return new Message(TOO_MANY_SIMPLE_MOVES_ERROR_MSG, MessageType.error);
+                    return TOO_MANY_SIMPLE_MOVES_MESSAGE;
                 }
             }
             currentGame.addMoveToCurrentTurn(currentMove);
             makeKingPiece(currentGame);
-            return new Message(VALID_MOVE);
+            return VALID_MOVE_MESSAGE;
         } else {
             // differentiate between different errors move types
             String msg = currentMove.getCurrentMsg();
@@ -94,35 +122,66 @@ public class TurnController {
      * @return the move that was removed
      */
     public Move backupMove(Game game) {
-        // If a piece was kinged, un-king it
-        if(game.madeKing) {
-            Position pieceLocation = game.getMove(0).getStart();
-            Piece movedPiece = game.getBoard().getSpace(pieceLocation).pieceInfo();
-            if (movedPiece.isKing()) {
-                movedPiece.pieceType = Piece.PType.single;
-                game.madeKing = false;
-            }
+        // Queued moves don't touch the board, so backing up a move that
+        // kinged a piece only has to reopen the turn
+        synchronized (game) {
+            game.madeKing = false;
+            return game.removeMove();
+        }
+    }
+
+    /**
+     * Backs up the last move of the current turn
+     * @param game game that a move will be removed from
+     * @return the message for the player, saying what was undone
+     */
+    public Message handleBackup(Game game) {
+        Move move = backupMove(game);
+        if(move == null) {
+            return BACKUP_NONE_MESSAGE;
+        }
+        if(move instanceof SimpleMove) {
+            return BACKUP_SIMPLE_MESSAGE;
+        }
+        if(move instanceof JumpMove) {
+            return BACKUP_JUMP_MESSAGE;
+        }
+        return BACKUP_UNKNOWN_MESSAGE;
+    }
+
+    /**
+     * Submits the current turn, applying its moves to the board if the turn
+     * is complete
+     * @param game the game the turn is in
+     * @return the message for the player
+     */
+    public Message submitTurn(Game game) {
+        // Check and apply the turn under the game's lock, so it can't be
+        // submitted twice or changed while it is being applied
+        synchronized (game) {
+            return applyTurn(game);
+        }
+    }
+
+    private Message applyTurn(Game game) {
+        if (game.madeKing) {
+            game.madeKing = false;
+            game.applyTurnMoves();
+            return SUBMIT_SUCCESS_MESSAGE;
+        }
+        if (game.movesLeft()) {
+            return SUBMIT_ERROR_MESSAGE;
+        } else {
+            game.applyTurnMoves();
+            return SUBMIT_SUCCESS_MESSAGE;
         }
-        return game.removeMove();
     }
 
     private void makeKingPiece(Game game) {
-        // Get the original start and final ending space
-        Position end = game.getLastMoveMade().getEnd();
-        Position start = game.getMove(0).getStart();
-
-        Piece movedPiece = game.getBoard().getSpace(start).pieceInfo();
-
-        // Don't do anything if it's already a king piece
-        if (!movedPiece.isKing()) {
-            // Red pieces turn into kings when they end on the 0 row
-            if (movedPiece.isRed() && end.getRow() == 0) {
-                movedPiece.makeKing();
-                game.madeKing = true;
-            } else if (!movedPiece.isRed() && end.getRow() == 7) {
-                movedPiece.makeKing();
-                game.madeKing = true;
-            }
+        // The piece is kinged on the board when the turn is applied, here
+        // we only end the turn
+        if (game.lastMoveMakesKing()) {
+            game.madeKing = true;
         }
     }
 }
@@ -0,0 +1,310 @@
+package com.webcheckers.model;
+
+
+import com.webcheckers.model.Piece.PColor;
+import com.webcheckers.model.Piece.PType;
+import java.util.ArrayList;
+
+/**
+ * Object that holds all of the game data for the state of the board as a 2D
+ * array of Space objects
+ */
+
+public class ArrayBoard implements Board {
+    //
+    // Attributes
+    //
+    /** used for alternating colors(space) on the board*/
+    private boolean darkSpace = true;
+
+    /** 2D Array of spaces*/
+    Space[][] boardArray;
+
+    /** Bumped on every change, see {@link #getVersion()} */
+    private int version = 0;
+
+    //
+    // Constructor
+    //
+    public ArrayBoard() {
+        boardArray = initBoard();
+
+        //go back through all of the spaces and put pieces where they belong
+        for (int i = 0; i < ROWS; i++) {
+            for (int j = 0; j < COLUMNS; j++) {
+                if (i <= 2) {
+                    if (boardArray[i][j].isBlack()) {
+                        boardArray[i][j].addPiece(new Piece(Piece.PColor.white, Piece.PType.single));
+                    }
+                } else if(i >= 5) {
+                    if (boardArray[i][j].isBlack()) {
+                        boardArray[i][j].addPiece(new Piece(Piece.PColor.red, Piece.PType.single));
+                    }
+                }
+            }
+        }
+    }
+
+    /** Constructor used for testing*/
+    public ArrayBoard(ArrayList<Position> redSpaces, ArrayList<Position> whiteSpaces) {
+        initBoard();
+        //start by creating all of the spaces on the board as empty spaces
+        for(Position space : redSpaces) {
+            boardArray[space.getRow()][space.getCell()].addPiece(new Piece(PColor.red, PType.single));
+        }
+        for(Position space : whiteSpaces) {
+            boardArray[space.getRow()][space.getCell()].addPiece(new Piece(PColor.white, PType.single));
+        }
+    }
+
+    private Space[][] initBoard() {
+        boardArray = new Space[ROWS][COLUMNS];
+        //start by creating all of the spaces on the board as empty spaces
+        for (int i = 0; i < ROWS; i++) {
+            for (int j = 0; j < COLUMNS; j++) {
+                //Even ROWS start with black space
+                if (i % 2 == 0) {
+                    if (j % 2 != 0) {
+                        boardArray[i][j] = new BoardSpace(Space.SpColor.black);
+                    } else {
+                        boardArray[i][j] = new BoardSpace(Space.SpColor.white);
+                    }
+                } else {
+                    if (j % 2 != 0) {
+                        boardArray[i][j] = new BoardSpace(Space.SpColor.white);
+                    } else {
+                        boardArray[i][j] = new BoardSpace(Space.SpColor.black);
+                    }
+                }
+            }
+        }
+        return boardArray;
+    }
+
+    //
+    // Methods
+    //
+    @Override
+    public void move(Position location1, Position location2) {
+        Space startSpace = boardArray[location1.getRow()][location1.getCell()];
+        Space endSpace = boardArray[location2.getRow()][location2.getCell()];
+        Piece beingMoved = startSpace.pieceInfo();
+            startSpace.removePiece();
+            endSpace.addPiece(beingMoved);
+    }
+
+    @Override
+    public long make(int move) {
+        Position from = Position.ofSquare(PackedMove.from(move));
+        Position to = Position.ofSquare(PackedMove.to(move));
+        Piece piece = boardArray[from.getRow()][from.getCell()].pieceInfo();
+
+        boolean capturedKing = false;
+        if (PackedMove.isJump(move)) {
+            Position captured = Position.ofSquare(PackedMove.captured(move));
+            Space capturedSpace = boardArray[captured.getRow()][captured.getCell()];
+            capturedKing = capturedSpace.pieceInfo().isKing();
+            capturedSpace.removePiece();
+        }
+
+        boolean promoted = false;
+        if (!piece.isKing() && to.getRow() == (piece.isRed() ? 0 : ROWS - 1)) {
+            piece.pieceType = PType.king;
+            promoted = true;
+        }
+        boardArray[from.getRow()][from.getCell()].removePiece();
+        boardArray[to.getRow()][to.getCell()].addPiece(piece);
+        return UndoRecord.of(move, capturedKing, promoted);
+    }
+
+    @Override
+    public void unmake(long undo) {
+        int move = UndoRecord.move(undo);
+        Position from = Position.ofSquare(PackedMove.from(move));
+        Position to = Position.ofSquare(PackedMove.to(move));
+        Piece piece = boardArray[to.getRow()][to.getCell()].pieceInfo();
+        if (UndoRecord.promoted(undo)) {
+            piece.pieceType = PType.single;
+        }
+        boardArray[to.getRow()][to.getCell()].removePiece();
+        boardArray[from.getRow()][from.getCell()].addPiece(piece);
+
+        if (PackedMove.isJump(move)) {
+            Position captured = Position.ofSquare(PackedMove.captured(move));
+            PColor color = piece.isRed() ? PColor.white : PColor.red;
+            PType type = UndoRecord.capturedKing(undo) ? PType.king : PType.single;
+            boardArray[captured.getRow()][captured.getCell()].addPiece(new Piece(color, type));
+        }
+    }
+
+    @Override
+    public void removePiece(Position position) {
+        boardArray[position.getRow()][position.getCell()].removePiece();
+    }
+
+    @Override
+    public void setPieceType(Position position, PType type) {
+        Space space = boardArray[position.getRow()][position.getCell()];
+        Piece piece = space.pieceInfo();
+        if (piece != null && piece.pieceType != type) {
+            piece.pieceType = type;
+            space.addPiece(piece);
+        }
+    }
+
+    @Override
+    public boolean spaceIsValid(Position position) {
+        Space space;
+        try {
+            space = boardArray[position.getRow()][position.getCell()];
+        } catch (IndexOutOfBoundsException e) {
+            return false;
+        }
+        return space.isValid();
+    }
+
+    @Override
+    public Space[] getRow(int rowIndex) {
+        return this.boardArray[rowIndex];
+    }
+
+    @Override
+    public Space getSpace(Position position) {
+        return this.boardArray[position.getRow()][position.getCell()];
+    }
+
+    @Override
+    public ArrayList<Position> getPieceLocations(Piece.PColor color) {
+        ArrayList<Position> pieces = new ArrayList<>();
+        for(int row = 0; row < ROWS; row++) {
+            for(int col = 0; col < COLUMNS; col++) {
+                Space currentSpace = this.boardArray[row][col];
+                if(currentSpace.doesHasPiece() && currentSpace.pieceInfo().pieceColor == color) {
+                    pieces.add(Position.of(row, col));
+                }
+            }
+        }
+        return pieces;
+    }
+
+    /**
+     * Build the mask by walking every space, since this board does not keep
+     * one. Prefer {@link BitBoard} where masks are read often.
+     */
+    @Override
+    public int getPieceMask(PColor color) {
+        int mask = 0;
+        for (Position position : getPieceLocations(color)) {
+            mask |= 1 << position.getSquare();
+        }
+        return mask;
+    }
+
+    @Override
+    public int getKingMask() {
+        int mask = 0;
+        for (int row = 0; row < ROWS; row++) {
+            for (int col = 0; col < COLUMNS; col++) {
+                Space currentSpace = this.boardArray[row][col];
+                if (currentSpace.doesHasPiece() && currentSpace.pieceInfo().isKing()) {
+                    mask |= 1 << BitBoard.squareOf(row, col);
+                }
+            }
+        }
+        return mask;
+    }
+
+    /**
+     * Every change to a space is counted, whether it is made through this
+     * board's methods or through a space it handed out.
+     */
+    @Override
+    public int getVersion() {
+        return version;
+    }
+
+    /**
+     * Hashed from scratch, since this board does not keep masks.
+     */
+    @Override
+    public long positionHash() {
+        return Zobrist.hash(getPieceMask(PColor.red), getPieceMask(PColor.white), getKingMask());
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof Board)) {
+            return false;
+        }
+        Board other = (Board) obj;
+        return getPieceMask(PColor.red) == other.getPieceMask(PColor.red)
+            && getPieceMask(PColor.white) == other.getPieceMask(PColor.white)
+            && getKingMask() == other.getKingMask();
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(positionHash());
+    }
+
+    @Override
+    public String toString() {
+        String out = "\n";
+        for (int i = 0; i < ROWS; i++) {
+            for (int j = 0; j < COLUMNS; j++) {
+                if(boardArray[i][j].doesHasPiece()) {
+                    if(boardArray[i][j].pieceInfo().pieceColor == PColor.red) {
+                        out = out + "X";
+                    } else {
+                        out = out + "O";
+                    }
+                } else {
+                    out = out + "_";
+                }
+            }
+            out = out + "\n";
+        }
+        return out;
+    }
+
+    /**
+     * A space of this board, which counts every piece added to it or taken
+     * off it as a change of the board. It hands out copies of its piece, so
+     * the piece can only be changed by putting it back.
+     */
+    private class BoardSpace extends Space {
+        BoardSpace(SpColor color) {
+            super(color);
+        }
+
+        @Override
+        public Piece pieceInfo() {
+            Piece piece = super.pieceInfo();
+            return piece == null ? null : new Piece(piece.pieceColor, piece.pieceType);
+        }
+
+        /**
+         * Put a piece on the space, replacing any piece already there
+         */
+        @Override
+        public void addPiece(Piece pieceAdd) {
+            if (pieceAdd == null || !isBlack()) {
+                return;
+            }
+            super.removePiece();
+            super.addPiece(pieceAdd);
+            version++;
+        }
+
+        @Override
+        public void removePiece() {
+            if (doesHasPiece()) {
+                super.removePiece();
+                version++;
+            }
+        }
+    }
+}
@@ -0,0 +1,445 @@
+package com.webcheckers.model;
+
+import com.webcheckers.model.Piece.PColor;
+import com.webcheckers.model.Piece.PType;
+import java.util.ArrayList;
+
+/**
+ * A board that packs the game state into three 32-bit masks, one bit per
+ * black space: the red pieces, the white pieces and the kings of either
+ * color. Only the black spaces can ever hold a piece, so the 32 of them are
+ * numbered row by row, four to a row:
+ *
+ * <pre>
+ *   row 0:  .  0  .  1  .  2  .  3
+ *   row 1:  4  .  5  .  6  .  7  .
+ *   row 2:  .  8  .  9  . 10  . 11
+ *   ...
+ *   row 7: 28  . 29  . 30  . 31  .
+ * </pre>
+ *
+ * Spaces handed out by {@link #getSpace(Position)} and {@link #getRow(int)}
+ * are views onto the masks, so adding or removing a piece through them
+ * changes this board.
+ */
+public class BitBoard implements Board {
+    //
+    // Constants
+    //
+    /** Number of black spaces on the board */
+    public static final int SQUARES = 32;
+
+    /** Black spaces held by each color at the start of a game */
+    static final int WHITE_START = 0x00000FFF;
+    static final int RED_START = 0xFFF00000;
+
+    //
+    // Attributes
+    //
+    private int red;
+    private int white;
+    private int kings;
+    private int version;
+    private long hash;
+
+    //
+    // Constructors
+    //
+    public BitBoard() {
+        this.red = RED_START;
+        this.white = WHITE_START;
+        this.kings = 0;
+        this.hash = Zobrist.hash(red, white, kings);
+    }
+
+    /**
+     * Constructor used for testing
+     * @throws IllegalArgumentException if a piece is not on a black space, or
+     *      a space has both a red and a white piece
+     */
+    public BitBoard(ArrayList<Position> redSpaces, ArrayList<Position> whiteSpaces) {
+        for (Position space : redSpaces) {
+            this.red |= darkBitOf(space);
+        }
+        for (Position space : whiteSpaces) {
+            int bit = darkBitOf(space);
+            if ((this.red & bit) != 0) {
+                throw new IllegalArgumentException("Both a red and a white piece on: " + space);
+            }
+            this.white |= bit;
+        }
+        this.hash = Zobrist.hash(red, white, kings);
+    }
+
+    //
+    // Square numbering
+    //
+
+    /**
+     * Check if a row and cell is a black space inside the board
+     * @param row the row of the space
+     * @param cell the cell of the space
+     * @return true if the space is a black space on the board
+     */
+    public static boolean isDarkSquare(int row, int cell) {
+        return row >= 0 && row < ROWS && cell >= 0 && cell < COLUMNS && ((row + cell) & 1) == 1;
+    }
+
+    /**
+     * Get the index of a black space, from 0 to 31
+     * @param row the row of the space
+     * @param cell the cell of the space
+     * @return the index of the space, or -1 if it is not a black space
+     */
+    public static int squareOf(int row, int cell) {
+        if (!isDarkSquare(row, cell)) {
+            return -1;
+        }
+        return (row << 2) | (cell >> 1);
+    }
+
+    /**
+     * Get the row of a black space
+     * @param square the index of the space
+     * @return the row of the space
+     */
+    public static int rowOf(int square) {
+        return square >> 2;
+    }
+
+    /**
+     * Get the cell of a black space
+     * @param square the index of the space
+     * @return the cell of the space
+     */
+    public static int cellOf(int square) {
+        return ((square & 3) << 1) | (~square >> 2 & 1);
+    }
+
+    private static int bitOf(Position position) {
+        int square = position.getSquare();
+        return square < 0 ? 0 : 1 << square;
+    }
+
+    private static int darkBitOf(Position position) {
+        int bit = bitOf(position);
+        if (bit == 0) {
+            throw new IllegalArgumentException("Not a black space: " + position);
+        }
+        return bit;
+    }
+
+    /**
+     * Get the Zobrist key of the piece on a black space
+     * @param bit the bit of the space
+     * @return the key of the piece there, or 0 if there is no piece
+     */
+    private long pieceKey(int bit) {
+        if (((red | white) & bit) == 0) {
+            return 0;
+        }
+        return Zobrist.key((red & bit) != 0, (kings & bit) != 0, Integer.numberOfTrailingZeros(bit));
+    }
+
+    //
+    // Methods
+    //
+    @Override
+    public void move(Position location1, Position location2) {
+        int from = bitOf(location1);
+        int to = bitOf(location2);
+        if (from == 0 || to == 0 || ((red | white) & to) != 0) {
+            return;
+        }
+        hash ^= pieceKey(from);
+        if ((red & from) != 0) {
+            red = red & ~from | to;
+        } else if ((white & from) != 0) {
+            white = white & ~from | to;
+        } else {
+            return;
+        }
+        if ((kings & from) != 0) {
+            kings = kings & ~from | to;
+        }
+        hash ^= pieceKey(to);
+        version++;
+    }
+
+    @Override
+    public long make(int move) {
+        int from = 1 << PackedMove.from(move);
+        int to = 1 << PackedMove.to(move);
+        boolean isRed = (red & from) != 0;
+        hash ^= pieceKey(from);
+
+        boolean capturedKing = false;
+        if (PackedMove.isJump(move)) {
+            int captured = 1 << PackedMove.captured(move);
+            capturedKing = (kings & captured) != 0;
+            hash ^= pieceKey(captured);
+            red &= ~captured;
+            white &= ~captured;
+            kings &= ~captured;
+        }
+
+        if (isRed) {
+            red = red & ~from | to;
+        } else {
+            white = white & ~from | to;
+        }
+        boolean promoted = false;
+        if ((kings & from) != 0) {
+            kings = kings & ~from | to;
+        } else if (rowOf(PackedMove.to(move)) == (isRed ? 0 : ROWS - 1)) {
+            kings |= to;
+            promoted = true;
+        }
+        hash ^= pieceKey(to);
+        version++;
+        return UndoRecord.of(move, capturedKing, promoted);
+    }
+
+    @Override
+    public void unmake(long undo) {
+        int move = UndoRecord.move(undo);
+        int from = 1 << PackedMove.from(move);
+        int to = 1 << PackedMove.to(move);
+        boolean isRed = (red & to) != 0;
+        hash ^= pieceKey(to);
+
+        if (UndoRecord.promoted(undo)) {
+            kings &= ~to;
+        }
+        if (isRed) {
+            red = red & ~to | from;
+        } else {
+            white = white & ~to | from;
+        }
+        if ((kings & to) != 0) {
+            kings = kings & ~to | from;
+        }
+        hash ^= pieceKey(from);
+
+        if (PackedMove.isJump(move)) {
+            int captured = 1 << PackedMove.captured(move);
+            if (isRed) {
+                white |= captured;
+            } else {
+                red |= captured;
+            }
+            if (UndoRecord.capturedKing(undo)) {
+                kings |= captured;
+            }
+            hash ^= pieceKey(captured);
+        }
+        version++;
+    }
+
+    @Override
+    public void removePiece(Position position) {
+        clear(bitOf(position));
+    }
+
+    @Override
+    public void setPieceType(Position position, PType type) {
+        int bit = bitOf(position) & (red | white);
+        hash ^= pieceKey(bit);
+        if (type == PType.king) {
+            kings |= bit;
+        } else {
+            kings &= ~bit;
+        }
+        hash ^= pieceKey(bit);
+        version++;
+    }
+
+    @Override
+    public boolean spaceIsValid(Position position) {
+        int bit = bitOf(position);
+        return bit != 0 && ((red | white) & bit) == 0;
+    }
+
+    @Override
+    public Space[] getRow(int rowIndex) {
+        Space[] row = new Space[COLUMNS];
+        for (int cell = 0; cell < COLUMNS; cell++) {
+            row[cell] = spaceAt(rowIndex, cell);
+        }
+        return row;
+    }
+
+    @Override
+    public Space getSpace(Position position) {
+        int row = position.getRow();
+        int cell = position.getCell();
+        if (row < 0 || row >= ROWS || cell < 0 || cell >= COLUMNS) {
+            throw new IndexOutOfBoundsException(position.toString());
+        }
+        return spaceAt(row, cell);
+    }
+
+    @Override
+    public ArrayList<Position> getPieceLocations(PColor color) {
+        ArrayList<Position> pieces = new ArrayList<>();
+        int mask = getPieceMask(color);
+        while (mask != 0) {
+            int square = Integer.numberOfTrailingZeros(mask);
+            pieces.add(Position.ofSquare(square));
+            mask &= mask - 1;
+        }
+        return pieces;
+    }
+
+    @Override
+    public int getPieceMask(PColor color) {
+        return color == PColor.red ? red : white;
+    }
+
+    @Override
+    public int getKingMask() {
+        return kings;
+    }
+
+    @Override
+    public int getVersion() {
+        return version;
+    }
+
+    @Override
+    public long positionHash() {
+        return hash;
+    }
+
+    private Space spaceAt(int row, int cell) {
+        int square = squareOf(row, cell);
+        if (square < 0) {
+            return new Space(Space.SpColor.white);
+        }
+        return new SquareSpace(1 << square);
+    }
+
+    private void clear(int bit) {
+        if (((red | white) & bit) == 0) {
+            // Nothing to take off, so nothing changes
+            return;
+        }
+        hash ^= pieceKey(bit);
+        red &= ~bit;
+        white &= ~bit;
+        kings &= ~bit;
+        version++;
+    }
+
+    /**
+     * Two boards are equal if they have the same pieces on the same spaces,
+     * whatever their implementation.
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj instanceof BitBoard) {
+            BitBoard other = (BitBoard) obj;
+            return hash == other.hash && red == other.red && white == other.white && kings == other.kings;
+        }
+        if (!(obj instanceof Board)) {
+            return false;
+        }
+        Board other = (Board) obj;
+        return red == other.getPieceMask(PColor.red) && white == other.getPieceMask(PColor.white)
+            && kings == other.getKingMask();
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(hash);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder out = new StringBuilder("\n");
+        for (int i = 0; i < ROWS; i++) {
+            for (int j = 0; j < COLUMNS; j++) {
+                int square = squareOf(i, j);
+                int bit = square < 0 ? 0 : 1 << square;
+                if ((red & bit) != 0) {
+                    out.append("X");
+                } else if ((white & bit) != 0) {
+                    out.append("O");
+                } else {
+                    out.append("_");
+                }
+            }
+            out.append("\n");
+        }
+        return out.toString();
+    }
+
+    /**
+     * A black space that reads and writes the masks of the enclosing board.
+     */
+    private class SquareSpace extends Space {
+        private final int bit;
+
+        SquareSpace(int bit) {
+            super(SpColor.black);
+            this.bit = bit;
+        }
+
+        @Override
+        public boolean isBlack() {
+            return true;
+        }
+
+        @Override
+        public boolean doesHasPiece() {
+            return ((red | white) & bit) != 0;
+        }
+
+        @Override
+        public boolean isValid() {
+            return !doesHasPiece();
+        }
+
+        @Override
+        public Piece pieceInfo() {
+            if (!doesHasPiece()) {
+                return null;
+            }
+            PColor color = (red & bit) != 0 ? PColor.red : PColor.white;
+            PType type = (kings & bit) != 0 ? PType.king : PType.single;
+            return new Piece(color, type);
+        }
+
+        /**
+         * Put a piece on the space. A piece already there is taken off
+         * first, so its bits and its key leave the board.
+         */
+        @Override
+        public void addPiece(Piece pieceAdd) {
+            if (pieceAdd == null) {
+                return;
+            }
+            if (doesHasPiece()) {
+                clear(bit);
+            }
+            if (pieceAdd.isRed()) {
+                red |= bit;
+            } else {
+                white |= bit;
+            }
+            if (pieceAdd.isKing()) {
+                kings |= bit;
+            }
+            hash ^= pieceKey(bit);
+            version++;
+        }
+
+        @Override
+        public void removePiece() {
+            clear(bit);
+        }
+    }
+}
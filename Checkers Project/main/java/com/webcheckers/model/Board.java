@@ -1,85 +1,23 @@
 package com.webcheckers.model;
 
-
-import com.webcheckers.model.Piece.PColor;
-import com.webcheckers.model.Piece.PType;
 import java.util.ArrayList;
 
 /**
- * Object that holds all of the game data for the state of the board
+ * The model-tier abstraction of a checkers board. Everything that reads or
+ * changes piece placement (Game, the Move subclasses and the UI tier's
+ * BoardView) goes through this interface, so the storage behind it can be
+ * swapped without touching the rules.
+ *
+ * @see BitBoard
+ * @see ArrayBoard
  */
-
-public class Board {
+public interface Board {
     //
-    // Attributes
+    // Constants
     //
     /** Number of ROWS and COLUMNS*/
-    public static final int ROWS = 8;
-    public static final int COLUMNS = 8;
-
-    /** used for alternating colors(space) on the board*/
-    private boolean darkSpace = true;
-
-    /** 2D Array of spaces*/
-    Space[][] boardArray;
-
-    //
-    // Constructor
-    //
-    public Board() {
-        boardArray = initBoard();
-
-        //go back through all of the spaces and put pieces where they belong
-        for (int i = 0; i < ROWS; i++) {
-            for (int j = 0; j < COLUMNS; j++) {
-                if (i <= 2) {
-                    if (boardArray[i][j].isBlack()) {
-                        boardArray[i][j].addPiece(new Piece(Piece.PColor.white, Piece.PType.single));
-                    }
-                } else if(i >= 5) {
-                    if (boardArray[i][j].isBlack()) {
-                        boardArray[i][j].addPiece(new Piece(Piece.PColor.red, Piece.PType.single));
-                    }
-                }
-            }
-        }
-    }
-
-    /** Constructor used for testing*/
-    public Board(ArrayList<Position> redSpaces, ArrayList<Position> whiteSpaces) {
-        initBoard();
-        //start by creating all of the spaces on the board as empty spaces
-        for(Position space : redSpaces) {
-            boardArray[space.getRow()][space.getCell()].addPiece(new Piece(PColor.red, PType.single));
-        }
-        for(Position space : whiteSpaces) {
-            boardArray[space.getRow()][space.getCell()].addPiece(new Piece(PColor.white, PType.single));
-        }
-    }
-
-    private Space[][] initBoard() {
-        boardArray = new Space[ROWS][COLUMNS];
-        //start by creating all of the spaces on the board as empty spaces
-        for (int i = 0; i < ROWS; i++) {
-            for (int j = 0; j < COLUMNS; j++) {
-                //Even ROWS start with black space
-                if (i % 2 == 0) {
-                    if (j % 2 != 0) {
-                        boardArray[i][j] = new Space(Space.SpColor.black);
-                    } else {
-                        boardArray[i][j] = new Space(Space.SpColor.white);
-                    }
-                } else {
-                    if (j % 2 != 0) {
-                        boardArray[i][j] = new Space(Space.SpColor.white);
-                    } else {
-                        boardArray[i][j] = new Space(Space.SpColor.black);
-                    }
-                }
-            }
-        }
-        return boardArray;
-    }
+    int ROWS = 8;
+    int COLUMNS = 8;
 
     //
     // Methods
@@ -91,41 +29,62 @@ public class Board {
      * @param location1 location the piece starts in
      * @param location2 the desired location of the piece
      */
-    public void move(Position location1, Position location2) {
-        Space startSpace = boardArray[location1.getRow()][location1.getCell()];
-        Space endSpace = boardArray[location2.getRow()][location2.getCell()];
-        Piece beingMoved = startSpace.pieceInfo();
-            startSpace.removePiece();
-            endSpace.addPiece(beingMoved);
-    }
+    void move(Position location1, Position location2);
+
+    /**
+     * Make one step of a turn in place, capturing the jumped piece and
+     * kinging the moving piece if it lands on the far row. The move is
+     * assumed to be legal, e.g. one generated by {@link MoveGenerator}.
+     *
+     * @param move the {@link PackedMove packed} step to make
+     * @return an {@link UndoRecord undo record} for {@link #unmake(long)}
+     */
+    long make(int move);
+
+    /**
+     * Take back a step made with {@link #make(int)}, putting back any
+     * captured piece and un-kinging a piece kinged by the step. Steps have to
+     * be taken back in the reverse of the order they were made.
+     *
+     * @param undo the undo record returned when the step was made
+     */
+    void unmake(long undo);
+
+    /**
+     * Remove the piece at a position, if there is one
+     * @param position the position to clear
+     */
+    void removePiece(Position position);
 
-    public boolean spaceIsValid(Position position) {
-        Space space;
-        try {
-            space = boardArray[position.getRow()][position.getCell()];
-        } catch (IndexOutOfBoundsException e) {
-            return false;
-        }
-        return space.isValid();
-    }
+    /**
+     * Change the type of the piece at a position, e.g. when it is kinged or
+     * when a kinging is backed up
+     * @param position the position of the piece
+     * @param type the new type of the piece
+     */
+    void setPieceType(Position position, Piece.PType type);
+
+    /**
+     * Check if a piece can be placed at a position
+     * @param position the position to check
+     * @return true if the position is a black space on the board with no
+     *      piece on it
+     */
+    boolean spaceIsValid(Position position);
 
     /**
      * Return a row of spaces at the specified index
      * @param rowIndex the index of the row to return
      * @return a row of spaces
      */
-    public Space[] getRow(int rowIndex) {
-        return this.boardArray[rowIndex];
-    }
+    Space[] getRow(int rowIndex);
 
     /**
      * Helper method to return a space at a specific location
-     * @param position
-     * @return
+     * @param position the location of the space
+     * @return the space at that location
      */
-    public Space getSpace(Position position) {
-        return this.boardArray[position.getRow()][position.getCell()];
-    }
+    Space getSpace(Position position);
 
     /**
      * Helper method that locates all the pieces on the board of a certain
@@ -135,36 +94,43 @@ public class Board {
      * @return a list of the positions that pieces of the specified color can
      *      be found
      */
-    public ArrayList<Position> getPieceLocations(Piece.PColor color) {
-        ArrayList<Position> pieces = new ArrayList<>();
-        for(int row = 0; row < ROWS; row++) {
-            for(int col = 0; col < COLUMNS; col++) {
-                Space currentSpace = this.boardArray[row][col];
-                if(currentSpace.doesHasPiece() && currentSpace.pieceInfo().pieceColor == color) {
-                    pieces.add(new Position(row, col));
-                }
-            }
-        }
-        return pieces;
-    }
+    ArrayList<Position> getPieceLocations(Piece.PColor color);
 
-    @Override
-    public String toString() {
-        String out = "\n";
-        for (int i = 0; i < ROWS; i++) {
-            for (int j = 0; j < COLUMNS; j++) {
-                if(boardArray[i][j].doesHasPiece()) {
-                    if(boardArray[i][j].pieceInfo().pieceColor == PColor.red) {
-                        out = out + "X";
-                    } else {
-                        out = out + "O";
-                    }
-                } else {
-                    out = out + "_";
-                }
-            }
-            out = out + "\n";
-        }
-        return out;
-    }
+    /**
+     * Get the pieces of one color as a mask over the 32 black spaces, where
+     * bit {@link BitBoard#squareOf(int, int)} is set when that space holds a
+     * piece of the color.
+     *
+     * @param color the piece color to search for
+     * @return the bit mask of that color's pieces
+     */
+    int getPieceMask(Piece.PColor color);
+
+    /**
+     * Get the kinged pieces of both colors as a mask over the 32 black
+     * spaces.
+     *
+     * @return the bit mask of king pieces
+     */
+    int getKingMask();
+
+    /**
+     * Get a counter that changes every time a piece is added, moved, removed
+     * or has its type changed, so anything worked out from the board can be
+     * reused for as long as the version stays the same.
+     *
+     * @return the version of the board
+     */
+    int getVersion();
+
+    /**
+     * Get the 64-bit Zobrist hash of the pieces on this board. Boards with
+     * the same pieces on the same spaces have the same hash, whatever their
+     * implementation, so it can key caches of anything worked out from a
+     * position. Implementations also base {@code equals} and
+     * {@code hashCode} on piece placement.
+     *
+     * @return the hash of the position
+     */
+    long positionHash();
 }
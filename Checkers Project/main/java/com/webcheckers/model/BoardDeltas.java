@@ -0,0 +1,92 @@
+package com.webcheckers.model;
+
+/**
+ * The recent changes to a game's board, one for every version of the game,
+ * kept in a ring so the oldest are overwritten. Each change is the mask of
+ * black spaces whose piece changed, in the square numbering of
+ * {@link BitBoard}; a version that didn't touch the board has an empty mask.
+ *
+ * <p>
+ * A viewer that has seen a recent version can be sent just the spaces that
+ * changed since, rather than the whole board. Not thread-safe; the game
+ * calls it holding its own lock.
+ * </p>
+ */
+public class BoardDeltas {
+    //
+    // Constants
+    //
+    /** Number of versions whose changes are kept */
+    public static final int CAPACITY = 64;
+
+    /** Returned when the changes since a version are no longer all kept */
+    public static final int UNKNOWN = -1;
+
+    //
+    // Attributes
+    //
+    private final int[] changes = new int[CAPACITY];
+    private long firstVersion;
+    private long lastVersion;
+    private int red;
+    private int white;
+    private int kings;
+
+    //
+    // Constructor
+    //
+
+    /**
+     * Start keeping the changes to a board
+     * @param board the board as it is at the version
+     * @param version the version of the game now
+     */
+    public BoardDeltas(Board board, long version) {
+        this.firstVersion = version;
+        this.lastVersion = version;
+        read(board);
+    }
+
+    //
+    // Methods
+    //
+
+    /**
+     * Record the change that made a new version of the game
+     * @param board the board as it is at the new version
+     * @param version the new version, one more than the last one recorded
+     */
+    public void record(Board board, long version) {
+        int oldRed = red;
+        int oldWhite = white;
+        int oldKings = kings;
+        read(board);
+        changes[(int) (version % CAPACITY)] = (red ^ oldRed) | (white ^ oldWhite) | (kings ^ oldKings);
+        lastVersion = version;
+        // The ring holds the changes into the last CAPACITY versions
+        firstVersion = Math.max(firstVersion, version - CAPACITY);
+    }
+
+    /**
+     * Get the black spaces that changed after a version
+     * @param version the version the viewer has seen
+     * @return the mask of the changed spaces, or {@link #UNKNOWN} if the
+     *      version is too old, or isn't one of this game's
+     */
+    public int changedSince(long version) {
+        if (version < firstVersion || version > lastVersion) {
+            return UNKNOWN;
+        }
+        int changed = 0;
+        for (long next = version + 1; next <= lastVersion; next++) {
+            changed |= changes[(int) (next % CAPACITY)];
+        }
+        return changed;
+    }
+
+    private void read(Board board) {
+        this.red = board.getPieceMask(Piece.PColor.red);
+        this.white = board.getPieceMask(Piece.PColor.white);
+        this.kings = board.getKingMask();
+    }
+}
@@ -4,10 +4,21 @@ import com.webcheckers.ui.BoardView;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
 /**
  * Object that holds all of the data for a specific game
+ *
+ * <p>
+ * Each game is its own lock: the methods that read or change the turn in
+ * progress synchronize on the game, so requests for different games never
+ * wait on each other. Callers that need several calls to happen together,
+ * such as validating a move and then queueing it, synchronize on the game
+ * around them.
+ * </p>
  */
 
 public class Game {
@@ -24,11 +35,28 @@ public class Game {
     Player signedoutPlayer;
 
     Board board;
-    Turn turn;
+    volatile Turn turn;
     Player asyncRequester;
-    ArrayList<Move> queuedTurnMoves;
-    public State state;
-    public boolean madeKing;
+    MoveList queuedTurnMoves;
+    public volatile State state;
+    public volatile boolean madeKing;
+
+    /**
+     * Counts the changes the players have to be told about: applied turns,
+     * resignations and state changes. Moves queued during a turn don't count.
+     */
+    private volatile long version;
+
+    /** The board's changes between recent versions */
+    private final BoardDeltas deltas;
+
+    /** Told about every change that bumps the version, holding the game's lock */
+    private final List<Consumer<Game>> changeListeners = new CopyOnWriteArrayList<>();
+
+    /** Legal moves for the turn and board version they were generated for */
+    private LegalMoves legalMoves;
+    private Turn legalMovesTurn;
+    private int legalMovesVersion;
 
     public enum Turn {
         WHITE, RED;
@@ -61,11 +89,12 @@ public class Game {
         this.whitePlayer = whitePlayer;
         this.resignedPlayer = null;
         this.turn = Turn.RED;
-        this.board = new Board();
-        this.queuedTurnMoves = new ArrayList<>();
+        this.board = new BitBoard();
+        this.queuedTurnMoves = new MoveList();
         this.state = State.ACTIVE;
         this.madeKing = false;
         this.asyncRequester = null;
+        this.deltas = new BoardDeltas(this.board, this.version);
     }
 
     // used for custom configuration
@@ -77,10 +106,11 @@ public class Game {
         this.resignedPlayer = null;
         this.turn = turn;
         this.board = board;
-        this.queuedTurnMoves = new ArrayList<>();
+        this.queuedTurnMoves = new MoveList();
         this.state = State.ACTIVE;
         this.asyncRequester = null;
         this.madeKing = false;
+        this.deltas = new BoardDeltas(this.board, this.version);
     }
 
     //
@@ -122,12 +152,14 @@ public class Game {
         return this.state;
     }
 
-    public void setStateEnded() {
+    public synchronized void setStateEnded() {
         this.state = State.ENDED;
+        changed();
     }
 
-    public void setStateActive() {
+    public synchronized void setStateActive() {
         this.state = State.ACTIVE;
+        changed();
     }
 
     public int getGameID() {
@@ -173,8 +205,9 @@ public class Game {
      * This method sets a signed out player
      * @pram the player that is to be signed out
      */
-    public  void setSignedoutPlayer(Player soPlayer){
+    public synchronized void setSignedoutPlayer(Player soPlayer){
         signedoutPlayer = soPlayer;
+        changed();
     }
 
     /**
@@ -191,9 +224,10 @@ public class Game {
      * as null. This should be used by game center to let a player leave a game
      * @param leavingPlayer the player object of the leaving player
      */
-    public void leaveFromGame(Player leavingPlayer) {
+    public synchronized void leaveFromGame(Player leavingPlayer) {
         resignedPlayer = leavingPlayer;
         winningPlayer = getOpponentOf(leavingPlayer);
+        changed();
     }
 
     /**
@@ -208,41 +242,50 @@ public class Game {
      * Returns the number of moves in the current turn
      * @return true if there have been moves already made
      */
-    public boolean hasMovesInCurrentTurn() {
-        return queuedTurnMoves.size() >= 1;
+    public synchronized boolean hasMovesInCurrentTurn() {
+        return !queuedTurnMoves.isEmpty();
     }
 
-    public Move getLastMoveMade() {
+    public synchronized Move getLastMoveMade() {
         return getMove(queuedTurnMoves.size() - 1);
     }
 
-    public void addMoveToCurrentTurn(Move newest) {
-        queuedTurnMoves.add(newest);
+    public synchronized void addMoveToCurrentTurn(Move newest) {
+        addMove(newest);
         LOG.fine(String.format("Move added to current turn: %d", queuedTurnMoves.size()));
     }
 
-    public Move getMove(int index) {
+    public synchronized Move getMove(int index) {
         if(hasMovesInCurrentTurn()) {
-            return queuedTurnMoves.get(index);
+            return PackedMove.toMove(queuedTurnMoves.get(index));
         }
         return null;
     }
 
 
-        /**
-         * Gets the board state of this Game
-         * @return board object of this Game
-         */
+    /**
+     * Gets the board state of this Game. The board is the live one, not a
+     * copy, so it must only be used while holding the game's lock.
+     * @return board object of this Game
+     */
     public Board getBoard() {
         return this.board;
     }
 
+    /**
+     * Gets the Zobrist hash of the pieces on the board
+     * @return the hash of the position
+     */
+    public synchronized long getPositionHash() {
+        return this.board.positionHash();
+    }
+
     /**
      * Passes up the BoardView of the current Game
      * @param opposite if true, render white pieces at the bottom of the board
      * @return BoardView object
      */
-    public BoardView getBoardView(boolean opposite) {
+    public synchronized BoardView getBoardView(boolean opposite) {
         return new BoardView(this.board, opposite);
     }
 
@@ -254,7 +297,31 @@ public class Game {
         return this.turn;
     }
 
-    public void switchTurn() {
+    /**
+     * Gets the color of the pieces that move this turn
+     * @return the piece color of the player whose turn it is
+     */
+    public Piece.PColor getTurnColor() {
+        return this.turn == Turn.WHITE ? Piece.PColor.white : Piece.PColor.red;
+    }
+
+    /**
+     * Gets the legal moves for the player whose turn it is, from the board as
+     * it was at the start of the turn. They are only generated again once the
+     * turn changes or the board does, so polling an unchanged game is cheap.
+     * @return the legal moves for this turn
+     */
+    public synchronized LegalMoves getLegalMoves() {
+        int version = this.board.getVersion();
+        if (this.legalMoves == null || this.legalMovesTurn != this.turn || this.legalMovesVersion != version) {
+            this.legalMoves = MoveGenerator.generate(this.board, getTurnColor());
+            this.legalMovesTurn = this.turn;
+            this.legalMovesVersion = version;
+        }
+        return this.legalMoves;
+    }
+
+    public synchronized void switchTurn() {
         switch(this.turn){
             case RED:
                 this.turn = Turn.WHITE;
@@ -267,64 +334,156 @@ public class Game {
     }
 
     /**
-     * Applies the current players moves to the board, changes the turn to the other player
+     * Applies the current players moves to the board, changes the turn to the
+     * other player and decides whether that won the game
      */
-    public void applyTurnMoves() {
-        for (Move move : queuedTurnMoves) {
-            move.executeMove(this);
+    public synchronized void applyTurnMoves() {
+        // The moves were validated as they were queued
+        for (int i = 0; i < queuedTurnMoves.size(); i++) {
+            board.make(queuedTurnMoves.get(i));
         }
         switchTurn();
         queuedTurnMoves.clear();
+        // Only a turn can win the game, so the winner is decided here, as
+        // part of the same change, and reading the game never changes it
+        calculateWinningPlayer();
+        changed();
+    }
+
+    /**
+     * Gets the version of the game, which goes up every time a turn is
+     * applied, a player leaves or signs out or the game's state changes
+     * @return the game's version
+     */
+    public long getVersion() {
+        return this.version;
+    }
+
+    /**
+     * Gets the black spaces whose piece changed after a version of the game
+     * @param seenVersion the version the caller last saw
+     * @return the mask of the changed spaces, numbered as in {@link BitBoard},
+     * or {@link BoardDeltas#UNKNOWN} if the version is too old to tell
+     */
+    public synchronized int getChangedSquares(long seenVersion) {
+        return deltas.changedSince(seenVersion);
+    }
+
+    /**
+     * Records a change the players have to be told about and tells the
+     * listeners. Called holding the game's lock.
+     */
+    private void changed() {
+        this.version++;
+        deltas.record(this.board, this.version);
+        for (Consumer<Game> listener : changeListeners) {
+            try {
+                listener.accept(this);
+            } catch (RuntimeException e) {
+                // One broken listener must not stop the game or the others
+                LOG.warning("Game change listener failed: " + e);
+            }
+        }
+    }
+
+    /**
+     * Adds a listener that is called after every change the players have to
+     * be told about. It is called holding the game's lock, so it must not
+     * block.
+     * @param listener the listener, given the game
+     */
+    public void addChangeListener(Consumer<Game> listener) {
+        changeListeners.add(listener);
+    }
+
+    public void removeChangeListener(Consumer<Game> listener) {
+        changeListeners.remove(listener);
+    }
+
+    /**
+     * Make one step of a turn on the board in place, for looking ahead
+     * without copying the game. The turn passes to the other player after a
+     * step with the {@link PackedMove#LAST} flag, as generated by
+     * {@link MoveGenerator}.
+     * <p>
+     * This changes the live board and turn without telling the players, so
+     * it must not be used on a game that is being served. Look ahead on a
+     * game of your own instead.
+     * </p>
+     * @param move the packed step to make
+     * @return the undo record to pass to {@link #unmake(long)}
+     */
+    synchronized long make(int move) {
+        long undo = this.board.make(move);
+        if (PackedMove.isLast(move)) {
+            switchTurn();
+        }
+        return undo;
+    }
+
+    /**
+     * Take back a step made with {@link #make(int)}. Like it, this must not
+     * be used on a game that is being served.
+     * @param undo the undo record returned by {@link #make(int)}
+     */
+    synchronized void unmake(long undo) {
+        if (PackedMove.isLast(UndoRecord.move(undo))) {
+            switchTurn();
+        }
+        this.board.unmake(undo);
+    }
+
+    /**
+     * Checks if the moves made so far this turn take a single piece to the
+     * far row, which kings it and ends the turn. The piece is kinged on the
+     * board when the turn is applied.
+     * @return true if the last move made kings the moving piece
+     */
+    public synchronized boolean lastMoveMakesKing() {
+        if (queuedTurnMoves.isEmpty()) {
+            return false;
+        }
+        Piece piece = board.getSpace(Position.ofSquare(PackedMove.from(queuedTurnMoves.get(0)))).pieceInfo();
+        if (piece == null || piece.isKing()) {
+            return false;
+        }
+        int row = BitBoard.rowOf(PackedMove.to(queuedTurnMoves.last()));
+        return row == (piece.isRed() ? 0 : Board.ROWS - 1);
     }
 
     /**
      * Checks if there are moves left to be made in this turn
      * @return true if there are moves left to be made in this turn
      */
-    public boolean movesLeft() {
-        //if there is a move left, the most recent move's end position is the next move's start position
+    public synchronized boolean movesLeft() {
+        //if there is a move left, the moves so far are the start of a longer jump path
         if(queuedTurnMoves.size() > 0) {
-            Move firstMove = queuedTurnMoves.get(0);
-            Move lastMove = queuedTurnMoves.get(queuedTurnMoves.size() - 1);
             // if a simple move is made it can be on only move
-            if(lastMove instanceof SimpleMove) return false;
-            Position newStart = lastMove.getEnd();
-
-            // This is where the actual piece object is located
-            Position originalStart = firstMove.getStart();
-            return JumpMove.positionHasJumpMoveAvailable(newStart, originalStart, this);
+            if(!PackedMove.isJump(queuedTurnMoves.last())) return false;
+            return getLegalMoves().canContinue(queuedTurnMoves);
         }
         return false;
     }
 
-    public boolean playerHasLost(Piece.PColor color) {
+    public synchronized boolean playerHasLost(Piece.PColor color) {
         // Check if the player has pieces remaining
-        ArrayList<Position> remainingPieces = board.getPieceLocations(color);
-        if (remainingPieces.size() == 0) {
+        if (board.getPieceMask(color) == 0) {
             return true;
         }
 
         // Check if the player has moves remaining if it's their turn
-        Piece.PColor turnColor = Piece.PColor.red;
-        if (this.turn == Turn.WHITE) {
-            turnColor = Piece.PColor.white;
-        }
-        if (turnColor == color) {
-            for (Position current : remainingPieces) {
-                if (JumpMove.positionHasJumpMoveAvailable(current, current, this) || SimpleMove.positionHasSimpleMoveAvailable(current, this)) {
-                    return false;
-                }
-            }
-            return true;
+        if (getTurnColor() == color) {
+            return getLegalMoves().isEmpty();
         } else {
             return false;
         }
     }
 
     /**
-     * This function sets and then returns the winning player of the game
+     * This function sets the winning player of the game, if the player whose
+     * turn it is has lost. Called holding the game's lock.
      */
-    public void calculateWinningPlayer() {
+    private void calculateWinningPlayer() {
         if (this.state == State.ACTIVE) {
             if (playerHasLost(Piece.PColor.white)) {
                 this.winningPlayer = redPlayer;
@@ -338,8 +497,13 @@ public class Game {
      * Adds a move to the queue for the current turn
      * @param move move to be added
      */
-    public void addMove(Move move) {
-        queuedTurnMoves.add(move);
+    public synchronized void addMove(Move move) {
+        int packed = PackedMove.of(move);
+        if (packed == PackedMove.NONE) {
+            LOG.warning("Ignoring move that is not between black spaces: " + move);
+            return;
+        }
+        queuedTurnMoves.add(packed);
     }
 
     /**
@@ -349,7 +513,7 @@ public class Game {
      * @return the color of the piece on the specified space, or null if there
      *      is no piece there
      */
-    public Piece.PColor getPieceColor(Position position) {
+    public synchronized Piece.PColor getPieceColor(Position position) {
         Space space = this.board.getSpace(position);
         if (space.doesHasPiece()) {
             return space.pieceInfo().pieceColor;
@@ -363,20 +527,17 @@ public class Game {
      *
      * @return true if a simple move has been made, false otherwise
      */
-    public boolean hasSimpleMove() {
-        return queuedTurnMoves.size() > 0 && queuedTurnMoves.get(0) instanceof SimpleMove;
+    public synchronized boolean hasSimpleMove() {
+        return queuedTurnMoves.size() > 0 && !PackedMove.isJump(queuedTurnMoves.get(0));
     }
 
     /**
      * Removes the last move from the current turn queue
      * @return the removed move
      */
-    public Move removeMove() {
-        int size = queuedTurnMoves.size();
-        if(size > 0) {
-            Move move = queuedTurnMoves.get(size - 1);
-            queuedTurnMoves.remove(size - 1);
-            return move;
+    public synchronized Move removeMove() {
+        if(queuedTurnMoves.size() > 0) {
+            return PackedMove.toMove(queuedTurnMoves.removeLast());
         }
         return null;
     }
@@ -394,7 +555,7 @@ public class Game {
         ArrayList<Position> redPieces = new ArrayList<>(
             Arrays.asList(new Position(2, 1), new Position(6, 1)));
         ArrayList<Position> whitePieces = new ArrayList<>(Arrays.asList(new Position(1, 2), new Position(5, 0)));
-        return new Game(redPlayer, whitePlayer, Turn.RED, new Board(redPieces, whitePieces), gameID);
+        return new Game(redPlayer, whitePlayer, Turn.RED, new BitBoard(redPieces, whitePieces), gameID);
     }
 
     public static Game testDoubleJump(Player redPlayer, Player whitePlayer, int gameID) {
@@ -408,7 +569,7 @@ public class Game {
             new Position(6, 1),
             new Position(4, 1)
         ));
-        return new Game(redPlayer, whitePlayer, Turn.RED, new Board(redPieces, whitePieces), gameID);
+        return new Game(redPlayer, whitePlayer, Turn.RED, new BitBoard(redPieces, whitePieces), gameID);
     }
 
     public static Game testDoubleJumpKing(Player redPlayer, Player whitePlayer, int gameID) {
@@ -420,7 +581,7 @@ public class Game {
             new Position(1, 4),
             new Position(0,7)
         ));
-        return new Game(redPlayer, whitePlayer, Turn.RED, new Board(redPieces, whitePieces), gameID);
+        return new Game(redPlayer, whitePlayer, Turn.RED, new BitBoard(redPieces, whitePieces), gameID);
     }
 
     public static Game testNoMoves(Player redPlayer, Player whitePlayer, int gameID) {
@@ -433,7 +594,7 @@ public class Game {
             new Position(0, 5),
         new Position(0, 7)
         ));
-        return new Game(redPlayer, whitePlayer, Turn.RED, new Board(redPieces, whitePieces), gameID);
+        return new Game(redPlayer, whitePlayer, Turn.RED, new BitBoard(redPieces, whitePieces), gameID);
     }
 
     public static Game testKingMidTurn(Player redPlayer, Player whitePlayer, int gameID) {
@@ -444,7 +605,7 @@ public class Game {
             new Position(1, 4),
             new Position(1, 2)
         ));
-        return new Game(redPlayer, whitePlayer, Turn.RED, new Board(redPieces, whitePieces), gameID);
+        return new Game(redPlayer, whitePlayer, Turn.RED, new BitBoard(redPieces, whitePieces), gameID);
     }
 
     public static Game testCaptureToEnd(Player redPlayer, Player whitePlayer, int gameID) {
@@ -454,7 +615,7 @@ public class Game {
         ArrayList<Position> whitePieces = new ArrayList<>(Arrays.asList(
             new Position(1, 2)
         ));
-        return new Game(redPlayer, whitePlayer, Turn.RED, new Board(redPieces, whitePieces), gameID);
+        return new Game(redPlayer, whitePlayer, Turn.RED, new BitBoard(redPieces, whitePieces), gameID);
     }
 
     public static Game testInvalidMoves(Player redPlayer, Player whitePlayer, int gameID) {
@@ -469,7 +630,7 @@ public class Game {
             new Position(2, 3),
             new Position(3, 6)
         ));
-        return new Game(redPlayer, whitePlayer, Turn.RED, new Board(redPieces, whitePieces), gameID);
+        return new Game(redPlayer, whitePlayer, Turn.RED, new BitBoard(redPieces, whitePieces), gameID);
     }
 
 
@@ -478,11 +639,12 @@ public class Game {
      *
      * @param player The player requesting asynchronous mode
      */
-    public void requestAsync(Player player) {
+    public synchronized void requestAsync(Player player) {
         switch(this.state) {
             case ACTIVE:
                 this.state = State.ASYNC_START;
                 this.asyncRequester = player;
+                changed();
                 break;
         }
     }
@@ -490,10 +652,11 @@ public class Game {
     /**
      * Accept the request to transition to asynchronous mode.
      */
-    public void acceptAsync() {
+    public synchronized void acceptAsync() {
         switch(this.state) {
             case ASYNC_START:
                 this.state = State.ASYNC_ACCEPTED;
+                changed();
                 break;
         }
     }
@@ -501,10 +664,11 @@ public class Game {
     /**
      * Reject the request to transition to asynchronous mode.
      */
-    public void rejectAsync() {
+    public synchronized void rejectAsync() {
        switch(this.state) {
            case ASYNC_START:
                this.state = State.ASYNC_DENIED;
+               changed();
                break;
        }
     }
@@ -513,15 +677,17 @@ public class Game {
      * Complete the asynchronous request after displaying the results message
      * to the player.
      */
-    public void asyncRequestCompleted() {
+    public synchronized void asyncRequestCompleted() {
         switch(this.state) {
             case ASYNC_ACCEPTED:
                 this.state = State.ASYNC_ACTIVE;
                 this.asyncRequester = null;
+                changed();
                 break;
             case ASYNC_DENIED:
                 this.state = State.ACTIVE;
                 this.asyncRequester = null;
+                changed();
                 break;
         }
     }
@@ -547,7 +713,13 @@ public class Game {
         }
     }
 
-    public ArrayList<Move> getQueuedTurnMoves() {
+    /**
+     * Gets the moves made so far this turn, packed. The list is the live one,
+     * so this is kept inside the model, for validating moves while holding
+     * the game's lock.
+     * @return the queued moves
+     */
+    MoveList getQueuedTurnMoves() {
         return this.queuedTurnMoves;
     }
 }
@@ -0,0 +1,171 @@
+package com.webcheckers.model;
+
+/**
+ * An immutable copy of what a spectator sees of a game at one version: the
+ * players, whose turn it is, the game's state, the winner and where the
+ * pieces are. Snapshots are taken holding the game's lock, so one describes
+ * a single version, and can then be read by any number of threads without
+ * going back to the game.
+ */
+public final class GameSnapshot {
+    //
+    // Attributes
+    //
+    private final int gameID;
+    private final long version;
+    private final Game.Turn turn;
+    private final Game.State state;
+    private final String redPlayerName;
+    private final String whitePlayerName;
+    private final String winnerName;
+    private final String resignedPlayerName;
+    private final String signedOutPlayerName;
+    private final int redPieces;
+    private final int whitePieces;
+    private final int kings;
+    private final long positionHash;
+    private final long previousVersion;
+    private final int changedSincePrevious;
+
+    private GameSnapshot(Game game, GameSnapshot previous) {
+        this.gameID = game.getGameID();
+        this.version = game.getVersion();
+        this.turn = game.getTurn();
+        this.state = game.getState();
+        this.redPlayerName = nameOf(game.getRedPlayer());
+        this.whitePlayerName = nameOf(game.getWhitePlayer());
+        this.winnerName = game.getWinningPlayerName();
+        this.resignedPlayerName = nameOf(game.getResigningPlayer());
+        this.signedOutPlayerName = nameOf(game.getSignedoutPlayer());
+
+        Board board = game.getBoard();
+        this.redPieces = board.getPieceMask(Piece.PColor.red);
+        this.whitePieces = board.getPieceMask(Piece.PColor.white);
+        this.kings = board.getKingMask();
+        this.positionHash = board.positionHash();
+
+        if (previous == null) {
+            this.previousVersion = BoardDeltas.UNKNOWN;
+            this.changedSincePrevious = BoardDeltas.UNKNOWN;
+        } else {
+            this.previousVersion = previous.version;
+            this.changedSincePrevious = game.getChangedSquares(previous.version);
+        }
+    }
+
+    /**
+     * Take a snapshot of a game
+     * @param game the game
+     * @param previous the last snapshot taken of the game, or null
+     * @return the snapshot
+     */
+    public static GameSnapshot of(Game game, GameSnapshot previous) {
+        synchronized (game) {
+            return new GameSnapshot(game, previous);
+        }
+    }
+
+    private static String nameOf(Player player) {
+        return player == null ? null : player.getName();
+    }
+
+    //
+    // Methods
+    //
+    public int getGameID() {
+        return gameID;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public Game.Turn getTurn() {
+        return turn;
+    }
+
+    public Game.State getState() {
+        return state;
+    }
+
+    public String getRedPlayerName() {
+        return redPlayerName;
+    }
+
+    public String getWhitePlayerName() {
+        return whitePlayerName;
+    }
+
+    /**
+     * Gets the name of the winner
+     * @return the winner's name, or null if nobody has won yet
+     */
+    public String getWinnerName() {
+        return winnerName;
+    }
+
+    /**
+     * Gets the name of the player who left the game
+     * @return the player's name, or null if nobody has left
+     */
+    public String getResignedPlayerName() {
+        return resignedPlayerName;
+    }
+
+    /**
+     * Gets the name of the player who signed out of the game
+     * @return the player's name, or null if nobody has signed out
+     */
+    public String getSignedOutPlayerName() {
+        return signedOutPlayerName;
+    }
+
+    /**
+     * Gets the black spaces holding a color's pieces, numbered as in
+     * {@link BitBoard}
+     * @param color the color
+     * @return the mask of the spaces
+     */
+    public int getPieceMask(Piece.PColor color) {
+        return color == Piece.PColor.red ? redPieces : whitePieces;
+    }
+
+    /**
+     * Gets the black spaces holding kings
+     * @return the mask of the spaces
+     */
+    public int getKingMask() {
+        return kings;
+    }
+
+    /**
+     * Gets the Zobrist hash of the pieces on the board
+     * @return the hash of the position
+     */
+    public long getPositionHash() {
+        return positionHash;
+    }
+
+    /**
+     * Get the black spaces whose piece changed after a version
+     * @param seenVersion the version the viewer has seen
+     * @return the mask of the changed spaces, or {@link BoardDeltas#UNKNOWN}
+     *      if this snapshot can't tell
+     */
+    public int getChangedSquares(long seenVersion) {
+        if (seenVersion == version) {
+            return 0;
+        } else if (seenVersion == previousVersion) {
+            return changedSincePrevious;
+        }
+        return BoardDeltas.UNKNOWN;
+    }
+
+    /**
+     * Tells whether the game is over, and nothing more will change
+     * @return true if the game ended or a player left it
+     */
+    public boolean isOver() {
+        return state == Game.State.ENDED || winnerName != null;
+    }
+}
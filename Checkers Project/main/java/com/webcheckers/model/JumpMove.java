@@ -1,8 +1,5 @@
 package com.webcheckers.model;
 
-import com.webcheckers.model.Game.Turn;
-import com.webcheckers.model.Piece.PColor;
-import java.util.ArrayList;
 import java.util.logging.Logger;
 
 /**
@@ -20,6 +17,7 @@ public class JumpMove extends Move {
     static final String MIDDLE_SAME_COLOR = "You cannot jump your own piece.";
     static final String MIDDLE_NO_PIECE = "You cannot jump an empty space.";
     static final String ALREADY_JUMPED = "That piece has already been jumped!";
+    static final String JUMP_NOT_AVAILABLE = "That jump is not available.";
 
     Position middle;
 
@@ -51,7 +49,7 @@ public class JumpMove extends Move {
     private static Position calculateMiddle(Position start, Position end) {
         int middleRow = (start.getRow() + end.getRow()) / 2;
         int middleCell = (start.getCell() + end.getCell()) / 2;
-        return new Position(middleRow, middleCell);
+        return Position.of(middleRow, middleCell);
     }
 
     /**
@@ -76,108 +74,78 @@ public class JumpMove extends Move {
     @Override
     public boolean validateMove(Game game) {
         LOG.fine("JumpMove validation invoked");
-        // Init variables
-        Piece movedPiece;
-        Piece jumpedPiece;
+        if (game.getLegalMoves().allows(game.getQueuedTurnMoves(), PackedMove.of(this))) {
+            this.currentMsg = MOVE_VALID;
+            return true;
+        }
+        this.currentMsg = rejectionReason(game);
+        return false;
+    }
+
+    /**
+     * Work out why a move that is not legal was rejected, so the player can
+     * be told. This is only run for moves that fail validation.
+     *
+     * @param game the game in which we're moving the piece
+     * @return the message explaining the rejection
+     */
+    private String rejectionReason(Game game) {
+        // The start comes from the client, so it may be anywhere
+        if (start.outOfBounds()) {
+            return OUT_OF_BOUNDS;
+        }
 
         // Make sure we haven't jumped the same piece twice
-        for(Move move : game.getQueuedTurnMoves()) {
-            if (move instanceof JumpMove) {
-                // Only perform this check on jump moves, duh
-                Position theirMiddle = ((JumpMove) move).middle;
-                if (theirMiddle.equals(this.middle)) {
-                    this.currentMsg = ALREADY_JUMPED;
-                    return false;
-                }
+        MoveList queued = game.getQueuedTurnMoves();
+        int middleSquare = this.middle.getSquare();
+        for(int i = 0; i < queued.size() && middleSquare >= 0; i++) {
+            if (PackedMove.captured(queued.get(i)) == middleSquare) {
+                return ALREADY_JUMPED;
             }
         }
 
         // Make sure the spacing is right
         if(!validSpacing(this.start, this.end)) {
-            LOG.fine("Failed valid spacing");
-            this.currentMsg = INVALID_JUMP_SPACING;
-            return false;
+            return INVALID_JUMP_SPACING;
         }
 
-        // Make sure the starting position has a piece
+        // Make sure the move starts with the piece being moved this turn
         Board board = game.getBoard();
-        if(board.getSpace(start).doesHasPiece()) {
-            // We'll need this information later
-            movedPiece = board.getSpace(start).pieceInfo();
-        } else if (game.hasMovesInCurrentTurn()) {
-            // Get the moved piece
-            Move firstMove = game.queuedTurnMoves.get(0);
-            movedPiece = board.getSpace(firstMove.start).pieceInfo();
-            // Check if last turn made
-            Move lastMove = game.getLastMoveMade();
-            Position end = lastMove.getEnd();
-            boolean endEqualsStart = this.start.equals(end);
-            if (endEqualsStart) {
-                this.currentMsg = MOVE_VALID;
-            } else {
-                this.currentMsg = INVALID_JUMP_PIECE;
-                return false;
+        Position realStart;
+        if (game.hasMovesInCurrentTurn()) {
+            if (!this.start.equals(game.getLastMoveMade().getEnd())) {
+                return INVALID_JUMP_PIECE;
             }
+            realStart = game.getMove(0).start;
+        } else if (board.getSpace(start).doesHasPiece()) {
+            realStart = this.start;
         } else {
-            LOG.fine("Failed starting space has piece");
-            this.currentMsg = INVALID_START_PIECE;
-            return false;
+            return INVALID_START_PIECE;
         }
 
         // Make sure the ending position doesn't have a piece
-        try {
-            if(!board.spaceIsValid(end)) {
-                LOG.fine("Failed ending space");
-                this.currentMsg = INVALID_LANDING_SPACE;
-                return false;
-            }
-        } catch(IndexOutOfBoundsException except) {
-            // This is a really lazy way of checking that the ending position
-            // is out of the board's bounds, but whatever.
-            this.currentMsg = OUT_OF_BOUNDS;
-            return false;
+        if(!board.spaceIsValid(end)) {
+            return INVALID_LANDING_SPACE;
         }
 
         // Make sure the middle position has an opponent piece
-        Position realStart;
-        if(game.hasMovesInCurrentTurn()) {
-            realStart = game.getMove(0).start;
-        } else {
-            realStart = this.start;
-        }
-        PColor currentColor = game.getPieceColor(realStart);
-        if(board.getSpace(middle).doesHasPiece()) {
-            LOG.fine("Middle: " + middle.toString());
-            LOG.fine("Board has piece.");
-            jumpedPiece = board.getSpace(middle).pieceInfo();
-            if(currentColor == jumpedPiece.pieceColor) {
-                // Can only jump an opponent's piece
-                LOG.fine("Failed middle position same color");
-                this.currentMsg = MIDDLE_SAME_COLOR;
-                return false;
-            }
-        } else {
-            LOG.fine("Failed space has middle piece");
-            this.currentMsg = MIDDLE_NO_PIECE;
-            return false;
+        Piece movedPiece = board.getSpace(realStart).pieceInfo();
+        if(!board.getSpace(middle).doesHasPiece()) {
+            return MIDDLE_NO_PIECE;
+        } else if(movedPiece.pieceColor == board.getSpace(middle).pieceInfo().pieceColor) {
+            return MIDDLE_SAME_COLOR;
         }
 
         // Make sure the piece is going in the right direction
         if (!movedPiece.isKing()) {
-            boolean check;
-            if (currentColor == PColor.red) {
-                // Red pieces should travel in the "negative" direction
-                check = start.getRow() > end.getRow();
-            } else {
-                // White pieces should travel in the "positive" direction
-                check = start.getRow() < end.getRow();
+            // Red pieces travel in the "negative" direction, white pieces in
+            // the "positive" direction
+            boolean forward = movedPiece.isRed() ? start.getRow() > end.getRow() : start.getRow() < end.getRow();
+            if (!forward) {
+                return MOVE_PIECE_FORWARD;
             }
-            if (check) this.currentMsg = MOVE_VALID;
-            else this.currentMsg = MOVE_PIECE_FORWARD;
-            return check;
-        } else {
-            return true;
         }
+        return JUMP_NOT_AVAILABLE;
     }
 
     /**
@@ -196,69 +164,13 @@ public class JumpMove extends Move {
             board.move(start, end);
 
             // Remove the jumped piece
-            board.getSpace(middle).removePiece();
+            board.removePiece(middle);
             return true;
         /*} else {
             return false;
         }*/
     }
 
-    /**
-     * Checks a position in a given game to see if it has any jump moves
-     * available.
-     *
-     * @param pos the position to check for moves
-     * @param pieceLocation the location of the piece that is being moved this
-     *                      turn
-     * @param game the game that is currently running
-     * @return true if the position has jump moves available, false otherwise
-     */
-    static boolean positionHasJumpMoveAvailable(Position pos, Position pieceLocation, Game game) {
-        ArrayList<JumpMove> possibleMoves = new ArrayList<>();
-        /* REFERENCE FOR THIS CODE BLOCK:
-        "lower" refers to lower-numbered rows
-        "higher" refers to higher-numbered rows
-         */
-
-        // This is a big-time law of Demeter violation right here
-        PColor currentColor = game.getPieceColor(pieceLocation);
-        boolean isKing = game.getBoard().getSpace(pieceLocation).pieceInfo().isKing();
-        if(currentColor == PColor.red || isKing) {
-            // Lower-left
-            possibleMoves.add(new JumpMove(pos, new Position(pos.getRow() - 2, pos.getCell() - 2)));
-            // Lower-right
-            possibleMoves.add(new JumpMove(pos, new Position(pos.getRow() - 2, pos.getCell() + 2)));
-        }
-        if(currentColor == PColor.white || isKing) {
-            // Upper-left
-            possibleMoves.add(new JumpMove(pos, new Position(pos.getRow() + 2, pos.getCell() - 2)));
-            // Upper-right
-            possibleMoves.add(new JumpMove(pos, new Position(pos.getRow() + 2, pos.getCell() + 2)));
-        }
-
-        // Check all the possible spaces to see if any one of them is valid
-        for(JumpMove move : possibleMoves) {
-            if(move.validateMove(game)) {
-                if(isMoveOk(move, game)) {
-                    continue;
-                }
-                LOG.fine("jumpMove found to be true. Must make jump" + move.toString());
-                return true;
-            }
-        }
-        return false;
-    }
-
-    static boolean isMoveOk(Move move, Game game) {
-        // Check if the move's end location has already been visited
-        for(Move madeMove : game.queuedTurnMoves) {
-            if (madeMove.end.equals(move.end)) {
-                return true;
-            }
-        }
-        return false;
-    }
-
     /**
      * Checks a game to see if the current player has a jump move available.
      * Used for testing in simple move to check if the player has to make a jump
@@ -267,18 +179,6 @@ public class JumpMove extends Move {
      * @return true if a jump move is available, false otherwise
      */
     static boolean jumpMoveAvailable(Game game) {
-        // Convert the turn to a PColor
-        Piece.PColor currentColor = Piece.PColor.red;
-        if(game.getTurn() == Game.Turn.WHITE) {
-            currentColor = Piece.PColor.white;
-        }
-
-        // Loop through all piece positions for that player
-        for(Position pos : game.getBoard().getPieceLocations(currentColor)) {
-            if(positionHasJumpMoveAvailable(pos, pos, game)) {
-                return true;
-            }
-        }
-        return false;
+        return game.getLegalMoves().hasCaptures();
     }
 }
@@ -0,0 +1,135 @@
+package com.webcheckers.model;
+
+/**
+ * The set of legal moves for the side to move, as produced by
+ * {@link MoveGenerator}. Each legal turn is a path of one or more
+ * {@link PackedMove packed} steps, stored one after the other in a single
+ * {@link MoveList}; the last step of each turn has the
+ * {@link PackedMove#LAST} flag, so a multi-jump turn is one path.
+ *
+ * <p>
+ * The client sends a turn one step at a time, so the queries here check
+ * whether the steps made so far are the start of some legal path. They
+ * compare the steps against the paths in place, without allocating.
+ * </p>
+ */
+public class LegalMoves {
+    //
+    // Attributes
+    //
+    private final MoveList steps = new MoveList(64);
+    private int count = 0;
+    boolean captures = false;
+
+    //
+    // Methods
+    //
+    void add(int step) {
+        steps.add(step);
+        if (PackedMove.isLast(step)) {
+            count++;
+        }
+    }
+
+    /**
+     * Check if there are no legal moves at all
+     * @return true if the side to move cannot move
+     */
+    public boolean isEmpty() {
+        return count == 0;
+    }
+
+    /**
+     * Check if the legal moves are captures, which means the side to move
+     * has to jump
+     * @return true if the legal moves are jump moves
+     */
+    public boolean hasCaptures() {
+        return this.captures;
+    }
+
+    /**
+     * Get the number of legal moves, counting each multi-jump path once
+     * @return the number of legal moves
+     */
+    public int size() {
+        return count;
+    }
+
+    /**
+     * Get the steps of every legal path, one path after the other. Each path
+     * ends with a step that has the {@link PackedMove#LAST} flag.
+     * @return the steps of the legal paths
+     */
+    public MoveList getSteps() {
+        return steps;
+    }
+
+    /**
+     * Check if a single step, made as the first step of a turn, is legal
+     * @param next the packed step to check
+     * @return true if the step starts some legal path
+     */
+    public boolean allows(int next) {
+        return allows(null, next);
+    }
+
+    /**
+     * Check if a step is a legal continuation of the steps already made this
+     * turn
+     * @param queued the steps already made this turn, may be null or empty
+     * @param next the packed step to check
+     * @return true if the queued steps followed by the next step are the
+     *      start of some legal path
+     */
+    public boolean allows(MoveList queued, int next) {
+        if (next == PackedMove.NONE) {
+            return false;
+        }
+        return findPath(queued, queued == null ? 0 : queued.size(), next);
+    }
+
+    /**
+     * Check if the steps already made this turn can be continued, i.e. if
+     * the player still has to jump before submitting
+     * @param queued the steps already made this turn
+     * @return true if the queued steps are the start of a longer legal path
+     */
+    public boolean canContinue(MoveList queued) {
+        if (queued == null || queued.isEmpty()) {
+            return false;
+        }
+        return findPath(queued, queued.size(), PackedMove.NONE);
+    }
+
+    /**
+     * Look for a path whose first {@code made} steps go where the queued
+     * steps went, and which has another step after them that goes where
+     * {@code next} goes, or any other step if {@code next} is
+     * {@link PackedMove#NONE}.
+     */
+    private boolean findPath(MoveList queued, int made, int next) {
+        int total = steps.size();
+        int start = 0;
+        while (start < total) {
+            int end = start;
+            while (!PackedMove.isLast(steps.get(end))) {
+                end++;
+            }
+            if (end - start >= made && matches(queued, made, next, start)) {
+                return true;
+            }
+            start = end + 1;
+        }
+        return false;
+    }
+
+    private boolean matches(MoveList queued, int made, int next, int start) {
+        for (int i = 0; i < made; i++) {
+            if (!PackedMove.samePath(steps.get(start + i), queued.get(i))) {
+                return false;
+            }
+        }
+        return next == PackedMove.NONE || PackedMove.samePath(steps.get(start + made), next);
+    }
+}
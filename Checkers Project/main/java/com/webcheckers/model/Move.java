@@ -22,6 +22,20 @@ public class Move {
         this.currentMsg = MOVE_NOT_VALIDATED;
     }
 
+    /**
+     * Creates the move between two spaces, using the shared positions
+     * @return a SimpleMove if the spaces are diagonally adjacent, otherwise a
+     *      JumpMove
+     */
+    public static Move between(int startRow, int startCell, int endRow, int endCell) {
+        Position start = Position.of(startRow, startCell);
+        Position end = Position.of(endRow, endCell);
+        if (Math.abs(startRow - endRow) == 1 && Math.abs(startCell - endCell) == 1) {
+            return new SimpleMove(start, end);
+        }
+        return new JumpMove(start, end);
+    }
+
     public Position getEnd() {
         return end;
     }
@@ -0,0 +1,172 @@
+package com.webcheckers.model;
+
+import com.webcheckers.model.Piece.PColor;
+
+/**
+ * Generates every legal move for one side of a board in a single pass.
+ * Moves are produced as {@link PackedMove packed} steps, so generation only
+ * allocates the result.
+ *
+ * <p>
+ * The neighbours and jump landings of each of the 32 black spaces are worked
+ * out once, when the class loads, so generating moves is a walk over the set
+ * bits of the board's masks. Capture chains are followed to their end, so
+ * each capture in the result is a whole multi-jump turn. The rules are the
+ * ones the game has always used:
+ * <ul>
+ * <li>Captures are mandatory; if any exist, no simple moves are legal.</li>
+ * <li>A capture chain must keep jumping while it can.</li>
+ * <li>A jumped piece stays on the board until the turn is submitted, so it
+ * cannot be jumped again or landed on.</li>
+ * <li>A single piece that reaches the far row is kinged and its turn ends.</li>
+ * </ul>
+ * </p>
+ */
+public class MoveGenerator {
+    //
+    // Constants
+    //
+    /** Directions, indexing the second dimension of the tables */
+    static final int UP_LEFT = 0;
+    static final int UP_RIGHT = 1;
+    static final int DOWN_LEFT = 2;
+    static final int DOWN_RIGHT = 3;
+
+    /** Longest possible path: the starting space and one landing per capture */
+    static final int MAX_PATH = 13;
+
+    /** The adjacent black space in each direction, or -1 off the board */
+    static final int[][] NEIGHBOURS = new int[BitBoard.SQUARES][4];
+
+    /** The landing space of a jump in each direction, or -1 off the board */
+    static final int[][] JUMPS = new int[BitBoard.SQUARES][4];
+
+    static {
+        for (int square = 0; square < BitBoard.SQUARES; square++) {
+            int row = BitBoard.rowOf(square);
+            int cell = BitBoard.cellOf(square);
+            for (int direction = UP_LEFT; direction <= DOWN_RIGHT; direction++) {
+                // "up" is towards row 0, which is the way red pieces move
+                int rowStep = direction < DOWN_LEFT ? -1 : 1;
+                int cellStep = (direction & 1) == 0 ? -1 : 1;
+                NEIGHBOURS[square][direction] = BitBoard.squareOf(row + rowStep, cell + cellStep);
+                JUMPS[square][direction] = BitBoard.squareOf(row + 2 * rowStep, cell + 2 * cellStep);
+            }
+        }
+    }
+
+    //
+    // Constructor
+    //
+    private MoveGenerator() {
+        // Only static methods
+    }
+
+    //
+    // Methods
+    //
+
+    /**
+     * Generate all the legal moves for one side of a board.
+     *
+     * @param board the board to generate moves on
+     * @param color the color of the side to move
+     * @return the legal moves for that side
+     */
+    public static LegalMoves generate(Board board, PColor color) {
+        int own = board.getPieceMask(color);
+        int opponent = board.getPieceMask(color == PColor.red ? PColor.white : PColor.red);
+        int kings = board.getKingMask();
+        int promotionRow = color == PColor.red ? 0 : Board.ROWS - 1;
+
+        LegalMoves moves = new LegalMoves();
+        int[] path = new int[MAX_PATH];
+        int[] jumped = new int[MAX_PATH];
+
+        // Captures first, since they rule out every simple move
+        for (int pieces = own; pieces != 0; pieces &= pieces - 1) {
+            int square = Integer.numberOfTrailingZeros(pieces);
+            boolean isKing = (kings & (1 << square)) != 0;
+            path[0] = square;
+            // The moving piece leaves its starting space, so a chain may
+            // come back through it
+            int occupied = (own | opponent) & ~(1 << square);
+            addJumps(moves, path, jumped, 1, occupied, opponent, 0,
+                firstDirection(color, isKing), lastDirection(color, isKing), isKing ? -1 : promotionRow);
+        }
+        if (!moves.isEmpty()) {
+            moves.captures = true;
+            return moves;
+        }
+
+        int occupied = own | opponent;
+        for (int pieces = own; pieces != 0; pieces &= pieces - 1) {
+            int square = Integer.numberOfTrailingZeros(pieces);
+            boolean isKing = (kings & (1 << square)) != 0;
+            for (int direction = firstDirection(color, isKing); direction <= lastDirection(color, isKing); direction++) {
+                int target = NEIGHBOURS[square][direction];
+                if (target >= 0 && (occupied & (1 << target)) == 0) {
+                    int flags = !isKing && BitBoard.rowOf(target) == promotionRow ? PackedMove.PROMOTION : 0;
+                    moves.add(PackedMove.simple(square, target, flags | PackedMove.LAST));
+                }
+            }
+        }
+        return moves;
+    }
+
+    /**
+     * Follow every capture chain from the end of a path, adding each chain
+     * that cannot be extended any further. {@code jumped[i]} holds the space
+     * captured on the way from {@code path[i]} to {@code path[i + 1]}.
+     */
+    private static void addJumps(LegalMoves moves, int[] path, int[] jumped, int length, int occupied,
+                                 int opponent, int captured, int firstDirection, int lastDirection,
+                                 int promotionRow) {
+        int square = path[length - 1];
+        boolean extended = false;
+        for (int direction = firstDirection; direction <= lastDirection; direction++) {
+            int landing = JUMPS[square][direction];
+            if (landing < 0) {
+                continue;
+            }
+            int middle = NEIGHBOURS[square][direction];
+            int bit = 1 << middle;
+            if ((opponent & bit) == 0 || (captured & bit) != 0 || (occupied & (1 << landing)) != 0) {
+                continue;
+            }
+            extended = true;
+            path[length] = landing;
+            jumped[length - 1] = middle;
+            if (BitBoard.rowOf(landing) == promotionRow) {
+                // Being kinged ends the turn
+                addChain(moves, path, jumped, length + 1, PackedMove.PROMOTION);
+            } else {
+                addJumps(moves, path, jumped, length + 1, occupied, opponent, captured | bit,
+                    firstDirection, lastDirection, promotionRow);
+            }
+        }
+        if (!extended && length > 1) {
+            addChain(moves, path, jumped, length, 0);
+        }
+    }
+
+    /**
+     * Add a finished capture chain as one packed jump per step
+     * @param lastFlags extra flags for the final step
+     */
+    private static void addChain(LegalMoves moves, int[] path, int[] jumped, int length, int lastFlags) {
+        for (int i = 0; i < length - 2; i++) {
+            moves.add(PackedMove.jump(path[i], path[i + 1], jumped[i], 0));
+        }
+        moves.add(PackedMove.jump(path[length - 2], path[length - 1], jumped[length - 2],
+            lastFlags | PackedMove.LAST));
+    }
+
+    private static int firstDirection(PColor color, boolean isKing) {
+        return isKing || color == PColor.red ? UP_LEFT : DOWN_LEFT;
+    }
+
+    private static int lastDirection(PColor color, boolean isKing) {
+        return isKing || color == PColor.white ? DOWN_RIGHT : UP_RIGHT;
+    }
+}
@@ -0,0 +1,95 @@
+package com.webcheckers.model;
+
+import java.util.Arrays;
+
+/**
+ * A growable list of {@link PackedMove packed moves}, kept in an int array so
+ * adding, reading and clearing moves never allocates once the list has grown
+ * to fit. Used for the moves of a turn and for generated moves.
+ */
+public class MoveList {
+    //
+    // Constants
+    //
+    private static final int DEFAULT_CAPACITY = 16;
+
+    //
+    // Attributes
+    //
+    private int[] moves;
+    private int size;
+
+    //
+    // Constructors
+    //
+    public MoveList() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public MoveList(int capacity) {
+        this.moves = new int[Math.max(capacity, 1)];
+        this.size = 0;
+    }
+
+    //
+    // Methods
+    //
+    public void add(int move) {
+        if (size == moves.length) {
+            moves = Arrays.copyOf(moves, size * 2);
+        }
+        moves[size++] = move;
+    }
+
+    public int get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException(String.format("Index: %d, Size: %d", index, size));
+        }
+        return moves[index];
+    }
+
+    /**
+     * Get the most recently added move
+     * @return the last packed move
+     */
+    public int last() {
+        return get(size - 1);
+    }
+
+    /**
+     * Remove the most recently added move
+     * @return the removed packed move
+     */
+    public int removeLast() {
+        int move = last();
+        size--;
+        return move;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Empty the list, keeping its storage for reuse
+     */
+    public void clear() {
+        size = 0;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder out = new StringBuilder("[");
+        for (int i = 0; i < size; i++) {
+            if (i > 0) {
+                out.append(", ");
+            }
+            out.append(PackedMove.from(moves[i])).append("->").append(PackedMove.to(moves[i]));
+        }
+        return out.append("]").toString();
+    }
+}
@@ -0,0 +1,139 @@
+package com.webcheckers.model;
+
+/**
+ * Moves packed into a single int, so they can be generated, queued and
+ * compared without any objects. A packed move is one step of a turn, from
+ * one black space to another, laid out as:
+ *
+ * <pre>
+ *   bits  0-4   the space the piece starts on
+ *   bits  5-9   the space the piece ends on
+ *   bits 10-14  the space of the captured piece, for jumps
+ *   bit  15     set for jumps
+ *   bit  16     set if the piece is kinged by this step
+ *   bit  17     set if this is the last step of the turn
+ * </pre>
+ *
+ * Spaces are numbered as in {@link BitBoard}. The {@link Move} objects are
+ * only made where moves cross the JSON boundary with the client.
+ */
+public final class PackedMove {
+    //
+    // Constants
+    //
+    /** Returned by {@link #of(Move)} for a move that is not between black spaces */
+    public static final int NONE = -1;
+
+    public static final int JUMP = 1 << 15;
+    public static final int PROMOTION = 1 << 16;
+    public static final int LAST = 1 << 17;
+
+    private static final int SQUARE_MASK = 0x1F;
+    private static final int TO_SHIFT = 5;
+    private static final int CAPTURED_SHIFT = 10;
+
+    /** The bits that say where a step goes, ignoring what happens on the way */
+    private static final int PATH_MASK = (1 << CAPTURED_SHIFT) - 1;
+
+    //
+    // Constructor
+    //
+    private PackedMove() {
+        // Only static methods
+    }
+
+    //
+    // Methods
+    //
+
+    /**
+     * Pack a simple move
+     * @param from the space the piece starts on
+     * @param to the space the piece ends on
+     * @param flags any of {@link #PROMOTION} and {@link #LAST}
+     * @return the packed move
+     */
+    public static int simple(int from, int to, int flags) {
+        return from | to << TO_SHIFT | flags;
+    }
+
+    /**
+     * Pack a jump
+     * @param from the space the piece starts on
+     * @param to the space the piece ends on
+     * @param captured the space of the piece that is jumped
+     * @param flags any of {@link #PROMOTION} and {@link #LAST}
+     * @return the packed move
+     */
+    public static int jump(int from, int to, int captured, int flags) {
+        return from | to << TO_SHIFT | captured << CAPTURED_SHIFT | JUMP | flags;
+    }
+
+    public static int from(int move) {
+        return move & SQUARE_MASK;
+    }
+
+    public static int to(int move) {
+        return move >>> TO_SHIFT & SQUARE_MASK;
+    }
+
+    /**
+     * Get the space of the piece captured by a move
+     * @param move the packed move
+     * @return the space, or -1 if the move is not a jump
+     */
+    public static int captured(int move) {
+        return isJump(move) ? move >>> CAPTURED_SHIFT & SQUARE_MASK : -1;
+    }
+
+    public static boolean isJump(int move) {
+        return (move & JUMP) != 0;
+    }
+
+    public static boolean isPromotion(int move) {
+        return (move & PROMOTION) != 0;
+    }
+
+    public static boolean isLast(int move) {
+        return (move & LAST) != 0;
+    }
+
+    /**
+     * Check if two moves go between the same spaces, whatever their flags
+     * @return true if the moves start and end on the same spaces
+     */
+    public static boolean samePath(int move, int other) {
+        return (move & PATH_MASK) == (other & PATH_MASK);
+    }
+
+    /**
+     * Pack a move that came from the client. Only the spaces and whether it
+     * is a jump are packed; flags that depend on the board are left clear.
+     * @param move the move to pack
+     * @return the packed move, or {@link #NONE} if it does not start and end
+     *      on black spaces
+     */
+    public static int of(Move move) {
+        int from = move.getStart().getSquare();
+        int to = move.getEnd().getSquare();
+        if (from < 0 || to < 0) {
+            return NONE;
+        }
+        if (move instanceof JumpMove) {
+            int captured = ((JumpMove) move).middle.getSquare();
+            return captured < 0 ? NONE : jump(from, to, captured, 0);
+        }
+        return simple(from, to, 0);
+    }
+
+    /**
+     * Unpack a move into the object the UI tier works with
+     * @param move the packed move
+     * @return a JumpMove or a SimpleMove
+     */
+    public static Move toMove(int move) {
+        Position start = Position.ofSquare(from(move));
+        Position end = Position.ofSquare(to(move));
+        return isJump(move) ? new JumpMove(start, end) : new SimpleMove(start, end);
+    }
+}
@@ -0,0 +1,121 @@
+package com.webcheckers.model;
+
+import com.webcheckers.model.Piece.PColor;
+
+/**
+ * Performance test ("perft") for the rules engine: counts the positions
+ * reached after exactly N turns, by generating every legal turn with
+ * {@link MoveGenerator} and playing it in place with {@link Board#make(int)}
+ * and {@link Board#unmake(long)}. The counts are well known for the opening
+ * position, so they catch rule bugs, and the time taken is a throughput
+ * number for move generation.
+ *
+ * <p>
+ * Run it with {@code java com.webcheckers.model.Perft [depth]} to print the
+ * counts and nodes per second for the opening position and the test games
+ * used in the demos.
+ * </p>
+ */
+public class Perft {
+    //
+    // Constants
+    //
+    private static final int DEFAULT_DEPTH = 9;
+
+    //
+    // Attributes
+    //
+    private final Board board;
+
+    /** One undo record per step of the turn being played at each depth */
+    private long[][] undo;
+
+    //
+    // Constructor
+    //
+    public Perft(Board board) {
+        this.board = board;
+    }
+
+    //
+    // Methods
+    //
+
+    /**
+     * Count the positions reached after a number of turns. The board is left
+     * as it was found.
+     *
+     * @param color the color to move first
+     * @param depth the number of turns to play
+     * @return the number of positions reached, counting transpositions
+     *      separately
+     */
+    public long count(PColor color, int depth) {
+        this.undo = new long[depth + 1][MoveGenerator.MAX_PATH];
+        return countFrom(color, depth);
+    }
+
+    private long countFrom(PColor color, int remaining) {
+        if (remaining == 0) {
+            return 1;
+        }
+        LegalMoves legalMoves = MoveGenerator.generate(board, color);
+        if (remaining == 1) {
+            // No need to play the last turn to count it
+            return legalMoves.size();
+        }
+        MoveList steps = legalMoves.getSteps();
+        long[] made = undo[remaining];
+        PColor next = color == PColor.red ? PColor.white : PColor.red;
+        long nodes = 0;
+        int length = 0;
+        for (int i = 0; i < steps.size(); i++) {
+            int step = steps.get(i);
+            made[length++] = board.make(step);
+            if (PackedMove.isLast(step)) {
+                nodes += countFrom(next, remaining - 1);
+                while (length > 0) {
+                    board.unmake(made[--length]);
+                }
+            }
+        }
+        return nodes;
+    }
+
+    /**
+     * Count the positions reached from a game's current position, with the
+     * player whose turn it is moving first
+     *
+     * @param game the game to start from
+     * @param depth the number of turns to play
+     * @return the number of positions reached
+     */
+    public static long count(Game game, int depth) {
+        return new Perft(game.getBoard()).count(game.getTurnColor(), depth);
+    }
+
+    /**
+     * Print the counts for every depth up to the given one, with the time
+     * taken and nodes per second
+     */
+    private static void report(String name, Game game, int maxDepth) {
+        System.out.println(name + ":" + game.getBoard());
+        for (int depth = 1; depth <= maxDepth; depth++) {
+            long start = System.nanoTime();
+            long nodes = count(game, depth);
+            long elapsed = Math.max(System.nanoTime() - start, 1);
+            System.out.println(String.format("  depth %2d: %,15d nodes  %10.1f ms  %,15.0f nodes/s",
+                depth, nodes, elapsed / 1e6, nodes * 1e9 / elapsed));
+        }
+    }
+
+    public static void main(String[] args) {
+        int depth = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_DEPTH;
+        Player red = new Player("red");
+        Player white = new Player("white");
+        report("Opening position", new Game(red, white, 0), depth);
+        report("Game.testDoubleJump", Game.testDoubleJump(red, white, 0), depth);
+        report("Game.testDoubleJumpKing", Game.testDoubleJumpKing(red, white, 0), depth);
+        report("Game.testInvalidMoves", Game.testInvalidMoves(red, white, 0), depth);
+    }
+}
@@ -46,10 +46,10 @@ public class Piece {
     }
 
     /**
-     * Create a PieceView representation for this Piece object.
-     * @return a PieceView object that accurately represents this Piece.
+     * Get the PieceView representation for this Piece object.
+     * @return the shared PieceView object that represents this kind of Piece.
      */
     public PieceView getPieceView() {
-        return new PieceView(this);
+        return PieceView.of(this);
     }
 }
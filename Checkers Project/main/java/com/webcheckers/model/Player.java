@@ -9,9 +9,9 @@ import java.util.Map;
  * TODO
  */
 public class Player {
-    private String sessionID;
+    private volatile String sessionID;
     private final String name;
-    private int gameID;
+    private volatile int gameID;
     private ArrayList<Integer> currentGameIDs = new ArrayList<>();
     private ArrayList<String> currentOpponentNames = new ArrayList<>();
 
@@ -113,11 +113,11 @@ public class Player {
         return this.currentOpponentNames;
     }
 
-    public void addCurrentGameID(int gameID) {
+    public synchronized void addCurrentGameID(int gameID) {
         this.currentGameIDs.add(gameID);
     }
 
-    public void addCurrentOpponentName(String name) {
+    public synchronized void addCurrentOpponentName(String name) {
         this.currentOpponentNames.add(name);
     }
 
@@ -125,7 +125,7 @@ public class Player {
         return this.sessionID;
     }
 
-    public void removeCurrentGame(Game game) {
+    public synchronized void removeCurrentGame(Game game) {
         int id = game.getGameID();
         int index = currentGameIDs.indexOf(id);
         currentGameIDs.remove(index);
@@ -1,17 +1,56 @@
 package com.webcheckers.model;
 
+/**
+ * A row and cell on the board. Positions never change once made, so the 64
+ * positions on the board are made once and shared; use {@link #of(int, int)}
+ * rather than the constructor to get one.
+ */
 public class Position {
 
     private static final int BOARD_DIM = 7;
 
-    int row;
-    int cell;
+    /** The position of every space on the board, indexed by row * 8 + cell */
+    private static final Position[] SPACES = new Position[(BOARD_DIM + 1) * (BOARD_DIM + 1)];
+
+    static {
+        for (int row = 0; row <= BOARD_DIM; row++) {
+            for (int cell = 0; cell <= BOARD_DIM; cell++) {
+                SPACES[row << 3 | cell] = new Position(row, cell);
+            }
+        }
+    }
+
+    final int row;
+    final int cell;
 
     public Position(int row, int cell) {
         this.row = row;
         this.cell = cell;
     }
 
+    /**
+     * Get the shared position for a row and cell. Positions off the board
+     * are not shared, so a new one is made for them.
+     * @param row the row of the position
+     * @param cell the cell of the position
+     * @return the position
+     */
+    public static Position of(int row, int cell) {
+        if (row < 0 || row > BOARD_DIM || cell < 0 || cell > BOARD_DIM) {
+            return new Position(row, cell);
+        }
+        return SPACES[row << 3 | cell];
+    }
+
+    /**
+     * Get the shared position of a black space
+     * @param square the index of the space, see {@link BitBoard#squareOf(int, int)}
+     * @return the position of the space
+     */
+    public static Position ofSquare(int square) {
+        return SPACES[BitBoard.rowOf(square) << 3 | BitBoard.cellOf(square)];
+    }
+
     public int getCell() {
         return cell;
     }
@@ -20,19 +59,36 @@ public class Position {
         return row;
     }
 
+    /**
+     * Get the index of this position among the black spaces
+     * @return the index of the space, or -1 if it is not a black space on
+     *      the board
+     */
+    public int getSquare() {
+        return BitBoard.squareOf(getRow(), getCell());
+    }
+
     public boolean outOfBounds() {
         return row < 0 || row > BOARD_DIM || cell < 0 || cell > BOARD_DIM;
     }
 
     @Override
     public boolean equals(Object obj) {
-        if(!(obj instanceof Position)) {
+        if (this == obj) {
+            return true;
+        } else if(!(obj instanceof Position)) {
             return false;
         } else {
             Position pos = (Position)obj;
             return this.getRow() == pos.getRow() && this.getCell() == pos.getCell();
         }
     }
+
+    @Override
+    public int hashCode() {
+        return 31 * getRow() + getCell();
+    }
+
     @Override
     public String toString() {
         return String.format("(%d, %d)", row, cell);
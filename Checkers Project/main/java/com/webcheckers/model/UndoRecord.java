@@ -0,0 +1,57 @@
+package com.webcheckers.model;
+
+/**
+ * What {@link Board#make(int)} needs to remember so that
+ * {@link Board#unmake(long)} can put the board back, packed into a long:
+ * the {@link PackedMove packed move} in the low 32 bits, then whether the
+ * captured piece was a king and whether the moving piece was kinged.
+ */
+public final class UndoRecord {
+    //
+    // Constants
+    //
+    private static final long MOVE_MASK = 0xFFFFFFFFL;
+    private static final long CAPTURED_KING = 1L << 32;
+    private static final long PROMOTED = 1L << 33;
+
+    //
+    // Constructor
+    //
+    private UndoRecord() {
+        // Only static methods
+    }
+
+    //
+    // Methods
+    //
+    static long of(int move, boolean capturedKing, boolean promoted) {
+        return (move & MOVE_MASK) | (capturedKing ? CAPTURED_KING : 0) | (promoted ? PROMOTED : 0);
+    }
+
+    /**
+     * Get the move that was made
+     * @param undo the undo record
+     * @return the packed move
+     */
+    public static int move(long undo) {
+        return (int) (undo & MOVE_MASK);
+    }
+
+    /**
+     * Check if the move captured a king
+     * @param undo the undo record
+     * @return true if the captured piece was a king
+     */
+    public static boolean capturedKing(long undo) {
+        return (undo & CAPTURED_KING) != 0;
+    }
+
+    /**
+     * Check if the move kinged the piece that moved
+     * @param undo the undo record
+     * @return true if the piece was kinged by the move
+     */
+    public static boolean promoted(long undo) {
+        return (undo & PROMOTED) != 0;
+    }
+}
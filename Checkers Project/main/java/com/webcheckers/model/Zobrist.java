@@ -0,0 +1,74 @@
+package com.webcheckers.model;
+
+import java.util.Random;
+
+/**
+ * Random keys for Zobrist hashing of board positions. Every kind of piece on
+ * every black space has its own 64-bit key, and the hash of a position is the
+ * XOR of the keys of the pieces on it. Since XOR is its own inverse, a board
+ * can keep its hash up to date by XOR-ing out the key of a piece where it
+ * leaves and XOR-ing in the key where it lands.
+ *
+ * The keys come from a fixed seed, so a position hashes to the same value in
+ * every run of the server.
+ */
+final class Zobrist {
+    //
+    // Constants
+    //
+    private static final long SEED = 0x5EED_C0FFEE_C4E5L;
+
+    /** Keys indexed by {@link #kind(boolean, boolean)} then black space */
+    private static final long[][] KEYS = new long[4][BitBoard.SQUARES];
+
+    static {
+        Random random = new Random(SEED);
+        for (long[] keys : KEYS) {
+            for (int square = 0; square < BitBoard.SQUARES; square++) {
+                keys[square] = random.nextLong();
+            }
+        }
+    }
+
+    //
+    // Constructor
+    //
+    private Zobrist() {
+        // Only static methods
+    }
+
+    //
+    // Methods
+    //
+    private static int kind(boolean red, boolean king) {
+        return (red ? 0 : 2) | (king ? 1 : 0);
+    }
+
+    /**
+     * Get the key of one piece on one black space
+     * @param red true for a red piece, false for a white one
+     * @param king true if the piece is a king
+     * @param square the index of the black space
+     * @return the key to XOR into the hash
+     */
+    static long key(boolean red, boolean king, int square) {
+        return KEYS[kind(red, king)][square];
+    }
+
+    /**
+     * Hash a whole position from scratch
+     * @param red the mask of red pieces
+     * @param white the mask of white pieces
+     * @param kings the mask of kings of either color
+     * @return the hash of the position
+     */
+    static long hash(int red, int white, int kings) {
+        long hash = 0;
+        for (int pieces = red | white; pieces != 0; pieces &= pieces - 1) {
+            int square = Integer.numberOfTrailingZeros(pieces);
+            int bit = 1 << square;
+            hash ^= key((red & bit) != 0, (kings & bit) != 0, square);
+        }
+        return hash;
+    }
+}
@@ -0,0 +1,211 @@
+package com.webcheckers.ui;
+
+import com.webcheckers.model.Game;
+import com.webcheckers.model.GameSnapshot;
+import com.webcheckers.model.Piece;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import spark.ModelAndView;
+import spark.TemplateEngine;
+
+/**
+ * Keeps the rendered HTML of the board, which depends only on where the
+ * pieces are and which way up the board is shown. It is kept by the
+ * position's Zobrist hash and the orientation, so every game that reaches a
+ * position, like the opening, shares its fragment, and the game page only
+ * renders the parts that depend on the player.
+ *
+ * <p>
+ * The fragments least recently used are dropped once their total length
+ * passes a limit. The hits and misses are counted to tell how well the
+ * cache is doing, and {@link WebServer} logs them.
+ * </p>
+ */
+class BoardFragmentCache {
+    //
+    // Constants
+    //
+    final static String TEMPLATE_NAME = "board.ftl";
+    /** About 8 MB of fragments, at two bytes a char */
+    final static int DEFAULT_MAX_CHARS = 4 * 1024 * 1024;
+
+    //
+    // Attributes
+    //
+    private final TemplateEngine templateEngine;
+    private final int maxChars;
+    private final LinkedHashMap<Key, String> fragments = new LinkedHashMap<>(16, 0.75f, true);
+    private long chars;
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+
+    //
+    // Constructor
+    //
+
+    /**
+     * Create a cache of board fragments
+     * @param templateEngine the engine that renders the fragments
+     * @param maxChars the most chars of fragments to keep
+     */
+    BoardFragmentCache(TemplateEngine templateEngine, int maxChars) {
+        Objects.requireNonNull(templateEngine, "templateEngine must not be null");
+        if (maxChars < 0) {
+            throw new IllegalArgumentException("maxChars must not be negative");
+        }
+        this.templateEngine = templateEngine;
+        this.maxChars = maxChars;
+    }
+
+    //
+    // Methods
+    //
+
+    /**
+     * Get the HTML of a game's board, rendering it if no game has shown the
+     * position that way up yet
+     * @param game the game
+     * @param opposite true to show the board for the white player
+     * @return the board's HTML
+     */
+    String render(Game game, boolean opposite) {
+        String fragment = get(new Key(game.getPositionHash(), opposite));
+        if (fragment != null) {
+            hits.incrementAndGet();
+            return fragment;
+        }
+        misses.incrementAndGet();
+
+        // Take the view and its hash together, so a turn applied in between
+        // can't file the view under the wrong position
+        Key key;
+        BoardView boardView;
+        synchronized (game) {
+            key = new Key(game.getPositionHash(), opposite);
+            boardView = game.getBoardView(opposite);
+        }
+        return renderAndKeep(key, boardView);
+    }
+
+    /**
+     * Get the HTML of the board in a snapshot of a game
+     * @param snapshot the snapshot
+     * @param opposite true to show the board for the white player
+     * @return the board's HTML
+     */
+    String render(GameSnapshot snapshot, boolean opposite) {
+        Key key = new Key(snapshot.getPositionHash(), opposite);
+        String fragment = get(key);
+        if (fragment != null) {
+            hits.incrementAndGet();
+            return fragment;
+        }
+        misses.incrementAndGet();
+
+        // A snapshot never changes, so there is nothing to lock
+        return renderAndKeep(key, new BoardView(snapshot.getPieceMask(Piece.PColor.red),
+            snapshot.getPieceMask(Piece.PColor.white), snapshot.getKingMask(), opposite));
+    }
+
+    private String renderAndKeep(Key key, BoardView boardView) {
+        final Map<String, Object> vm = new HashMap<>();
+        vm.put(GetGameRoute.BOARD_VIEW_ATTR, boardView);
+        String fragment = templateEngine.render(new ModelAndView(vm, TEMPLATE_NAME));
+        if (fragment == null) {
+            return "";
+        }
+        put(key, fragment);
+        return fragment;
+    }
+
+    private synchronized String get(Key key) {
+        return fragments.get(key);
+    }
+
+    private synchronized void put(Key key, String fragment) {
+        String previous = fragments.put(key, fragment);
+        if (previous != null) {
+            chars -= previous.length();
+        }
+        chars += fragment.length();
+
+        // Drop the least recently used fragments until they fit
+        Iterator<String> eldest = fragments.values().iterator();
+        while (chars > maxChars && eldest.hasNext()) {
+            chars -= eldest.next().length();
+            eldest.remove();
+            evictions.incrementAndGet();
+        }
+    }
+
+    /**
+     * Gets how many boards were found already rendered
+     * @return the number of hits
+     */
+    public long getHits() {
+        return hits.get();
+    }
+
+    /**
+     * Gets how many boards had to be rendered
+     * @return the number of misses
+     */
+    public long getMisses() {
+        return misses.get();
+    }
+
+    /**
+     * Gets how many fragments were dropped to stay under the limit
+     * @return the number of evictions
+     */
+    public long getEvictions() {
+        return evictions.get();
+    }
+
+    /**
+     * Gets how many fragments are kept
+     * @return the number of fragments
+     */
+    public synchronized int size() {
+        return fragments.size();
+    }
+
+    /**
+     * Gets the total length of the fragments kept
+     * @return the number of chars
+     */
+    public synchronized long getChars() {
+        return chars;
+    }
+
+    /**
+     * A position seen one way up
+     */
+    private static final class Key {
+        private final long positionHash;
+        private final boolean opposite;
+
+        Key(long positionHash, boolean opposite) {
+            this.positionHash = positionHash;
+            this.opposite = opposite;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (o == this) return true;
+            if (!(o instanceof Key)) return false;
+            final Key that = (Key) o;
+            return this.positionHash == that.positionHash && this.opposite == that.opposite;
+        }
+
+        @Override
+        public int hashCode() {
+            return Long.hashCode(positionHash) * 31 + (opposite ? 1 : 0);
+        }
+    }
+}
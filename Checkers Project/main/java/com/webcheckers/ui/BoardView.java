@@ -1,16 +1,24 @@
 package com.webcheckers.ui;
 
+import com.webcheckers.model.BitBoard;
 import com.webcheckers.model.Board;
+import com.webcheckers.model.Piece;
 
-import java.util.ArrayList;
-import java.util.Collections;
 import java.util.Iterator;
+import java.util.NoSuchElementException;
 
+/**
+ * The board as the game page shows it. Its spaces are the shared
+ * {@link SpaceView}s, held row by row in one array, and its rows are
+ * presented in either orientation by counting through that array forwards
+ * or backwards, so nothing is copied or reversed.
+ */
 public class BoardView implements Iterable<RowView> {
     //
     // Attributes
     //
-    ArrayList<RowView> listRowViews;
+    private final SpaceView[] spaces = new SpaceView[Board.ROWS * Board.COLUMNS];
+    private final boolean isWhite;
 
     /**
      * Create a new BoardView object using a Board model-tier class so the
@@ -23,18 +31,43 @@ public class BoardView implements Iterable<RowView> {
      *      when the board is being rendered for the Red player.
      */
     public BoardView(Board board, boolean isWhite) {
-        // Initialize the attributes
-        this.listRowViews = new ArrayList<RowView>();
+        // Read the pieces from the board's masks rather than its spaces
+        this(board.getPieceMask(Piece.PColor.red), board.getPieceMask(Piece.PColor.white),
+            board.getKingMask(), isWhite);
+    }
 
-        // Create the rows
-        for (int row = 0; row < Board.ROWS; row++) {
-            this.listRowViews.add(new RowView(board.getRow(row), row, isWhite));
-        }
+    /**
+     * Create a BoardView from the masks of a board's pieces, numbered as in
+     * {@link BitBoard}.
+     *
+     * @param red the black spaces holding red pieces
+     * @param white the black spaces holding white pieces
+     * @param kings the black spaces holding kings
+     * @param isWhite true when the board is being rendered for the White
+     *      player
+     */
+    BoardView(int red, int white, int kings, boolean isWhite) {
+        this.isWhite = isWhite;
 
-        // Reverse the rows when rendering for White so the board appears
-        // correctly.
-        if (isWhite) {
-            Collections.reverse(this.listRowViews);
+        for (int row = 0; row < Board.ROWS; row++) {
+            for (int cell = 0; cell < Board.COLUMNS; cell++) {
+                int square = BitBoard.squareOf(row, cell);
+                SpaceView space;
+                if (square < 0) {
+                    space = SpaceView.white(cell);
+                } else {
+                    int bit = 1 << square;
+                    PieceView.Type type = (kings & bit) != 0 ? PieceView.Type.KING : PieceView.Type.SINGLE;
+                    PieceView piece = null;
+                    if ((red & bit) != 0) {
+                        piece = PieceView.of(PieceView.Color.RED, type);
+                    } else if ((white & bit) != 0) {
+                        piece = PieceView.of(PieceView.Color.WHITE, type);
+                    }
+                    space = SpaceView.black(piece, cell);
+                }
+                this.spaces[row * Board.COLUMNS + cell] = space;
+            }
         }
     }
 
@@ -42,11 +75,38 @@ public class BoardView implements Iterable<RowView> {
     // Methods
     //
     /**
-     * Gets iterator of RowViews
+     * Gets the row shown at a place on the board, counting from the top of
+     * the board as it is presented. White sees the rows the other way up.
+     *
+     * @param place the place of the row, from 0
+     * @return the RowView shown there
+     */
+    RowView getRow(int place) {
+        int index = isWhite ? Board.ROWS - 1 - place : place;
+        return new RowView(spaces, index, isWhite);
+    }
+
+    /**
+     * Gets iterator of RowViews, in the order they are presented
      * @return RowView iterator
      */
     public Iterator<RowView> iterator() {
-        return listRowViews.iterator();
+        return new Iterator<RowView>() {
+            private int place = 0;
+
+            @Override
+            public boolean hasNext() {
+                return place < Board.ROWS;
+            }
+
+            @Override
+            public RowView next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return getRow(place++);
+            }
+        };
     }
 
 }
@@ -0,0 +1,174 @@
+package com.webcheckers.ui;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.logging.Logger;
+import javax.servlet.AsyncContext;
+import javax.servlet.AsyncEvent;
+import javax.servlet.AsyncListener;
+import javax.servlet.ServletOutputStream;
+import javax.servlet.WriteListener;
+
+/**
+ * A Server-Sent Events response that is held open without holding a thread.
+ *
+ * <p>
+ * The request is suspended, and whatever is sent is queued and written with
+ * non-blocking I/O: as much as the connection takes straight away, and the
+ * rest when the container says it can take more. Sending never blocks, so
+ * one thread can write to every open stream, and a slow browser only holds
+ * up its own stream.
+ * </p>
+ */
+class EventStream implements AsyncListener, WriteListener {
+    private static final Logger LOG = Logger.getLogger(EventStream.class.getName());
+
+    //
+    // Attributes
+    //
+    private final AsyncContext context;
+    private final Runnable onClose;
+
+    /** What is still to be written, guarded by the stream's lock */
+    private final Queue<byte[]> pending = new ArrayDeque<>();
+    private ServletOutputStream out;
+    private boolean closed;
+
+    //
+    // Constructor
+    //
+    /**
+     * @param context the suspended request
+     * @param onClose called once, when the stream closes for any reason
+     */
+    EventStream(AsyncContext context, Runnable onClose) {
+        this.context = context;
+        this.onClose = onClose;
+    }
+
+    //
+    // Methods
+    //
+
+    /**
+     * Send the headers and start writing. The response is committed first,
+     * so Spark leaves it alone when the route returns.
+     */
+    void open() throws IOException {
+        // The stream stays open until the game is over or the browser leaves
+        context.setTimeout(0);
+        context.addListener(this);
+        context.getResponse().flushBuffer();
+        synchronized (this) {
+            out = context.getResponse().getOutputStream();
+            out.setWriteListener(this);
+        }
+    }
+
+    /**
+     * Queue an event to be written. Never blocks.
+     * @param bytes the encoded event, which must not be changed afterwards
+     */
+    void send(byte[] bytes) {
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            pending.add(bytes);
+            if (out == null || drain()) {
+                return;
+            }
+        }
+        close();
+    }
+
+    /**
+     * @return true once the stream has closed
+     */
+    synchronized boolean isClosed() {
+        return closed;
+    }
+
+    /**
+     * Finish the response and stop sending
+     */
+    void close() {
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            pending.clear();
+        }
+        onClose.run();
+        context.complete();
+    }
+
+    /**
+     * Write what the connection will take without blocking. Called holding
+     * the stream's lock.
+     * @return false if the browser has gone away
+     */
+    private boolean drain() {
+        try {
+            while (out.isReady()) {
+                byte[] next = pending.poll();
+                if (next == null) {
+                    break;
+                }
+                out.write(next);
+                if (out.isReady()) {
+                    out.flush();
+                }
+            }
+            return true;
+        } catch (IOException e) {
+            LOG.finer("Event stream closed: " + e.getMessage());
+            return false;
+        }
+    }
+
+    @Override
+    public void onWritePossible() {
+        synchronized (this) {
+            if (closed || drain()) {
+                return;
+            }
+        }
+        close();
+    }
+
+    @Override
+    public void onError(Throwable error) {
+        LOG.finer("Event stream closed: " + error.getMessage());
+        close();
+    }
+
+    @Override
+    public void onError(AsyncEvent event) {
+        close();
+    }
+
+    @Override
+    public void onTimeout(AsyncEvent event) {
+        close();
+    }
+
+    @Override
+    public void onComplete(AsyncEvent event) {
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            pending.clear();
+        }
+        onClose.run();
+    }
+
+    @Override
+    public void onStartAsync(AsyncEvent event) {
+        // Not restarted
+    }
+}
@@ -0,0 +1,323 @@
+package com.webcheckers.ui;
+
+import com.webcheckers.appl.PlayerLobby;
+import com.webcheckers.appl.TurnController;
+import com.webcheckers.model.Game;
+import com.webcheckers.model.Move;
+import com.webcheckers.model.Player;
+import java.net.HttpCookie;
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+import javax.servlet.http.HttpSession;
+import org.eclipse.jetty.websocket.api.Session;
+import org.eclipse.jetty.websocket.api.StatusCode;
+import org.eclipse.jetty.websocket.api.UpgradeRequest;
+import org.eclipse.jetty.websocket.api.WriteCallback;
+import org.eclipse.jetty.websocket.api.annotations.OnWebSocketClose;
+import org.eclipse.jetty.websocket.api.annotations.OnWebSocketConnect;
+import org.eclipse.jetty.websocket.api.annotations.OnWebSocketError;
+import org.eclipse.jetty.websocket.api.annotations.OnWebSocketMessage;
+import org.eclipse.jetty.websocket.api.annotations.WebSocket;
+
+/**
+ * The {@code /game/socket} WebSocket handler. Carries a player's moves and
+ * the game's turn changes over one connection, as small binary frames, in
+ * place of the {@code /validateMove}, {@code /backupMove},
+ * {@code /submitTurn} and {@code /checkTurn} requests. The moves go through
+ * the same {@link TurnController} logic as those routes.
+ *
+ * <p>
+ * The connection belongs to the player signed in with the HTTP session it
+ * was opened from, and follows the game the player was looking at then. It
+ * is only accepted from the server's own pages: the handshake's
+ * {@code Origin} has to name the host it was sent to, so another site can't
+ * open one with the player's cookie.
+ * Every frame starts with an opcode byte:
+ * </p>
+ * <ul>
+ * <li>{@code VALIDATE}, then the start row, start cell, end row and end cell
+ * of the move, one byte each</li>
+ * <li>{@code BACKUP} and {@code SUBMIT}, with nothing else</li>
+ * </ul>
+ * <p>
+ * The server answers each of them, in order, with the same opcode, the
+ * message type (0 for info, 1 for error) and the message text in UTF-8. When
+ * the game changes it sends a {@code TURN} frame with a flags byte
+ * ({@code YOUR_TURN}, {@code RESIGNED} and {@code SIGNED_OUT}), the ordinal of the game's state
+ * and the game's version as four bytes.
+ * </p>
+ */
+@WebSocket
+public class GameSocket {
+    private static final Logger LOG = Logger.getLogger(GameSocket.class.getName());
+
+    //
+    // Constants
+    //
+    static final byte VALIDATE = 1;
+    static final byte BACKUP = 2;
+    static final byte SUBMIT = 3;
+    static final byte TURN = 4;
+
+    static final byte INFO = 0;
+    static final byte ERROR = 1;
+
+    static final byte YOUR_TURN = 1;
+    static final byte RESIGNED = 2;
+    static final byte SIGNED_OUT = 4;
+
+    static final int TURN_FRAME_LENGTH = 7;
+
+    /** The cookie Jetty keeps the HTTP session in */
+    static final String SESSION_COOKIE = "JSESSIONID";
+
+    static final String NOT_SIGNED_IN = "Not signed in";
+    static final String WRONG_ORIGIN = "Cross-origin connection refused";
+    static final String BAD_FRAME = "Unknown request";
+
+    //
+    // Attributes
+    //
+    private final PlayerLobby playerLobby;
+    private final TurnController turnController;
+    private final Map<Session, Connection> connections = new ConcurrentHashMap<>();
+
+    //
+    // Constructor
+    //
+    public GameSocket(PlayerLobby playerLobby, TurnController turnController) {
+        Objects.requireNonNull(playerLobby, "playerLobby must not be null");
+        Objects.requireNonNull(turnController, "turnController must not be null");
+
+        this.playerLobby = playerLobby;
+        this.turnController = turnController;
+
+        LOG.config("GameSocket is initialized");
+    }
+
+    //
+    // Methods
+    //
+    @OnWebSocketConnect
+    public void onConnect(Session session) {
+        if (!isSameOrigin(session.getUpgradeRequest())) {
+            LOG.warning("Game socket refused from origin " + session.getUpgradeRequest().getOrigin());
+            session.close(StatusCode.POLICY_VIOLATION, WRONG_ORIGIN);
+            return;
+        }
+        Player player = findPlayer(session);
+        Game game = player == null ? null : playerLobby.getGame(player);
+        if (game == null) {
+            session.close(StatusCode.POLICY_VIOLATION, NOT_SIGNED_IN);
+            return;
+        }
+        Connection connection = new Connection(session, player, game);
+        connections.put(session, connection);
+        game.addChangeListener(connection);
+        // Tell the page where the game is now, in case it changed while connecting
+        connection.accept(game);
+    }
+
+    @OnWebSocketClose
+    public void onClose(Session session, int statusCode, String reason) {
+        disconnect(session);
+    }
+
+    @OnWebSocketError
+    public void onError(Session session, Throwable cause) {
+        LOG.fine("Game socket failed: " + cause);
+        disconnect(session);
+    }
+
+    private void disconnect(Session session) {
+        Connection connection = connections.remove(session);
+        if (connection != null) {
+            connection.game.removeChangeListener(connection);
+        }
+    }
+
+    @OnWebSocketMessage
+    public void onMessage(Session session, byte[] frame, int offset, int length) {
+        Connection connection = connections.get(session);
+        if (connection == null) {
+            return;
+        }
+        send(session, handleFrame(connection.game, frame, offset, length));
+    }
+
+    /**
+     * Get the number of open connections
+     * @return the number of connections
+     */
+    public int getConnectionCount() {
+        return connections.size();
+    }
+
+    /**
+     * Run a request frame from a player, against the game their connection
+     * follows
+     * @return the reply frame
+     */
+    ByteBuffer handleFrame(Game game, byte[] frame, int offset, int length) {
+        if (length < 1) {
+            return reply((byte) 0, new Message(BAD_FRAME, Message.MessageType.error));
+        }
+        byte opcode = frame[offset];
+        switch (opcode) {
+            case VALIDATE:
+                if (length != 5) {
+                    break;
+                }
+                Move move = Move.between(frame[offset + 1], frame[offset + 2],
+                    frame[offset + 3], frame[offset + 4]);
+                return reply(opcode, turnController.handleValidation(game, move));
+            case BACKUP:
+                return reply(opcode, turnController.handleBackup(game));
+            case SUBMIT:
+                return reply(opcode, turnController.submitTurn(game));
+            default:
+                break;
+        }
+        return reply(opcode, new Message(BAD_FRAME, Message.MessageType.error));
+    }
+
+    /**
+     * Encode a reply to a request frame
+     */
+    static ByteBuffer reply(byte opcode, Message message) {
+        byte[] text = message.getText().getBytes(StandardCharsets.UTF_8);
+        ByteBuffer frame = ByteBuffer.allocate(2 + text.length);
+        frame.put(opcode);
+        frame.put(message.getType() == Message.MessageType.error ? ERROR : INFO);
+        frame.put(text);
+        frame.flip();
+        return frame;
+    }
+
+    /**
+     * Encode the frame telling a player the game has changed. Called holding
+     * the game's lock.
+     */
+    static ByteBuffer turnFrame(Game game, Player player) {
+        ByteBuffer frame = ByteBuffer.allocate(TURN_FRAME_LENGTH);
+        frame.put(TURN);
+        int flags = 0;
+        if (game.isPlayersTurn(player)) {
+            flags |= YOUR_TURN;
+        }
+        if (game.getResigningPlayer() != null) {
+            flags |= RESIGNED;
+        }
+        if (game.getSignedoutPlayer() != null) {
+            flags |= SIGNED_OUT;
+        }
+        frame.put((byte) flags);
+        frame.put((byte) game.getState().ordinal());
+        frame.putInt((int) game.getVersion());
+        frame.flip();
+        return frame;
+    }
+
+    /**
+     * Tells whether a handshake came from a page served by this host. A
+     * browser always sends the page's origin, so one without it is refused.
+     */
+    static boolean isSameOrigin(UpgradeRequest request) {
+        String origin = request.getOrigin();
+        String host = request.getHeader("Host");
+        if (origin == null || host == null) {
+            return false;
+        }
+        try {
+            URI uri = URI.create(origin);
+            if (uri.getHost() == null) {
+                return false;
+            }
+            String originHost = uri.getPort() < 0 ? uri.getHost() : uri.getHost() + ":" + uri.getPort();
+            return originHost.equalsIgnoreCase(host);
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    private Player findPlayer(Session session) {
+        String sessionID = findSessionID(session.getUpgradeRequest());
+        return sessionID == null ? null : playerLobby.getPlayerBySessionID(sessionID);
+    }
+
+    /**
+     * Find the ID of the HTTP session the socket was opened from. Spark maps
+     * WebSockets in a context of their own, without sessions, so this falls
+     * back to the session cookie, whose value is the session ID followed by
+     * the server node's name.
+     */
+    static String findSessionID(UpgradeRequest request) {
+        Object httpSession = request.getSession();
+        if (httpSession instanceof HttpSession) {
+            return ((HttpSession) httpSession).getId();
+        }
+        List<HttpCookie> cookies = request.getCookies();
+        if (cookies == null) {
+            return null;
+        }
+        for (HttpCookie cookie : cookies) {
+            if (SESSION_COOKIE.equals(cookie.getName())) {
+                String value = cookie.getValue();
+                int node = value.indexOf('.');
+                return node < 0 ? value : value.substring(0, node);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Send a frame without waiting for it to be written, since game change
+     * frames are sent holding the game's lock
+     */
+    private static void send(Session session, ByteBuffer frame) {
+        if (!session.isOpen()) {
+            return;
+        }
+        session.getRemote().sendBytes(frame, new WriteCallback() {
+            @Override
+            public void writeFailed(Throwable cause) {
+                LOG.finer("Game socket write failed: " + cause);
+            }
+
+            @Override
+            public void writeSuccess() {
+            }
+        });
+    }
+
+    /**
+     * A player's connection, which listens for changes to their game
+     */
+    private static class Connection implements Consumer<Game> {
+        private final Session session;
+        private final Player player;
+        private final Game game;
+
+        Connection(Session session, Player player, Game game) {
+            this.session = session;
+            this.player = player;
+            this.game = game;
+        }
+
+        @Override
+        public void accept(Game changed) {
+            ByteBuffer frame;
+            synchronized (changed) {
+                frame = turnFrame(changed, player);
+            }
+            send(session, frame);
+        }
+    }
+}
@@ -0,0 +1,427 @@
+package com.webcheckers.ui;
+
+import com.google.gson.Gson;
+import com.webcheckers.appl.PlayerLobby;
+import com.webcheckers.appl.SpectatorCenter;
+import com.webcheckers.model.Game;
+import com.webcheckers.model.GameSnapshot;
+import com.webcheckers.model.Player;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+import javax.servlet.AsyncContext;
+import spark.Request;
+import spark.Response;
+import spark.Route;
+
+/**
+ * The {@code GET /game/events} route handler. Streams the changes to a game
+ * as Server-Sent Events, so the page can wait for them instead of polling.
+ *
+ * <p>
+ * A player gets the events for the game they are looking at; a spectator
+ * passes the game's ID in the {@code gameID} query parameter. Every event
+ * carries the game's version, whose turn it is, the game's state and whether
+ * it is the viewer's turn. The first event, {@code sync}, describes the game
+ * as it is when the stream opens; after that the stream sends a {@code turn}
+ * event when a turn is submitted, a {@code state} event when the game ends or
+ * moves through an async request, a {@code resign} event when a player
+ * leaves, which includes signing out of a synchronous game, and a
+ * {@code signout} event when a player is marked as signed out of a game that
+ * carries on. The stream closes once the game is over.
+ * </p>
+ *
+ * <p>
+ * A stream holds no thread between events. The request is suspended as an
+ * {@link EventStream}, and the streams of each game share a channel which
+ * listens for the game's changes. A change only schedules the channel's
+ * writer, which reads the game once for its players and takes the
+ * {@link SpectatorCenter}'s shared snapshot once for its spectators, encodes
+ * each distinct event once and queues it on every stream without blocking.
+ * One thread writes the events of every game and sends the keep-alive
+ * comments, which also keep each spectator's place.
+ * </p>
+ *
+ * <p>
+ * A game that already has as many watchers as it can take answers
+ * {@code 503}, and a spectator's stream closes once they are dropped from
+ * the game.
+ * </p>
+ */
+public class GetGameEventsRoute implements Route {
+    private static final Logger LOG = Logger.getLogger(GetGameEventsRoute.class.getName());
+
+    //
+    // Constants
+    //
+    static final String GAME_ID_PARAM = "gameID";
+    static final String CONTENT_TYPE = "text/event-stream";
+
+    static final String SYNC_EVENT = "sync";
+    static final String TURN_EVENT = "turn";
+    static final String STATE_EVENT = "state";
+    static final String RESIGN_EVENT = "resign";
+    static final String SIGNOUT_EVENT = "signout";
+
+    /** How often a comment is sent to keep the streams open */
+    static final long HEARTBEAT_MILLIS = 15000;
+
+    /** How long the browser waits before reconnecting a dropped stream */
+    static final int RETRY_MILLIS = 3000;
+
+    // Sent as they are to every stream
+    private static final byte[] HEARTBEAT = ": keep-alive\n\n".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] RETRY = ("retry: " + RETRY_MILLIS + "\n\n").getBytes(StandardCharsets.UTF_8);
+
+    //
+    // Attributes
+    //
+    private final PlayerLobby playerLobby;
+    private final SpectatorCenter spectatorCenter;
+    private final Gson gson;
+    /** Writes the events of every game */
+    private final Executor writer;
+
+    /** The channels of the games players are streaming, by game ID */
+    private final Map<Integer, Channel> channels = new ConcurrentHashMap<>();
+
+    //
+    // Constructor
+    //
+    public GetGameEventsRoute(PlayerLobby playerLobby, SpectatorCenter spectatorCenter, Gson gson) {
+        this(playerLobby, spectatorCenter, gson, Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "game-events");
+            thread.setDaemon(true);
+            return thread;
+        }));
+    }
+
+    private GetGameEventsRoute(PlayerLobby playerLobby, SpectatorCenter spectatorCenter, Gson gson,
+                               ScheduledExecutorService events) {
+        this(playerLobby, spectatorCenter, gson, (Executor) events);
+        events.scheduleWithFixedDelay(this::sendHeartbeats, HEARTBEAT_MILLIS, HEARTBEAT_MILLIS, TimeUnit.MILLISECONDS);
+    }
+
+    /** Constructor used for testing, which sends no heartbeats of its own */
+    GetGameEventsRoute(PlayerLobby playerLobby, SpectatorCenter spectatorCenter, Gson gson, Executor writer) {
+        Objects.requireNonNull(playerLobby, "playerLobby must not be null");
+        Objects.requireNonNull(spectatorCenter, "spectatorCenter must not be null");
+        Objects.requireNonNull(gson, "gson must not be null");
+        Objects.requireNonNull(writer, "writer must not be null");
+
+        this.playerLobby = playerLobby;
+        this.spectatorCenter = spectatorCenter;
+        this.gson = gson;
+        this.writer = writer;
+
+        LOG.config("GetGameEventsRoute is initialized");
+    }
+
+    //
+    // Methods
+    //
+    @Override
+    public Object handle(Request request, Response response) throws IOException {
+        Player viewer = playerLobby.getPlayerBySessionID(request.session().id());
+        if (viewer == null) {
+            response.status(401);
+            return "";
+        }
+        Game game = findGame(viewer, request.queryParams(GAME_ID_PARAM));
+        if (game == null) {
+            response.status(404);
+            return "";
+        }
+
+        GameSnapshot watched = null;
+        if (!isPlayer(game, viewer)) {
+            watched = spectatorCenter.startWatching(viewer, game.getGameID());
+            if (watched == null) {
+                // Too many watchers already
+                response.status(503);
+                return "";
+            }
+        }
+
+        response.type(CONTENT_TYPE);
+        response.header("Cache-Control", "no-cache");
+        join(game, new Subscriber(viewer, watched != null, request.raw().startAsync()), watched);
+        return "";
+    }
+
+    private Game findGame(Player viewer, String gameIDParam) {
+        if (gameIDParam == null) {
+            return playerLobby.getGame(viewer);
+        }
+        try {
+            return playerLobby.getGameByID(Integer.parseInt(gameIDParam));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Start sending someone a game's events, on the game's channel
+     * @param watched the snapshot a spectator was admitted with, or null for
+     *      a player
+     */
+    private void join(Game game, Subscriber subscriber, GameSnapshot watched) throws IOException {
+        subscriber.stream.open();
+        while (true) {
+            Channel channel = channels.computeIfAbsent(game.getGameID(), id -> new Channel(game));
+            if (channel.join(subscriber, watched)) {
+                return;
+            }
+            // The last stream left while we were joining; start over
+            channels.remove(game.getGameID(), channel);
+        }
+    }
+
+    /**
+     * Send a comment, which browsers ignore, down every stream so that quiet
+     * ones are not closed, and keep the places of the spectators still
+     * watching
+     */
+    void sendHeartbeats() {
+        for (Channel channel : channels.values()) {
+            channel.sendHeartbeat();
+        }
+    }
+
+    private static boolean isPlayer(Game game, Player viewer) {
+        return viewer.equals(game.getRedPlayer()) || viewer.equals(game.getWhitePlayer());
+    }
+
+    private static boolean isOver(EventData data) {
+        // A game someone left can be removed without ever being ENDED
+        return data.state == Game.State.ENDED || data.resignedPlayer != null;
+    }
+
+    /**
+     * Name the event after the most important thing that changed
+     */
+    static String eventName(EventData last, EventData next) {
+        if (next.resignedPlayer != null && last.resignedPlayer == null) {
+            return RESIGN_EVENT;
+        } else if (next.signedOutPlayer != null && last.signedOutPlayer == null) {
+            return SIGNOUT_EVENT;
+        } else if (next.state != last.state) {
+            return STATE_EVENT;
+        }
+        return TURN_EVENT;
+    }
+
+    private byte[] encode(String event, EventData data) {
+        return ("event: " + event + "\ndata: " + gson.toJson(data) + "\n\n").getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * A player's or spectator's stream, and the last event it was sent
+     */
+    private final class Subscriber {
+        final Player viewer;
+        final boolean spectator;
+        final EventStream stream;
+        /** The channel it joined, once it has */
+        volatile Channel channel;
+        /** Guarded by the channel's lock */
+        EventData last;
+
+        Subscriber(Player viewer, boolean spectator, AsyncContext context) {
+            this.viewer = viewer;
+            this.spectator = spectator;
+            this.stream = new EventStream(context, this::closed);
+        }
+
+        private void closed() {
+            Channel joined = channel;
+            if (joined != null) {
+                joined.leave(this);
+            }
+        }
+    }
+
+    /**
+     * The streams of one game. It listens for the game's changes
+     * while anyone is streaming it.
+     */
+    private final class Channel {
+        private final Game game;
+        private final List<Subscriber> subscribers = new CopyOnWriteArrayList<>();
+        private final AtomicBoolean scheduled = new AtomicBoolean(false);
+        // Called holding the game's lock, so the events are written elsewhere
+        private final Consumer<Game> listener = changed -> schedule();
+        /** Set, holding the channel's lock, once the last stream has left */
+        private boolean closed;
+
+        Channel(Game game) {
+            this.game = game;
+            game.addChangeListener(listener);
+        }
+
+        /**
+         * Add a stream and send it the game as it is now
+         * @param watched the snapshot a spectator was admitted with, or null
+         *      for a player
+         * @return false if the channel has already closed
+         */
+        synchronized boolean join(Subscriber subscriber, GameSnapshot watched) {
+            if (closed) {
+                return false;
+            }
+            subscriber.channel = this;
+            subscribers.add(subscriber);
+            EventData first;
+            boolean over;
+            if (watched != null) {
+                first = new EventData(watched);
+                over = watched.isOver();
+                spectatorCenter.markSeen(subscriber.viewer, game.getGameID(), watched.getVersion());
+            } else {
+                synchronized (game) {
+                    first = new EventData(game, subscriber.viewer);
+                }
+                over = isOver(first);
+            }
+            subscriber.last = first;
+            subscriber.stream.send(RETRY);
+            subscriber.stream.send(encode(SYNC_EVENT, first));
+            if (over || subscriber.stream.isClosed()) {
+                subscriber.stream.close();
+                leave(subscriber);
+            }
+            return true;
+        }
+
+        synchronized void leave(Subscriber subscriber) {
+            subscribers.remove(subscriber);
+            if (!closed && subscribers.isEmpty()) {
+                closed = true;
+                game.removeChangeListener(listener);
+                channels.remove(game.getGameID(), this);
+            }
+        }
+
+        void sendHeartbeat() {
+            for (Subscriber subscriber : subscribers) {
+                if (subscriber.spectator && !spectatorCenter.keepWatching(subscriber.viewer, game.getGameID())) {
+                    // Dropped to make room, or stopped watching
+                    subscriber.stream.close();
+                    continue;
+                }
+                subscriber.stream.send(HEARTBEAT);
+            }
+        }
+
+        /**
+         * Have the writer publish the change, unless it is already going to
+         */
+        private void schedule() {
+            if (scheduled.compareAndSet(false, true)) {
+                writer.execute(this::publish);
+            }
+        }
+
+        /**
+         * Read the game once for the players and take the shared snapshot
+         * once for the spectators, then send every stream what changed,
+         * encoding each distinct event once
+         */
+        private synchronized void publish() {
+            scheduled.set(false);
+            if (closed) {
+                return;
+            }
+            Player red = game.getRedPlayer();
+            EventData forRed;
+            EventData forWhite;
+            synchronized (game) {
+                forRed = new EventData(game, red);
+                forWhite = new EventData(game, game.getWhitePlayer());
+            }
+            GameSnapshot snapshot = null;
+            EventData forSpectators = null;
+            Map<String, byte[]> encoded = new HashMap<>();
+            for (Subscriber subscriber : subscribers) {
+                EventData next;
+                boolean over;
+                if (subscriber.spectator) {
+                    if (snapshot == null && spectatorCenter.isWatching(subscriber.viewer, game.getGameID())) {
+                        // Shared with every watcher and taken once per version
+                        snapshot = spectatorCenter.getSnapshot(game.getGameID());
+                        forSpectators = snapshot == null ? null : new EventData(snapshot);
+                    }
+                    if (snapshot == null || !spectatorCenter.isWatching(subscriber.viewer, game.getGameID())) {
+                        // Dropped to make room, or stopped watching
+                        subscriber.stream.close();
+                        continue;
+                    }
+                    next = forSpectators;
+                    over = snapshot.isOver();
+                } else {
+                    next = subscriber.viewer.equals(red) ? forRed : forWhite;
+                    over = isOver(next);
+                }
+                EventData last = subscriber.last;
+                if (next.version <= last.version) {
+                    // It joined after the change
+                    continue;
+                }
+                String event = eventName(last, next);
+                subscriber.last = next;
+                String key = (subscriber.spectator ? "s" : "p") + event + next.yourTurn;
+                subscriber.stream.send(encoded.computeIfAbsent(key, unused -> encode(event, next)));
+                if (subscriber.spectator) {
+                    spectatorCenter.markSeen(subscriber.viewer, game.getGameID(), next.version);
+                }
+                if (over) {
+                    subscriber.stream.close();
+                }
+            }
+        }
+    }
+
+    /**
+     * The data sent with every event
+     */
+    static class EventData {
+        final long version;
+        final Game.Turn turn;
+        final Game.State state;
+        final boolean yourTurn;
+        final String resignedPlayer;
+        final String signedOutPlayer;
+
+        EventData(Game game, Player viewer) {
+            this.version = game.getVersion();
+            this.turn = game.getTurn();
+            this.state = game.getState();
+            this.yourTurn = isPlayer(game, viewer) && game.isPlayersTurn(viewer);
+            Player resigned = game.getResigningPlayer();
+            this.resignedPlayer = resigned == null ? null : resigned.getName();
+            Player signedOut = game.getSignedoutPlayer();
+            this.signedOutPlayer = signedOut == null ? null : signedOut.getName();
+        }
+
+        EventData(GameSnapshot snapshot) {
+            this.version = snapshot.getVersion();
+            this.turn = snapshot.getTurn();
+            this.state = snapshot.getState();
+            this.yourTurn = false;
+            this.resignedPlayer = snapshot.getResignedPlayerName();
+            this.signedOutPlayer = snapshot.getSignedOutPlayerName();
+        }
+    }
+}
@@ -6,6 +6,7 @@ import com.webcheckers.model.Game;
 import com.webcheckers.model.Piece;
 import com.webcheckers.model.Player;
 import com.webcheckers.ui.Message.MessageType;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.logging.Logger;
 import spark.*;
@@ -28,6 +29,7 @@ public class GetGameRoute implements Route{
     final static String RED_PLAYER_ATTR = "redPlayer";
     final static String ACTIVE_COLOR_ATTR = "activeColor";
     final static String BOARD_VIEW_ATTR = "board";
+    final static String BOARD_HTML_ATTR = "boardHtml";
     final static String VIEW_MODE_ATTR = "viewMode";
     final static String MESSAGE_ATTR = "message";
     final static String TEMPLATE_NAME = "game.ftl";
@@ -48,6 +50,13 @@ public class GetGameRoute implements Route{
     final static String REJECTED_MSG = "At least one of your opponents has rejected your request to switch to asynchronous mode. If you sign out, you will be automatically resigned from those games. The following opponents rejected your request: ";
     final static String APPROVED_MSG = "All of your opponents have approved your request to switch to asynchronous mode!";
 
+    final static String ETAG_HEADER = "ETag";
+    final static String IF_NONE_MATCH_HEADER = "If-None-Match";
+    final static String CACHE_CONTROL_HEADER = "Cache-Control";
+    // The browser may keep the page, but must ask whether it is still current
+    final static String REVALIDATE = "no-cache";
+    private final static char[] HEX_DIGITS = "0123456789ABCDEF".toCharArray();
+
     public enum View {
         PLAY, SPECTATOR, REPLAY;
     }
@@ -58,19 +67,24 @@ public class GetGameRoute implements Route{
     private final TemplateEngine templateEngine;
     private final PlayerLobby playerLobby;
     private final AsyncServices asyncServices;
+    private final RenderCoalescer<PageKey> renderCoalescer = new RenderCoalescer<>();
+    private final BoardFragmentCache boardFragments;
 
     //
     // Constructor
     //
-    GetGameRoute(final PlayerLobby playerLobby, final TemplateEngine templateEngine, final AsyncServices asyncServices) {
+    GetGameRoute(final PlayerLobby playerLobby, final TemplateEngine templateEngine, final AsyncServices asyncServices,
+                 final BoardFragmentCache boardFragments) {
         //validate
         Objects.requireNonNull(templateEngine, "templateEngine must not be null");
         Objects.requireNonNull(playerLobby, "playerLobby cannot be null");
         Objects.requireNonNull(asyncServices, "asyncServices cannot be null");
+        Objects.requireNonNull(boardFragments, "boardFragments cannot be null");
         //
         this.templateEngine = templateEngine;
         this.playerLobby = playerLobby;
         this.asyncServices = asyncServices;
+        this.boardFragments = boardFragments;
     }
 
     //
@@ -178,7 +192,6 @@ public class GetGameRoute implements Route{
             case ENDED:
             case ACTIVE:
                 // Check if any players have won the game
-                game.calculateWinningPlayer();
                 if (game.getWinningPlayerName() != null) {
                     LOG.fine("Inside get winning player");
                     winner = game.getWinningPlayerName();
@@ -207,11 +220,131 @@ public class GetGameRoute implements Route{
         vm.put(RED_PLAYER_ATTR, game.getRedPlayer());
         vm.put(WHITE_PLAYER_ATTR, game.getWhitePlayer());
         vm.put(ACTIVE_COLOR_ATTR, currentTurn);
-        vm.put(BOARD_VIEW_ATTR, game.getBoardView(opposite));
+        vm.put(BOARD_HTML_ATTR, boardFragments.render(game, opposite));
 
         return templateEngine.render(new ModelAndView(vm, TEMPLATE_NAME));
     }
 
+    /**
+     * Helper method to get the key of the game page a player would be shown
+     * right now. The page is made from the game's version, which every
+     * board, turn and state change bumps, and from who is looking at it,
+     * which decides the board's orientation and whose page it is.
+     *
+     * @param game the game being rendered
+     * @param player the player viewing the game
+     * @return the page's key, or null if the page also depends on something
+     * outside the game, like the answers to an asynchronous request, or
+     * rendering it ends the game
+     */
+    static PageKey pageKey(Game game, Player player) {
+        // Read the version first, so a change made while rendering only
+        // makes the key older than the page, never newer
+        long version = game.getVersion();
+        Game.State state = game.getState();
+        if ((state != Game.State.ACTIVE && state != Game.State.ASYNC_ACTIVE) || game.getWinningPlayerName() != null) {
+            return null;
+        }
+        char orientation = player.equals(game.getWhitePlayer()) ? 'w' : 'r';
+        return new PageKey(game.getGameID(), version, orientation, player.getName());
+    }
+
+    /**
+     * Helper method to get the entity tag of the game page a player would be
+     * shown right now.
+     *
+     * @param game the game being rendered
+     * @param player the player viewing the game
+     * @return the quoted entity tag, or null if the page can't be tagged
+     * @see #pageKey(Game, Player)
+     */
+    static String entityTag(Game game, Player player) {
+        PageKey key = pageKey(game, player);
+        return key == null ? null : key.entityTag();
+    }
+
+    /**
+     * Helper method to escape a name for an entity tag, which can't hold
+     * quotes, spaces or control characters. Letters and digits are kept and
+     * every other byte of the name's UTF-8 is written as %XX, so different
+     * names always escape differently.
+     *
+     * @param name the name
+     * @return the escaped name
+     */
+    static String escapeForTag(String name) {
+        StringBuilder escaped = new StringBuilder(name.length());
+        for (byte b : name.getBytes(StandardCharsets.UTF_8)) {
+            char c = (char) (b & 0xff);
+            if ((c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9')) {
+                escaped.append(c);
+            } else {
+                escaped.append('%').append(HEX_DIGITS[c >> 4]).append(HEX_DIGITS[c & 0xf]);
+            }
+        }
+        return escaped.toString();
+    }
+
+    /**
+     * Helper method to check if the browser already has a page with the
+     * given entity tag.
+     *
+     * @param ifNoneMatch the request's If-None-Match header
+     * @param tag the entity tag of the current page
+     * @return true if one of the browser's tags is the current one
+     */
+    static boolean matches(String ifNoneMatch, String tag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            candidate = candidate.trim();
+            // A weak tag is just as good for a page that is only compared
+            if (candidate.startsWith("W/")) {
+                candidate = candidate.substring(2);
+            }
+            if (candidate.equals(tag) || candidate.equals("*")) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Helper method to answer with the game page, or with 304 Not Modified
+     * if the browser already has the current one. Requests for the same
+     * page that arrive together share one render.
+     *
+     * @param request the HTTP request
+     * @param response the HTTP response
+     * @param game the game being rendered
+     * @param player the player viewing the game
+     * @return the rendered game template, or an empty body
+     */
+    private String respondWithGame(Request request, Response response, Game game, Player player) {
+        PageKey key = pageKey(game, player);
+        if (key != null) {
+            String tag = key.entityTag();
+            response.header(ETAG_HEADER, tag);
+            response.header(CACHE_CONTROL_HEADER, REVALIDATE);
+            if (matches(request.headers(IF_NONE_MATCH_HEADER), tag)) {
+                response.status(304);
+                return "";
+            }
+            return renderCoalescer.render(key, () -> renderGame(game, player));
+        }
+        return renderGame(game, player);
+    }
+
+    /**
+     * Gets the cache of rendered boards, to look at its hits and misses.
+     *
+     * @return the board fragment cache
+     */
+    BoardFragmentCache getBoardFragments() {
+        return boardFragments;
+    }
+
     private String redirectToHome(Player currentPlayer, String message) {
         // Template set-up
         Map<String, Object> vm = new HashMap<>();
@@ -253,7 +386,7 @@ public class GetGameRoute implements Route{
 
         // Check if the players are already in a game with each other
         if (playerLobby.getGame(thisPlayer) != null) {
-            return renderGame(playerLobby.getGame(thisPlayer), thisPlayer);
+            return respondWithGame(request, response, playerLobby.getGame(thisPlayer), thisPlayer);
         }
         // Players are not in a game with each other, we are starting a new game
 
@@ -264,7 +397,7 @@ public class GetGameRoute implements Route{
             if (id != null) {
                 playerLobby.changeGame(thisPlayer, Integer.parseInt(id));
                 Game game = playerLobby.getGame(thisPlayer);
-                return renderGame(game, thisPlayer);
+                return respondWithGame(request, response, game, thisPlayer);
 
             } else {
                 return redirectToHome(thisPlayer, NO_USERNAME_SELECTED);
@@ -278,7 +411,50 @@ public class GetGameRoute implements Route{
 
         // Start new game
         Game game = playerLobby.startGame(thisPlayer, opponentPlayer);
-        return renderGame(game, thisPlayer);
+        return respondWithGame(request, response, game, thisPlayer);
+
+    }
+
+    /**
+     * What a player's game page is made from: the game, its version, which
+     * way up the board is and whose page it is.
+     */
+    static final class PageKey {
+        private final int gameID;
+        private final long version;
+        private final char orientation;
+        private final String playerName;
+
+        PageKey(int gameID, long version, char orientation, String playerName) {
+            this.gameID = gameID;
+            this.version = version;
+            this.orientation = orientation;
+            this.playerName = playerName;
+        }
 
+        /**
+         * @return the quoted entity tag of the page
+         */
+        String entityTag() {
+            return "\"" + gameID + "-" + version + "-" + orientation + "-" + escapeForTag(playerName) + "\"";
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof PageKey)) {
+                return false;
+            }
+            PageKey other = (PageKey) obj;
+            return gameID == other.gameID && version == other.version
+                && orientation == other.orientation && Objects.equals(playerName, other.playerName);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(gameID, version, orientation, playerName);
+        }
     }
 }
@@ -0,0 +1,215 @@
+package com.webcheckers.ui;
+
+import com.google.gson.Gson;
+import com.webcheckers.appl.PlayerLobby;
+import com.webcheckers.appl.SpectatorCenter;
+import com.webcheckers.model.BitBoard;
+import com.webcheckers.model.Board;
+import com.webcheckers.model.BoardDeltas;
+import com.webcheckers.model.Game;
+import com.webcheckers.model.GameSnapshot;
+import com.webcheckers.model.Piece;
+import com.webcheckers.model.Player;
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.logging.Logger;
+import spark.Request;
+import spark.Response;
+import spark.Route;
+
+/**
+ * The {@code GET /game/state} route handler. Answers with the state of a
+ * game as a small JSON object, so the page can bring its board up to date
+ * without reloading.
+ *
+ * <p>
+ * The board is sent as its 32 black spaces, numbered as in {@link BitBoard},
+ * one character each: {@code .} for an empty space, {@code r} and {@code w}
+ * for single pieces and {@code R} and {@code W} for kings. When the request
+ * gives the version it last saw in the {@code since} query parameter, and the
+ * game still remembers what changed since then, only the changed spaces are
+ * sent, by number, in {@code changes} instead of {@code board}. Either way
+ * the answer carries the game's version, whose turn it is, its state and the
+ * winner, if there is one.
+ * </p>
+ *
+ * <p>
+ * A player gets the game they are looking at; a spectator passes the game's
+ * ID in the {@code gameID} query parameter, and is answered from the shared
+ * snapshot the {@link SpectatorCenter} keeps of the game, without reading
+ * the game itself.
+ * </p>
+ */
+public class GetGameStateRoute implements Route {
+    private static final Logger LOG = Logger.getLogger(GetGameStateRoute.class.getName());
+
+    //
+    // Constants
+    //
+    static final String SINCE_PARAM = "since";
+    static final String GAME_ID_PARAM = "gameID";
+
+    static final char EMPTY = '.';
+    static final char RED = 'r';
+    static final char RED_KING = 'R';
+    static final char WHITE = 'w';
+    static final char WHITE_KING = 'W';
+
+    //
+    // Attributes
+    //
+    private final PlayerLobby playerLobby;
+    private final SpectatorCenter spectatorCenter;
+    private final Gson gson;
+
+    //
+    // Constructor
+    //
+    public GetGameStateRoute(PlayerLobby playerLobby, SpectatorCenter spectatorCenter, Gson gson) {
+        Objects.requireNonNull(playerLobby, "playerLobby must not be null");
+        Objects.requireNonNull(spectatorCenter, "spectatorCenter must not be null");
+        Objects.requireNonNull(gson, "gson must not be null");
+
+        this.playerLobby = playerLobby;
+        this.spectatorCenter = spectatorCenter;
+        this.gson = gson;
+
+        LOG.config("GetGameStateRoute is initialized");
+    }
+
+    //
+    // Methods
+    //
+    @Override
+    public Object handle(Request request, Response response) throws IOException {
+        Player viewer = playerLobby.getPlayerBySessionID(request.session().id());
+        if (viewer == null) {
+            response.status(401);
+            return "";
+        }
+        Game game = findGame(viewer, request.queryParams(GAME_ID_PARAM));
+        if (game == null) {
+            response.status(404);
+            return "";
+        }
+
+        long since = parseVersion(request.queryParams(SINCE_PARAM));
+        StateData state;
+        if (viewer.equals(game.getRedPlayer()) || viewer.equals(game.getWhitePlayer())) {
+            state = snapshot(game, since);
+        } else {
+            GameSnapshot watched = spectatorCenter.startWatching(viewer, game.getGameID());
+            if (watched == null) {
+                // Too many watchers already
+                response.status(503);
+                return "";
+            }
+            state = snapshot(watched, since);
+        }
+
+        response.header("Cache-Control", "no-cache");
+        return JsonCodec.respond(gson, response, state, StateData.class);
+    }
+
+    private Game findGame(Player viewer, String gameIDParam) {
+        if (gameIDParam == null) {
+            return playerLobby.getGame(viewer);
+        }
+        try {
+            return playerLobby.getGameByID(Integer.parseInt(gameIDParam));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private static long parseVersion(String since) {
+        if (since == null) {
+            return BoardDeltas.UNKNOWN;
+        }
+        try {
+            return Long.parseLong(since);
+        } catch (NumberFormatException e) {
+            // Answer with the whole board
+            return BoardDeltas.UNKNOWN;
+        }
+    }
+
+    /**
+     * Read the game under its lock, so the answer describes a single version
+     */
+    static StateData snapshot(Game game, long since) {
+        synchronized (game) {
+            Board board = game.getBoard();
+            return new StateData(game.getVersion(), game.getTurn(), game.getState(), game.getWinningPlayerName(),
+                board.getPieceMask(Piece.PColor.red), board.getPieceMask(Piece.PColor.white), board.getKingMask(),
+                since < 0 ? BoardDeltas.UNKNOWN : game.getChangedSquares(since));
+        }
+    }
+
+    /**
+     * Answer from a snapshot of the game, which needs no lock
+     */
+    static StateData snapshot(GameSnapshot snapshot, long since) {
+        return new StateData(snapshot.getVersion(), snapshot.getTurn(), snapshot.getState(), snapshot.getWinnerName(),
+            snapshot.getPieceMask(Piece.PColor.red), snapshot.getPieceMask(Piece.PColor.white), snapshot.getKingMask(),
+            since < 0 ? BoardDeltas.UNKNOWN : snapshot.getChangedSquares(since));
+    }
+
+    /**
+     * Get the character for a black space
+     * @param square the number of the space
+     * @param red the red pieces
+     * @param white the white pieces
+     * @param kings the kings
+     * @return the character for the piece on the space
+     */
+    static char encode(int square, int red, int white, int kings) {
+        int bit = 1 << square;
+        boolean king = (kings & bit) != 0;
+        if ((red & bit) != 0) {
+            return king ? RED_KING : RED;
+        } else if ((white & bit) != 0) {
+            return king ? WHITE_KING : WHITE;
+        }
+        return EMPTY;
+    }
+
+    /**
+     * The data sent back; either {@code board} or {@code changes} is set
+     */
+    static class StateData {
+        final long version;
+        final Game.Turn turn;
+        final Game.State state;
+        final String winner;
+        final String board;
+        final Map<String, String> changes;
+
+        StateData(long version, Game.Turn turn, Game.State state, String winner,
+                  int red, int white, int kings, int changed) {
+            this.version = version;
+            this.turn = turn;
+            this.state = state;
+            this.winner = winner;
+
+            if (changed == BoardDeltas.UNKNOWN) {
+                char[] squares = new char[BitBoard.SQUARES];
+                for (int square = 0; square < squares.length; square++) {
+                    squares[square] = encode(square, red, white, kings);
+                }
+                this.board = new String(squares);
+                this.changes = null;
+            } else {
+                this.board = null;
+                this.changes = new LinkedHashMap<>();
+                while (changed != 0) {
+                    int square = Integer.numberOfTrailingZeros(changed);
+                    this.changes.put(Integer.toString(square), String.valueOf(encode(square, red, white, kings)));
+                    changed &= changed - 1;
+                }
+            }
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package com.webcheckers.ui;
 
 import com.webcheckers.appl.PlayerLobby;
+import com.webcheckers.appl.SpectatorCenter;
 
 import com.webcheckers.model.Player;
 import java.util.ArrayList;
@@ -40,11 +41,17 @@ public class GetHomeRoute implements Route {
     static final String NUM_SIGNED_IN = "numPlayersOnline" ;
     static final String TEMPLATE_NAME = "home.ftl";
     static final String MESSAGE_ATTR = "message";
+    static final String WATCHABLE_GAME_IDS = "watchableGameIDs";
+    static final String WATCHABLE_GAME_NAMES = "watchableGameNames";
+
+    /** The most games offered to watch */
+    static final int FEATURED_GAMES = 10;
 
     //
     // Attributes
     //
     private final PlayerLobby playerLobby;
+    private final SpectatorCenter spectatorCenter;
     private final TemplateEngine templateEngine;
 
     /**
@@ -52,14 +59,18 @@ public class GetHomeRoute implements Route {
      * {@code GET /} HTTP request.
      *
      * @param playerLobby    The backend model that will be the master model for the game
+     * @param spectatorCenter the games being watched, for offering games to watch
      * @param templateEngine the HTML template rendering engine
      */
-    public GetHomeRoute(final PlayerLobby playerLobby, final TemplateEngine templateEngine) {
+    public GetHomeRoute(final PlayerLobby playerLobby, final SpectatorCenter spectatorCenter,
+                        final TemplateEngine templateEngine) {
         // validation
         Objects.requireNonNull(playerLobby, "playerLobby must not be null");
+        Objects.requireNonNull(spectatorCenter, "spectatorCenter must not be null");
         Objects.requireNonNull(templateEngine, "templateEngine must not be null");
         //
         this.playerLobby = playerLobby;
+        this.spectatorCenter = spectatorCenter;
         this.templateEngine = templateEngine;
         //
         LOG.config("GetHomeRoute is initialized.");
@@ -111,6 +122,16 @@ public class GetHomeRoute implements Route {
             vm.put(SIGNED_IN_PLAYERS, onlinePlayers);
             vm.put(CURRENT_GAME_IDS, thisPlayer.getCurrentGameIDs());
             vm.put(CURRENT_GAME_OPPONENT_NAMES, thisPlayer.getCurrentOpponentNames());
+
+            // other people's games, the most watched first
+            ArrayList<Integer> watchableIDs = new ArrayList<>();
+            ArrayList<String> watchableNames = new ArrayList<>();
+            for (Game game : spectatorCenter.getFeaturedGames(thisPlayer, FEATURED_GAMES)) {
+                watchableIDs.add(game.getGameID());
+                watchableNames.add(game.getRedPlayer().getName() + " vs " + game.getWhitePlayer().getName());
+            }
+            vm.put(WATCHABLE_GAME_IDS, watchableIDs);
+            vm.put(WATCHABLE_GAME_NAMES, watchableNames);
             vm.put(IS_SIGNED_IN, true);
         } else {
             LOG.finer("New, non-registered player joined");
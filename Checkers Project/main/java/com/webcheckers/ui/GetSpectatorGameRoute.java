@@ -0,0 +1,213 @@
+package com.webcheckers.ui;
+
+import static spark.Spark.halt;
+
+import com.webcheckers.appl.PlayerLobby;
+import com.webcheckers.appl.SpectatorCenter;
+import com.webcheckers.model.Game;
+import com.webcheckers.model.GameSnapshot;
+import com.webcheckers.model.Player;
+import com.webcheckers.ui.Message.MessageType;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Logger;
+import spark.ModelAndView;
+import spark.Request;
+import spark.Response;
+import spark.Route;
+import spark.TemplateEngine;
+
+/**
+ * The {@code GET /spectator/game} route handler. Shows a game, by the ID in
+ * the {@code gameID} query parameter, to someone who isn't playing in it.
+ *
+ * <p>
+ * The page doesn't say who is watching, so every watcher of a game is sent
+ * the same page for each version of it. The page is rendered once from the
+ * game's shared {@link GameSnapshot} and kept until the game changes, and a
+ * browser that already has it is answered {@code 304 Not Modified}.
+ * </p>
+ */
+public class GetSpectatorGameRoute implements Route {
+    private static final Logger LOG = Logger.getLogger(GetSpectatorGameRoute.class.getName());
+
+    //
+    // Constants
+    //
+    static final String GAME_ID_PARAM = "gameID";
+    static final String TEMPLATE_NAME = "spectator.ftl";
+    static final String TITLE = "Spectating";
+    static final String GAME_ID_ATTR = "gameID";
+    static final String VERSION_ATTR = "version";
+
+    static final String WINNER_MSG = "%s has won the game.";
+    static final String PLAYER_LEFT_MSG = "%s has left the game.";
+
+    /** How many games' pages are kept before those nobody watches are dropped */
+    static final int MAX_PAGES = 256;
+
+    //
+    // Attributes
+    //
+    private final PlayerLobby playerLobby;
+    private final SpectatorCenter spectatorCenter;
+    private final TemplateEngine templateEngine;
+    private final RenderCoalescer<String> renderCoalescer = new RenderCoalescer<>();
+    private final BoardFragmentCache boardFragments;
+
+    /** The last page rendered for each watched game, by game ID */
+    private final Map<Integer, RenderedPage> pages = new ConcurrentHashMap<>();
+
+    //
+    // Constructor
+    //
+    /**
+     * Create the route
+     * @param playerLobby the lobby the games are found in
+     * @param spectatorCenter keeps track of who is watching which game
+     * @param templateEngine renders the page
+     * @param boardFragments the board fragments, shared with the players'
+     *      game page
+     */
+    GetSpectatorGameRoute(PlayerLobby playerLobby, SpectatorCenter spectatorCenter,
+                          TemplateEngine templateEngine, BoardFragmentCache boardFragments) {
+        Objects.requireNonNull(playerLobby, "playerLobby must not be null");
+        Objects.requireNonNull(spectatorCenter, "spectatorCenter must not be null");
+        Objects.requireNonNull(templateEngine, "templateEngine must not be null");
+        Objects.requireNonNull(boardFragments, "boardFragments must not be null");
+
+        this.playerLobby = playerLobby;
+        this.spectatorCenter = spectatorCenter;
+        this.templateEngine = templateEngine;
+        this.boardFragments = boardFragments;
+
+        LOG.config("GetSpectatorGameRoute is initialized");
+    }
+
+    //
+    // Methods
+    //
+
+    /**
+     * Show the game being watched
+     * @param request the HTTP request
+     * @param response the HTTP response
+     * @return the rendered page, or an empty body
+     */
+    @Override
+    public Object handle(Request request, Response response) {
+        Player viewer = playerLobby.getPlayerBySessionID(request.session().id());
+        Integer gameID = parseGameID(request.queryParams(GAME_ID_PARAM));
+        if (viewer == null || gameID == null) {
+            return redirect(response, WebServer.HOME_URL);
+        }
+
+        // The players have their own page
+        Game game = playerLobby.getGameByID(gameID);
+        if (game != null && (viewer.equals(game.getRedPlayer()) || viewer.equals(game.getWhitePlayer()))) {
+            return redirect(response, WebServer.GAME_URL + "?id=" + gameID);
+        }
+
+        GameSnapshot snapshot = spectatorCenter.startWatching(viewer, gameID);
+        if (snapshot == null) {
+            // The game is gone, or has too many watchers already
+            return redirect(response, WebServer.HOME_URL);
+        }
+        spectatorCenter.markSeen(viewer, gameID, snapshot.getVersion());
+
+        String tag = entityTag(snapshot);
+        response.header(GetGameRoute.ETAG_HEADER, tag);
+        response.header(GetGameRoute.CACHE_CONTROL_HEADER, GetGameRoute.REVALIDATE);
+        if (GetGameRoute.matches(request.headers(GetGameRoute.IF_NONE_MATCH_HEADER), tag)) {
+            response.status(304);
+            return "";
+        }
+        return page(snapshot, tag);
+    }
+
+    static Integer parseGameID(String param) {
+        if (param == null) {
+            return null;
+        }
+        try {
+            return Integer.parseInt(param.trim());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private static Object redirect(Response response, String url) {
+        response.redirect(url);
+        halt();
+        return null;
+    }
+
+    /**
+     * Get the entity tag of the page for a version of a game, which is the
+     * same for every watcher
+     * @param snapshot the game
+     * @return the quoted entity tag
+     */
+    static String entityTag(GameSnapshot snapshot) {
+        return "\"s" + snapshot.getGameID() + "-" + snapshot.getVersion() + "\"";
+    }
+
+    /**
+     * Get the page for a snapshot, rendering it only if no watcher has been
+     * sent this version yet
+     */
+    private String page(GameSnapshot snapshot, String tag) {
+        int gameID = snapshot.getGameID();
+        RenderedPage page = pages.get(gameID);
+        if (page != null && page.version == snapshot.getVersion()) {
+            return page.html;
+        }
+
+        String html = renderCoalescer.render(tag, () -> render(snapshot));
+        // Never replace a newer page with an older one
+        pages.merge(gameID, new RenderedPage(snapshot.getVersion(), html),
+            (kept, rendered) -> kept.version > rendered.version ? kept : rendered);
+        if (pages.size() > MAX_PAGES) {
+            pages.keySet().removeIf(id -> spectatorCenter.getWatcherCount(id) == 0);
+        }
+        return html;
+    }
+
+    private String render(GameSnapshot snapshot) {
+        final Map<String, Object> vm = new HashMap<>();
+        vm.put(GetGameRoute.TITLE_ATTR, TITLE);
+        vm.put(GetGameRoute.VIEW_MODE_ATTR, GetGameRoute.View.SPECTATOR);
+        vm.put(GetGameRoute.RED_PLAYER_ATTR, snapshot.getRedPlayerName());
+        vm.put(GetGameRoute.WHITE_PLAYER_ATTR, snapshot.getWhitePlayerName());
+        vm.put(GetGameRoute.ACTIVE_COLOR_ATTR, snapshot.getTurn());
+        vm.put(GAME_ID_ATTR, Integer.toString(snapshot.getGameID()));
+        vm.put(VERSION_ATTR, Long.toString(snapshot.getVersion()));
+        // Spectators see the board the way up red does
+        vm.put(GetGameRoute.BOARD_HTML_ATTR, boardFragments.render(snapshot, false));
+
+        if (snapshot.getWinnerName() != null) {
+            vm.put(GetGameRoute.MESSAGE_ATTR,
+                new Message(String.format(WINNER_MSG, snapshot.getWinnerName()), MessageType.info));
+        } else if (snapshot.getResignedPlayerName() != null) {
+            vm.put(GetGameRoute.MESSAGE_ATTR,
+                new Message(String.format(PLAYER_LEFT_MSG, snapshot.getResignedPlayerName()), MessageType.info));
+        }
+
+        return templateEngine.render(new ModelAndView(vm, TEMPLATE_NAME));
+    }
+
+    /**
+     * A page and the version of the game it shows
+     */
+    private static final class RenderedPage {
+        final long version;
+        final String html;
+
+        RenderedPage(long version, String html) {
+            this.version = version;
+            this.html = html;
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.webcheckers.ui;
+
+import static spark.Spark.halt;
+
+import com.webcheckers.appl.PlayerLobby;
+import com.webcheckers.appl.SpectatorCenter;
+import com.webcheckers.model.Player;
+import java.util.Objects;
+import spark.Request;
+import spark.Response;
+import spark.Route;
+
+/** UI Controller to GET the home page after watching a game */
+public class GetSpectatorStopWatchingRoute implements Route {
+    //
+    // Attributes
+    //
+    private final PlayerLobby playerLobby;
+    private final SpectatorCenter spectatorCenter;
+
+    //
+    // Constructor
+    //
+    public GetSpectatorStopWatchingRoute(PlayerLobby playerLobby, SpectatorCenter spectatorCenter) {
+        Objects.requireNonNull(playerLobby, "playerLobby cannot be null");
+        Objects.requireNonNull(spectatorCenter, "spectatorCenter cannot be null");
+
+        this.playerLobby = playerLobby;
+        this.spectatorCenter = spectatorCenter;
+    }
+
+    //
+    // Methods
+    //
+
+    /**
+     * Stops the user watching the game in the {@code gameID} query parameter
+     * and sends them home
+     *
+     * @param request the HTTP request
+     * @param response the HTTP response
+     * @return nothing, since the user is redirected
+     */
+    public Object handle(Request request, Response response) {
+        Player viewer = playerLobby.getPlayerBySessionID(request.session().id());
+        Integer gameID = GetSpectatorGameRoute.parseGameID(request.queryParams(GetSpectatorGameRoute.GAME_ID_PARAM));
+        if (viewer != null && gameID != null) {
+            spectatorCenter.stopWatching(viewer, gameID);
+        }
+        response.redirect(WebServer.HOME_URL);
+        halt();
+        return null;
+    }
+}
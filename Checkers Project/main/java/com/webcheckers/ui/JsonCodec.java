@@ -0,0 +1,226 @@
+package com.webcheckers.ui;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import com.webcheckers.model.Move;
+import com.webcheckers.model.Position;
+import com.webcheckers.ui.Message.MessageType;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import javax.servlet.http.HttpServletResponse;
+import spark.Response;
+
+/**
+ * The JSON the server and the page exchange over Ajax.
+ *
+ * <p>
+ * {@link #GSON} is built once and shared, since a {@link Gson} is safe to use
+ * from many threads. {@link Message} and {@link Move}, which every turn
+ * request reads or writes, have their own type adapters instead of going
+ * through reflection. {@link #respond} writes straight into the response's
+ * output stream rather than building a {@code String} for Spark to copy.
+ * </p>
+ *
+ * <p>
+ * Most Ajax answers are one of a few fixed messages. Those are registered
+ * with {@link #preencode} when their constants are made, and are then sent
+ * as the same bytes every time, with a {@code Content-Length}.
+ * </p>
+ */
+public final class JsonCodec {
+    //
+    // Constants
+    //
+    public static final String CONTENT_TYPE = "application/json";
+
+    /** The shared Gson, for the routes and the controllers */
+    public static final Gson GSON = new GsonBuilder()
+        .registerTypeAdapter(Message.class, new MessageAdapter().nullSafe())
+        .registerTypeHierarchyAdapter(Move.class, new MoveAdapter().nullSafe())
+        .create();
+
+    /** The bytes of the fixed messages, which never change once added */
+    private static final Map<Message, byte[]> PREENCODED = new ConcurrentHashMap<>();
+
+    private JsonCodec() {
+        // Only static members
+    }
+
+    //
+    // Methods
+    //
+
+    /**
+     * Write a message as the JSON body of a response
+     * @param response the response
+     * @param message the message
+     * @return the value for the route to return, now that the body is written
+     */
+    public static Object respond(Response response, Message message) throws IOException {
+        byte[] body = PREENCODED.get(message);
+        if (body != null) {
+            return respond(response, body);
+        }
+        return write(GSON, response, message, Message.class);
+    }
+
+    /**
+     * Register a fixed message, encoding it once so it can be sent as is
+     * @param message the message
+     * @return the message, for declaring a constant with
+     */
+    public static Message preencode(Message message) {
+        PREENCODED.computeIfAbsent(message, m -> GSON.toJson(m, Message.class).getBytes(StandardCharsets.UTF_8));
+        return message;
+    }
+
+    /**
+     * Get the encoded bytes of a fixed message
+     * @param message the message
+     * @return the bytes, or null if the message was not registered
+     */
+    static byte[] getPreencoded(Message message) {
+        return PREENCODED.get(message);
+    }
+
+    /**
+     * Write JSON that is already encoded as the body of a response
+     * @param response the response
+     * @param body the encoded JSON
+     * @return the value for the route to return, now that the body is written
+     */
+    public static Object respond(Response response, byte[] body) throws IOException {
+        response.type(CONTENT_TYPE);
+        HttpServletResponse raw = response.raw();
+        raw.setContentLength(body.length);
+        raw.getOutputStream().write(body);
+        return "";
+    }
+
+    /**
+     * Write a value as the JSON body of a response
+     * @param gson the Gson to write with
+     * @param response the response
+     * @param value the value
+     * @param type the type to write the value as
+     * @return the value for the route to return, now that the body is written
+     */
+    public static Object respond(Gson gson, Response response, Object value, Type type) throws IOException {
+        if (gson == GSON && value instanceof Message) {
+            return respond(response, (Message) value);
+        }
+        return write(gson, response, value, type);
+    }
+
+    private static Object write(Gson gson, Response response, Object value, Type type) throws IOException {
+        response.type(CONTENT_TYPE);
+        Writer out = new OutputStreamWriter(response.raw().getOutputStream(), StandardCharsets.UTF_8);
+        gson.toJson(value, type, gson.newJsonWriter(out));
+        out.flush();
+        return "";
+    }
+
+    /**
+     * Writes a {@link Message} as {@code {"text":...,"type":...}}
+     */
+    static class MessageAdapter extends TypeAdapter<Message> {
+        @Override
+        public void write(JsonWriter out, Message message) throws IOException {
+            out.beginObject();
+            out.name("text").value(message.getText());
+            out.name("type").value(message.getType() == null ? null : message.getType().name());
+            out.endObject();
+        }
+
+        @Override
+        public Message read(JsonReader in) throws IOException {
+            String text = null;
+            MessageType type = MessageType.info;
+            in.beginObject();
+            while (in.hasNext()) {
+                String name = in.nextName();
+                if (in.peek() == JsonToken.NULL) {
+                    in.nextNull();
+                } else if ("text".equals(name)) {
+                    text = in.nextString();
+                } else if ("type".equals(name)) {
+                    type = MessageType.valueOf(in.nextString());
+                } else {
+                    in.skipValue();
+                }
+            }
+            in.endObject();
+            return new Message(text, type);
+        }
+    }
+
+    /**
+     * Reads and writes a {@link Move} as
+     * {@code {"start":{"row":...,"cell":...},"end":{"row":...,"cell":...}}},
+     * reading it as the kind of move its spaces make
+     */
+    static class MoveAdapter extends TypeAdapter<Move> {
+        @Override
+        public void write(JsonWriter out, Move move) throws IOException {
+            out.beginObject();
+            writePosition(out.name("start"), move.getStart());
+            writePosition(out.name("end"), move.getEnd());
+            out.endObject();
+        }
+
+        @Override
+        public Move read(JsonReader in) throws IOException {
+            int[] start = null;
+            int[] end = null;
+            in.beginObject();
+            while (in.hasNext()) {
+                String name = in.nextName();
+                if ("start".equals(name)) {
+                    start = readPosition(in);
+                } else if ("end".equals(name)) {
+                    end = readPosition(in);
+                } else {
+                    in.skipValue();
+                }
+            }
+            in.endObject();
+            if (start == null || end == null) {
+                throw new IOException("A move needs a start and an end at " + in.getPath());
+            }
+            return Move.between(start[0], start[1], end[0], end[1]);
+        }
+
+        private static void writePosition(JsonWriter out, Position position) throws IOException {
+            out.beginObject();
+            out.name("row").value(position.getRow());
+            out.name("cell").value(position.getCell());
+            out.endObject();
+        }
+
+        private static int[] readPosition(JsonReader in) throws IOException {
+            int[] position = new int[2];
+            in.beginObject();
+            while (in.hasNext()) {
+                String name = in.nextName();
+                if ("row".equals(name)) {
+                    position[0] = in.nextInt();
+                } else if ("cell".equals(name)) {
+                    position[1] = in.nextInt();
+                } else {
+                    in.skipValue();
+                }
+            }
+            in.endObject();
+            return position;
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package com.webcheckers.ui;
 
+import java.util.Objects;
+
 /**
  * A special data type required by the {@code game.ftl} template for rendering
  * messages from the server to the user.
@@ -47,4 +49,21 @@ public class Message {
     public MessageType getType() {
         return this.type;
     }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof Message)) {
+            return false;
+        }
+        Message other = (Message) obj;
+        return Objects.equals(this.text, other.text) && this.type == other.type;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(this.text, this.type);
+    }
 }
@@ -3,8 +3,8 @@ package com.webcheckers.ui;
 import com.webcheckers.model.Piece;
 
 public class PieceView {
-    private Color color;
-    private Type type;
+    private final Color color;
+    private final Type type;
 
     /**
      * Piece is either red or white
@@ -20,6 +20,12 @@ public class PieceView {
         SINGLE, KING;
     }
 
+    /** The four kinds of piece, shared by every board, by color then type */
+    private static final PieceView[] PIECES = {
+        new PieceView(Color.RED, Type.SINGLE), new PieceView(Color.RED, Type.KING),
+        new PieceView(Color.WHITE, Type.SINGLE), new PieceView(Color.WHITE, Type.KING)
+    };
+
     /**
      * Creates a new PieceView
      * @param color color of the piece, red or white
@@ -50,6 +56,33 @@ public class PieceView {
         }
     }
 
+    /**
+     * Gets the shared PieceView of a kind of piece
+     * @param color color of the piece, red or white
+     * @param type type of the piece, single or king
+     * @return the PieceView, the same one every time
+     */
+    public static PieceView of(Color color, Type type) {
+        return PIECES[index(color, type)];
+    }
+
+    /**
+     * Gets the shared PieceView of a model-tier piece
+     * @param piece the model-tier representation of the piece
+     * @return the PieceView, the same one for every piece of its kind
+     */
+    public static PieceView of(Piece piece) {
+        return of(piece.isRed() ? Color.RED : Color.WHITE, piece.isKing() ? Type.KING : Type.SINGLE);
+    }
+
+    /**
+     * Gets the place of a kind of piece among the four kinds
+     * @return a number from 0 to 3
+     */
+    static int index(Color color, Type type) {
+        return color.ordinal() << 1 | type.ordinal();
+    }
+
     /**
      * Gets this piece's type
      * @return type of piece
@@ -72,7 +105,10 @@ public class PieceView {
         if (!(o instanceof PieceView)) return false;
         final PieceView that = (PieceView) o;
         return (this.color == that.color && this.type == that.type);
+    }
 
-
+    @Override
+    public int hashCode() {
+        return index(color, type);
     }
 }
@@ -5,12 +5,9 @@ import static spark.Spark.halt;
 import com.webcheckers.appl.PlayerLobby;
 import com.webcheckers.appl.TurnController;
 import com.webcheckers.model.Game;
-import com.webcheckers.model.JumpMove;
-import com.webcheckers.model.Move;
 import com.webcheckers.model.Player;
-import com.webcheckers.model.SimpleMove;
-import com.webcheckers.ui.Message.MessageType;
 import java.awt.geom.RectangularShape;
+import java.io.IOException;
 import java.util.Objects;
 import spark.Request;
 import spark.Response;
@@ -22,28 +19,35 @@ public class PostBackupMoveRoute implements Route {
   //
   // Constants
   //
-  private static final String SUCCESS_MESSAGE_SIMPLE = "Simple move undone.";
-  private static final String SUCCESS_MESSAGE_JUMP = "Jump move undone.";
-  private static final String ERROR_MESSAGE = "No moves to undo.";
+  static {
+    // The fixed answers to a backup, encoded once
+    JsonCodec.preencode(TurnController.BACKUP_SIMPLE_MESSAGE);
+    JsonCodec.preencode(TurnController.BACKUP_JUMP_MESSAGE);
+    JsonCodec.preencode(TurnController.BACKUP_NONE_MESSAGE);
+    JsonCodec.preencode(TurnController.BACKUP_UNKNOWN_MESSAGE);
+  }
 
   //
   // Attributes
   //
   private PlayerLobby playerLobby;
+  private TurnController turnController;
 
   //
   // Constructor
   //
-  public PostBackupMoveRoute(PlayerLobby playerLobby) {
+  public PostBackupMoveRoute(PlayerLobby playerLobby, TurnController turnController) {
     Objects.requireNonNull(playerLobby, "playerLobby cannot be null");
+    Objects.requireNonNull(turnController, "turnController cannot be null");
     this.playerLobby = playerLobby;
+    this.turnController = turnController;
   }
 
   //
   // Methods
   //
   @Override
-  public Object handle(Request request, Response response) {
+  public Object handle(Request request, Response response) throws IOException {
     final Session httpSession = request.session();
     final String sessionID = httpSession.id();
 
@@ -57,20 +61,7 @@ public class PostBackupMoveRoute implements Route {
     }
 
     Game game = playerLobby.getGame(thisPlayer);
-    TurnController turnController = new TurnController(playerLobby);
-
-    Move move = turnController.backupMove(game);
-
-    if(move == null) {
-      return turnController.MessageFromModeltoUI(new Message(ERROR_MESSAGE, MessageType.error));
-    }
-    if(move instanceof SimpleMove) {
-      return turnController.MessageFromModeltoUI(new Message(SUCCESS_MESSAGE_SIMPLE, MessageType.info));
-    }
-    if(move instanceof JumpMove) {
-      return turnController.MessageFromModeltoUI(new Message(SUCCESS_MESSAGE_JUMP, MessageType.info));
-    }
-    return turnController.MessageFromModeltoUI(new Message("Unknown error", MessageType.error));
+    return JsonCodec.respond(response, turnController.handleBackup(game));
   }
 
 }
@@ -4,36 +4,72 @@ import static com.webcheckers.ui.WebServer.HOME_URL;
 import static spark.Spark.halt;
 
 import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
 import com.webcheckers.appl.PlayerLobby;
 import com.webcheckers.model.Game;
 import com.webcheckers.model.Game.State;
 import com.webcheckers.model.Player;
 import com.webcheckers.ui.Message.MessageType;
+import java.io.IOException;
 import java.util.Objects;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
+import javax.servlet.AsyncContext;
+import javax.servlet.AsyncEvent;
+import javax.servlet.AsyncListener;
+import javax.servlet.ServletOutputStream;
+import javax.servlet.WriteListener;
 import spark.Request;
 import spark.Response;
 import spark.Route;
 import spark.Session;
 
+/**
+ * Answers whether it is the player's turn. With a {@code wait} query
+ * parameter the answer is a long poll: if it isn't the player's turn yet, the
+ * request waits up to that many milliseconds for the turn to pass, a player
+ * to resign or the game's state to change before answering.
+ *
+ * <p>
+ * A waiting request is suspended rather than parked on a thread. The route
+ * returns straight away, leaving the response open, and the answer is
+ * written by whichever comes first: the game's change listener or the
+ * request's timeout. Other changes to the game leave it waiting. The answer
+ * is written with non-blocking I/O, straight away if the connection takes
+ * it, or else when the container says it can, so no thread ever waits on a
+ * browser.
+ * </p>
+ */
 public class PostCheckTurnRoute implements Route {
     private static Logger LOG = Logger.getLogger(PostCheckTurnRoute.class.getName());
 
+    //
+    // Constants
+    //
+    static final String WAIT_PARAM = "wait";
+
+    /** The longest a request will wait, whatever the client asks for */
+    static final long MAX_WAIT_MILLIS = 30000;
+
+    // The only two answers, encoded once
+    static final Message YOUR_TURN = JsonCodec.preencode(new Message(Boolean.toString(true), MessageType.info));
+    static final Message NOT_YOUR_TURN = JsonCodec.preencode(new Message(Boolean.toString(false), MessageType.info));
+
     final PlayerLobby playerLobby;
     final Gson gson;
 
     public PostCheckTurnRoute(PlayerLobby playerLobby, Gson gson) {
         Objects.requireNonNull(playerLobby, "playLobby must not be null");
+        Objects.requireNonNull(gson, "gson must not be null");
 
         this.playerLobby = playerLobby;
-        this.gson = new Gson();
+        this.gson = gson;
 
         LOG.config("PostCheckTurnRoute is initialized");
     }
 
     @Override
-    public Object handle(Request request, Response response) {
+    public Object handle(Request request, Response response) throws IOException {
         LOG.finer("PostCheckTurnRoute invoked");
         final Session httpSession = request.session();
         final String sessionID = httpSession.id();
@@ -41,6 +77,28 @@ public class PostCheckTurnRoute implements Route {
         Player currentPlayer = playerLobby.getPlayerBySessionID(sessionID);
         Game currentGame = playerLobby.getGame(currentPlayer);
 
+        long waitMillis = waitMillis(request.queryParams(WAIT_PARAM));
+        LongPoll poll;
+        boolean checkTurnResult;
+        synchronized (currentGame) {
+            checkTurnResult = checkTurn(currentGame, currentPlayer);
+            // What the answer depends on, as it was checked
+            poll = new LongPoll(currentGame, currentPlayer);
+        }
+        if (!checkTurnResult && waitMillis > 0) {
+            response.type(JsonCodec.CONTENT_TYPE);
+            poll.start(request.raw().startAsync(), waitMillis);
+            return "";
+        }
+
+        return JsonCodec.respond(gson, response, checkTurnResult ? YOUR_TURN : NOT_YOUR_TURN, Message.class);
+    }
+
+    /**
+     * Check if the player should reload the game, either because it is their
+     * turn or because the game's state has changed
+     */
+    private boolean checkTurn(Game currentGame, Player currentPlayer) {
         // Return true when in ASYNC_START, ASYNC_ACCEPTED, or ASYNC_DENIED
         // states
         switch(currentGame.getState()) {
@@ -49,7 +107,7 @@ public class PostCheckTurnRoute implements Route {
             case ASYNC_ACTIVE:
                 break;
             default:
-                return gson.toJson(new Message("true", MessageType.info), Message.class);
+                return true;
         }
 
         // Check turn is only called within a game, therefore we can check if game == null
@@ -57,9 +115,178 @@ public class PostCheckTurnRoute implements Route {
         boolean checkTurnResult = currentGame.isPlayersTurn(currentPlayer);
         LOG.finer("Player who's turn is being checked for:" + currentPlayer.toString());
         LOG.finer("Result: " + Boolean.toString(checkTurnResult));
+        return checkTurnResult;
+    }
 
-        String text = String.format("%s", Boolean.toString(checkTurnResult));
-        return gson.toJson(new Message(text, MessageType.info), Message.class);
+    /**
+     * Read how long the client is willing to wait for an answer
+     * @return the wait in milliseconds, at most {@link #MAX_WAIT_MILLIS}, or 0
+     *      to answer straight away
+     */
+    static long waitMillis(String param) {
+        if (param == null) {
+            return 0;
+        }
+        try {
+            return Math.max(0, Math.min(Long.parseLong(param), MAX_WAIT_MILLIS));
+        } catch (NumberFormatException e) {
+            return 0;
+        }
     }
 
+    /**
+     * A suspended request waiting for the turn to pass, a player to resign or
+     * the game's state to change. It is answered once, by the first of the
+     * game's change listener and the timeout.
+     */
+    private class LongPoll implements AsyncListener, WriteListener {
+        private final Game game;
+        private final Player player;
+        private final Game.Turn turn;
+        private final State state;
+        private final Player resigned;
+        private final AtomicBoolean answered = new AtomicBoolean(false);
+        // Called holding the game's lock, and only writes without blocking
+        private final Consumer<Game> onChange = changed -> {
+            if (hasMovedOn()) {
+                answer();
+            }
+        };
+        private AsyncContext context;
+
+        /** The answer still to be written, guarded by the poll's lock */
+        private byte[] pending;
+        private ServletOutputStream out;
+
+        /**
+         * Remember what the answer depends on. Called holding the game's lock.
+         */
+        LongPoll(Game game, Player player) {
+            this.game = game;
+            this.player = player;
+            this.turn = game.getTurn();
+            this.state = game.getState();
+            this.resigned = game.getResigningPlayer();
+        }
+
+        /**
+         * Start waiting, unless the game has already moved on
+         * @param context the suspended request
+         * @param waitMillis how long to wait
+         */
+        void start(AsyncContext context, long waitMillis) throws IOException {
+            this.context = context;
+            context.setTimeout(waitMillis);
+            context.addListener(this);
+            // Send the headers now; Spark leaves a committed response alone
+            context.getResponse().flushBuffer();
+            synchronized (this) {
+                out = context.getResponse().getOutputStream();
+                out.setWriteListener(this);
+            }
+            game.addChangeListener(onChange);
+            synchronized (game) {
+                // It may have changed before the listener was added
+                if (hasMovedOn()) {
+                    answer();
+                }
+            }
+        }
+
+        /**
+         * Check if anything the answer depends on has changed
+         */
+        private boolean hasMovedOn() {
+            return game.getTurn() != turn || game.getState() != state || game.getResigningPlayer() != resigned;
+        }
+
+        /**
+         * Write the answer and finish the request, unless it is already done
+         */
+        private void answer() {
+            if (!answered.compareAndSet(false, true)) {
+                return;
+            }
+            game.removeChangeListener(onChange);
+            Message message = checkTurn(game, player) ? YOUR_TURN : NOT_YOUR_TURN;
+            synchronized (this) {
+                pending = JsonCodec.getPreencoded(message);
+                if (!drain()) {
+                    // Written once the connection can take it
+                    return;
+                }
+            }
+            context.complete();
+        }
+
+        /**
+         * Write the answer if the connection will take it without blocking.
+         * Called holding the poll's lock.
+         * @return true once the answer is written, or can't be
+         */
+        private boolean drain() {
+            if (pending == null || out == null) {
+                return false;
+            }
+            try {
+                if (!out.isReady()) {
+                    return false;
+                }
+                out.write(pending);
+            } catch (IOException e) {
+                // The browser went away
+                LOG.finer("Long poll closed: " + e.getMessage());
+            }
+            pending = null;
+            return true;
+        }
+
+        @Override
+        public void onWritePossible() {
+            synchronized (this) {
+                if (!drain()) {
+                    return;
+                }
+            }
+            context.complete();
+        }
+
+        @Override
+        public void onError(Throwable error) {
+            LOG.finer("Long poll closed: " + error.getMessage());
+            finish();
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+            answer();
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+            finish();
+        }
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            game.removeChangeListener(onChange);
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+            // Not restarted
+        }
+
+        /**
+         * Give up on the request without answering it
+         */
+        private void finish() {
+            answered.set(true);
+            game.removeChangeListener(onChange);
+            synchronized (this) {
+                pending = null;
+            }
+            context.complete();
+        }
+    }
 }
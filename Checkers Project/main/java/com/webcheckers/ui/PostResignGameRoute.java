@@ -5,6 +5,7 @@ import com.webcheckers.appl.PlayerLobby;
 import com.webcheckers.model.Game;
 import com.webcheckers.model.Player;
 import com.webcheckers.ui.Message.MessageType;
+import java.io.IOException;
 import java.util.logging.Logger;
 import spark.Request;
 import spark.Response;
@@ -15,6 +16,7 @@ public class PostResignGameRoute implements Route {
     private static Logger LOG = Logger.getLogger(PostResignGameRoute.class.getName());
 
     static final String RESIGNATION_MESSAGE = "You have resigned and lost the game.";
+    private static final Message RESIGNATION = JsonCodec.preencode(new Message(RESIGNATION_MESSAGE, MessageType.info));
 
     //
     // Attributes
@@ -28,7 +30,7 @@ public class PostResignGameRoute implements Route {
     }
 
     @Override
-    public Object handle(Request request, Response response) {
+    public Object handle(Request request, Response response) throws IOException {
         final Session httpSession = request.session();
         final String sessionID = httpSession.id();
 
@@ -37,9 +39,7 @@ public class PostResignGameRoute implements Route {
         playerLobby.resignPlayerFromGame(gameToResignFrom, resigningPlayer);
         LOG.fine(String.format("%s invoked PostResignRoute.", resigningPlayer.getName()));
 
-        Message resignation = new Message(RESIGNATION_MESSAGE, MessageType.info);
-        String jsonResignation = gson.toJson(resignation, Message.class);
-        return jsonResignation;
+        return JsonCodec.respond(gson, response, RESIGNATION, Message.class);
     }
 
 }
@@ -0,0 +1,61 @@
+package com.webcheckers.ui;
+
+import com.webcheckers.appl.PlayerLobby;
+import com.webcheckers.appl.SpectatorCenter;
+import com.webcheckers.model.Player;
+import com.webcheckers.ui.Message.MessageType;
+import java.io.IOException;
+import java.util.Objects;
+import java.util.logging.Logger;
+import spark.Request;
+import spark.Response;
+import spark.Route;
+
+/**
+ * The {@code POST /spectator/checkTurn} route handler. The body is the ID of
+ * the game being watched, and the answer tells whether the game has changed
+ * since the spectator's page was shown. It is answered from the
+ * {@link SpectatorCenter}, without reading the game.
+ */
+public class PostSpectatorCheckTurnRoute implements Route {
+    private static final Logger LOG = Logger.getLogger(PostSpectatorCheckTurnRoute.class.getName());
+
+    //
+    // Constants
+    //
+    // The only two answers, encoded once
+    static final Message CHANGED = JsonCodec.preencode(new Message(Boolean.toString(true), MessageType.info));
+    static final Message NOT_CHANGED = JsonCodec.preencode(new Message(Boolean.toString(false), MessageType.info));
+
+    //
+    // Attributes
+    //
+    private final PlayerLobby playerLobby;
+    private final SpectatorCenter spectatorCenter;
+
+    //
+    // Constructor
+    //
+    public PostSpectatorCheckTurnRoute(PlayerLobby playerLobby, SpectatorCenter spectatorCenter) {
+        Objects.requireNonNull(playerLobby, "playerLobby must not be null");
+        Objects.requireNonNull(spectatorCenter, "spectatorCenter must not be null");
+
+        this.playerLobby = playerLobby;
+        this.spectatorCenter = spectatorCenter;
+
+        LOG.config("PostSpectatorCheckTurnRoute is initialized");
+    }
+
+    //
+    // Methods
+    //
+    @Override
+    public Object handle(Request request, Response response) throws IOException {
+        Player viewer = playerLobby.getPlayerBySessionID(request.session().id());
+        Integer gameID = GetSpectatorGameRoute.parseGameID(request.body());
+
+        // Reloading sends anyone who isn't watching any more back home
+        boolean changed = viewer == null || gameID == null || spectatorCenter.hasChanged(viewer, gameID);
+        return JsonCodec.respond(response, changed ? CHANGED : NOT_CHANGED);
+    }
+}
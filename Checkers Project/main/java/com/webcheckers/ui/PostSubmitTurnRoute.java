@@ -5,7 +5,7 @@ import com.webcheckers.appl.TurnController;
 import com.webcheckers.model.Board;
 import com.webcheckers.model.Game;
 import com.webcheckers.model.Player;
-import com.webcheckers.ui.Message.MessageType;
+import java.io.IOException;
 import java.util.logging.Logger;
 import spark.*;
 
@@ -21,30 +21,39 @@ public class PostSubmitTurnRoute implements Route {
     //
     // Constants
     //
-    static final String ERROR_MESSAGE = "Submitted turn is incomplete";
-    static final String SUCCESS_MESSAGE = "Turn submitted";
+    static final String ERROR_MESSAGE = TurnController.SUBMIT_ERROR_MSG;
+    static final String SUCCESS_MESSAGE = TurnController.SUBMIT_SUCCESS_MSG;
+
+    static {
+        // The fixed answers to a submitted turn, encoded once
+        JsonCodec.preencode(TurnController.SUBMIT_ERROR_MESSAGE);
+        JsonCodec.preencode(TurnController.SUBMIT_SUCCESS_MESSAGE);
+    }
 
     //
     // Attributes
     //
     private final PlayerLobby playerLobby;
+    private final TurnController turnController;
 
     //
     // Constructor
     //
 
-    public PostSubmitTurnRoute(PlayerLobby playerLobby) {
+    public PostSubmitTurnRoute(PlayerLobby playerLobby, TurnController turnController) {
 
         Objects.requireNonNull(playerLobby, "playerLobby must not be null");
+        Objects.requireNonNull(turnController, "turnController must not be null");
 
         this.playerLobby = playerLobby;
+        this.turnController = turnController;
     }
 
     //
     // Methods
     //
     @Override
-    public Object handle(Request request, Response response) {
+    public Object handle(Request request, Response response) throws IOException {
         LOG.fine("PostSubmitTurnRoute invoked");
         final Session httpSession = request.session();
         final String sessionID = httpSession.id();
@@ -58,17 +67,6 @@ public class PostSubmitTurnRoute implements Route {
         }
 
         Game game = playerLobby.getGame(thisPlayer);
-        TurnController turnController = new TurnController(playerLobby);
-        if (game.madeKing) {
-            game.madeKing = false;
-            game.applyTurnMoves();
-            return turnController.MessageFromModeltoUI(new Message(SUCCESS_MESSAGE, MessageType.info));
-        }
-        if (game.movesLeft()) {
-            return turnController.MessageFromModeltoUI(new Message(ERROR_MESSAGE, MessageType.error));
-        } else {
-            game.applyTurnMoves();
-            return turnController.MessageFromModeltoUI(new Message(SUCCESS_MESSAGE, MessageType.info));
-        }
+        return JsonCodec.respond(response, turnController.submitTurn(game));
     }
 }
@@ -2,6 +2,7 @@ package com.webcheckers.ui;
 
 import com.webcheckers.appl.TurnController;
 import com.webcheckers.appl.PlayerLobby;
+import java.io.IOException;
 import java.util.logging.Logger;
 import java.util.Objects;
 import spark.Request;
@@ -15,6 +16,12 @@ public class PostValidateMoveRoute implements Route {
     //
     // Constants
     //
+    static {
+        // The fixed answers to a move, encoded once
+        JsonCodec.preencode(TurnController.VALID_MOVE_MESSAGE);
+        JsonCodec.preencode(TurnController.KING_MADE_MESSAGE);
+        JsonCodec.preencode(TurnController.TOO_MANY_SIMPLE_MOVES_MESSAGE);
+    }
 
     //
     // Attributes
@@ -40,12 +47,12 @@ public class PostValidateMoveRoute implements Route {
 
 
     @Override
-    public Object handle(Request request, Response response) {
+    public Object handle(Request request, Response response) throws IOException {
         final Session httpSession = request.session();
         final String moveToBeValidated = request.body();
 
         Message res = turnController.handleValidation(moveToBeValidated, httpSession.id());
-        return turnController.MessageFromModeltoUI(res);
+        return JsonCodec.respond(response, res);
 
     }
 }
@@ -0,0 +1,86 @@
+package com.webcheckers.ui;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Lets requests for the same page share one render. The first request for a
+ * key renders the page while any that arrive before it finishes wait for it
+ * and get the same result, instead of rendering the page again themselves.
+ *
+ * <p>
+ * Nothing is kept once a render finishes; a request that comes after it
+ * renders anew. The key must name everything the page depends on and tell
+ * apart every page that differs, so it has to identify the viewer exactly
+ * when the page is theirs alone.
+ * </p>
+ *
+ * @param <K> the type of the key naming a page
+ */
+class RenderCoalescer<K> {
+    //
+    // Attributes
+    //
+    private final ConcurrentMap<K, CompletableFuture<String>> inFlight = new ConcurrentHashMap<>();
+    private final AtomicLong renders = new AtomicLong();
+    private final AtomicLong shared = new AtomicLong();
+
+    //
+    // Methods
+    //
+
+    /**
+     * Render a page, or wait for the render of the same page already running
+     * @param key everything the page depends on
+     * @param renderer renders the page
+     * @return the rendered page
+     */
+    String render(K key, Supplier<String> renderer) {
+        CompletableFuture<String> mine = new CompletableFuture<>();
+        CompletableFuture<String> running = inFlight.putIfAbsent(key, mine);
+        if (running != null) {
+            shared.incrementAndGet();
+            try {
+                return running.join();
+            } catch (CompletionException e) {
+                // Fail the same way the render did
+                if (e.getCause() instanceof RuntimeException) {
+                    throw (RuntimeException) e.getCause();
+                }
+                throw e;
+            }
+        }
+
+        renders.incrementAndGet();
+        try {
+            String page = renderer.get();
+            mine.complete(page);
+            return page;
+        } catch (RuntimeException | Error e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, mine);
+        }
+    }
+
+    /**
+     * Gets how many pages were actually rendered
+     * @return the number of renders
+     */
+    long getRenderCount() {
+        return renders.get();
+    }
+
+    /**
+     * Gets how many requests were given another request's render
+     * @return the number of shared renders
+     */
+    long getSharedCount() {
+        return shared.get();
+    }
+}
@@ -1,17 +1,20 @@
 package com.webcheckers.ui;
 
+import com.webcheckers.model.Board;
 import com.webcheckers.model.Space;
 
-import java.util.ArrayList;
-import java.util.Collections;
 import java.util.Iterator;
+import java.util.NoSuchElementException;
 
 public class RowView implements Iterable<SpaceView>{
     //
     // Attributes
     //
-    ArrayList<SpaceView> listSpaceViews;
-    private int index;
+    private final SpaceView[] spaces;
+    private final int offset;
+    private final int length;
+    private final int index;
+    private final boolean reverse;
 
     /**
      * Create a new RowView object using a model-tier representation of the row
@@ -26,19 +29,35 @@ public class RowView implements Iterable<SpaceView>{
      */
     public RowView(Space[] row, int index, boolean reverse) {
         // Initialize attributes
+        this.spaces = new SpaceView[row.length];
+        this.offset = 0;
+        this.length = row.length;
         this.index = index;
-        this.listSpaceViews = new ArrayList<SpaceView>();
+        this.reverse = reverse;
 
         // Create the spaces
         for (int spaceIndex = 0; spaceIndex < row.length; spaceIndex++) {
-            this.listSpaceViews.add(new SpaceView(row[spaceIndex], spaceIndex));
+            this.spaces[spaceIndex] = SpaceView.of(row[spaceIndex], spaceIndex);
         }
+    }
 
-        // Reverse the spaces when rendering for White so the board appears
-        // correctly.
-        if (reverse) {
-            Collections.reverse(this.listSpaceViews);
-        }
+    /**
+     * Create a RowView onto one row of a board's spaces, without copying them
+     *
+     * @param spaces
+     *      the board's spaces, row by row
+     * @param index
+     *      the index of the row in the board
+     * @param reverse
+     *      if the row should be presented backwards, as in when the board is
+     *      being rendered for the White player
+     */
+    RowView(SpaceView[] spaces, int index, boolean reverse) {
+        this.spaces = spaces;
+        this.offset = index * Board.COLUMNS;
+        this.length = Board.COLUMNS;
+        this.index = index;
+        this.reverse = reverse;
     }
 
     //
@@ -53,12 +72,37 @@ public class RowView implements Iterable<SpaceView>{
     }
 
     /**
-     * Gets an iterator of SpaceViews
+     * Gets the space shown at a place in the row, counting in the order the
+     * row is presented
+     * @param place the place in the row, from 0
+     * @return the SpaceView shown there
+     */
+    SpaceView get(int place) {
+        return spaces[offset + (reverse ? length - 1 - place : place)];
+    }
+
+    /**
+     * Gets an iterator of SpaceViews, in the order the row is presented
      * @return SpaceView iterator
      */
     @Override
     public Iterator<SpaceView> iterator() {
-        return listSpaceViews.iterator();
+        return new Iterator<SpaceView>() {
+            private int place = 0;
+
+            @Override
+            public boolean hasNext() {
+                return place < length;
+            }
+
+            @Override
+            public SpaceView next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return get(place++);
+            }
+        };
     }
 
     @Override
@@ -68,4 +112,9 @@ public class RowView implements Iterable<SpaceView>{
         else
             return ((RowView) other).index == this.index;
     }
+
+    @Override
+    public int hashCode() {
+        return index;
+    }
 }
@@ -0,0 +1,232 @@
+package com.webcheckers.ui;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Logger;
+import org.eclipse.jetty.util.BlockingArrayQueue;
+import org.eclipse.jetty.util.component.AbstractLifeCycle;
+import org.eclipse.jetty.util.thread.QueuedThreadPool;
+import org.eclipse.jetty.util.thread.ThreadPool;
+
+/**
+ * The settings for the threads the embedded Jetty server runs requests on.
+ *
+ * <p>
+ * By default requests run on a {@link QueuedThreadPool} with the given
+ * number of threads and a bounded queue of requests waiting for one. Players
+ * spend most of their time waiting for their turn, so with virtual threads
+ * turned on each request gets its own virtual thread instead, and the pool
+ * size no longer caps how many requests can be open at once. Virtual threads
+ * need a Java 21 or later runtime; on an older one the server falls back to
+ * the thread pool.
+ * </p>
+ *
+ * <p>
+ * A virtual thread that waits inside a {@code synchronized} block, as
+ * {@code Object.wait} does, stays pinned to its carrier platform thread for
+ * the whole wait on Java 21, so a request waiting that way still costs a
+ * platform thread.
+ * </p>
+ */
+public class ServerThreadPool {
+    private static final Logger LOG = Logger.getLogger(ServerThreadPool.class.getName());
+
+    //
+    // Constants
+    //
+    public static final int DEFAULT_MAX_THREADS = 200;
+    public static final int DEFAULT_MIN_THREADS = 8;
+    public static final int DEFAULT_IDLE_TIMEOUT_MILLIS = 60000;
+    public static final int DEFAULT_QUEUE_LIMIT = 6000;
+
+    /** The factory method for virtual threads, which only newer runtimes have */
+    private static final String VIRTUAL_EXECUTOR_METHOD = "newVirtualThreadPerTaskExecutor";
+
+    //
+    // Attributes
+    //
+    private final int maxThreads;
+    private final int minThreads;
+    private final int idleTimeoutMillis;
+    private final int queueLimit;
+    private final boolean virtualThreads;
+
+    //
+    // Constructors
+    //
+
+    /**
+     * Create the settings that match Spark's own defaults
+     */
+    public ServerThreadPool() {
+        this(DEFAULT_MAX_THREADS, DEFAULT_MIN_THREADS, DEFAULT_IDLE_TIMEOUT_MILLIS, DEFAULT_QUEUE_LIMIT, false);
+    }
+
+    /**
+     * Create the settings for the server's threads
+     *
+     * @param maxThreads the most threads in the pool
+     * @param minThreads the threads the pool keeps when idle
+     * @param idleTimeoutMillis how long an idle thread above the minimum is kept
+     * @param queueLimit the most requests that can wait for a thread, after
+     *      which Jetty turns requests away
+     * @param virtualThreads true to run each request on its own virtual thread
+     *      when the runtime supports it
+     */
+    public ServerThreadPool(int maxThreads, int minThreads, int idleTimeoutMillis, int queueLimit, boolean virtualThreads) {
+        if (minThreads < 1 || maxThreads < minThreads) {
+            throw new IllegalArgumentException(String.format("Invalid thread counts: min %d, max %d", minThreads, maxThreads));
+        }
+        if (idleTimeoutMillis < 0 || queueLimit < 1) {
+            throw new IllegalArgumentException(String.format("Invalid idle timeout %d or queue limit %d", idleTimeoutMillis, queueLimit));
+        }
+        this.maxThreads = maxThreads;
+        this.minThreads = minThreads;
+        this.idleTimeoutMillis = idleTimeoutMillis;
+        this.queueLimit = queueLimit;
+        this.virtualThreads = virtualThreads;
+    }
+
+    //
+    // Methods
+    //
+    public int getMaxThreads() {
+        return maxThreads;
+    }
+
+    public int getMinThreads() {
+        return minThreads;
+    }
+
+    public int getIdleTimeoutMillis() {
+        return idleTimeoutMillis;
+    }
+
+    public int getQueueLimit() {
+        return queueLimit;
+    }
+
+    public boolean isVirtualThreads() {
+        return virtualThreads;
+    }
+
+    /**
+     * Check if the runtime can make virtual threads
+     *
+     * @return true if virtual threads are available
+     */
+    public static boolean virtualThreadsAvailable() {
+        return virtualExecutorMethod() != null;
+    }
+
+    /**
+     * Create the thread pool for the server from these settings
+     *
+     * @return the thread pool to give to Jetty
+     */
+    public ThreadPool create() {
+        if (virtualThreads) {
+            ExecutorService executor = newVirtualExecutor();
+            if (executor != null) {
+                LOG.config("Running requests on virtual threads");
+                return new ExecutorPool(executor);
+            }
+            LOG.warning("Virtual threads are not available in this runtime, using a thread pool");
+        }
+        int queueStart = Math.min(Math.max(minThreads, 8), queueLimit);
+        QueuedThreadPool pool = new QueuedThreadPool(maxThreads, minThreads, idleTimeoutMillis,
+            new BlockingArrayQueue<>(queueStart, queueStart, queueLimit));
+        pool.setName("webcheckers-http");
+        LOG.config(String.format("Running requests on %d-%d threads, queue limit %d", minThreads, maxThreads, queueLimit));
+        return pool;
+    }
+
+    private static Method virtualExecutorMethod() {
+        try {
+            return Executors.class.getMethod(VIRTUAL_EXECUTOR_METHOD);
+        } catch (NoSuchMethodException e) {
+            return null;
+        }
+    }
+
+    private static ExecutorService newVirtualExecutor() {
+        Method method = virtualExecutorMethod();
+        if (method == null) {
+            return null;
+        }
+        try {
+            return (ExecutorService) method.invoke(null);
+        } catch (ReflectiveOperationException e) {
+            LOG.warning("Could not create virtual threads: " + e);
+            return null;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return String.format("{max %d, min %d, idle %dms, queue %d, virtual %b}",
+            maxThreads, minThreads, idleTimeoutMillis, queueLimit, virtualThreads);
+    }
+
+    /**
+     * Runs Jetty's tasks on an executor, each on a thread of its own, and
+     * shuts the executor down when the server stops
+     */
+    static class ExecutorPool extends AbstractLifeCycle implements ThreadPool {
+        private final ExecutorService executor;
+        private final AtomicInteger running = new AtomicInteger();
+
+        ExecutorPool(ExecutorService executor) {
+            this.executor = executor;
+        }
+
+        @Override
+        public void execute(Runnable task) {
+            executor.execute(() -> {
+                running.incrementAndGet();
+                try {
+                    task.run();
+                } finally {
+                    running.decrementAndGet();
+                }
+            });
+        }
+
+        @Override
+        public void join() throws InterruptedException {
+            while (!executor.awaitTermination(1, TimeUnit.MINUTES)) {
+                // Keep waiting until the server is stopped
+            }
+        }
+
+        /**
+         * Gets the number of tasks running now, as every task has its own
+         * thread
+         */
+        @Override
+        public int getThreads() {
+            return running.get();
+        }
+
+        /** No thread waits for work, a new one is started for each task */
+        @Override
+        public int getIdleThreads() {
+            return 0;
+        }
+
+        /** A thread can always be started */
+        @Override
+        public boolean isLowOnThreads() {
+            return false;
+        }
+
+        @Override
+        protected void doStop() throws Exception {
+            executor.shutdown();
+            super.doStop();
+        }
+    }
+}
@@ -1,18 +1,23 @@
 package com.webcheckers.ui;
 
+import com.webcheckers.model.Board;
 import com.webcheckers.model.Space;
+import java.util.Objects;
 
 /**
- * The class that represents the UI tier of a space
+ * The class that represents the UI tier of a space. A SpaceView never
+ * changes, so the boards share one for each kind of space in each cell;
+ * see {@link #black(PieceView, int)}
+ * and {@link #white(int)}.
  */
 
 public class SpaceView {
     //
     // Attributes
     //
-    private PieceView pieceView;
-    private int cellIdx;
-    private ViewColor viewColor;
+    private final PieceView pieceView;
+    private final int cellIdx;
+    private final ViewColor viewColor;
 
     /**
      * A SpaceView either represents a white or black space
@@ -21,6 +26,33 @@ public class SpaceView {
         WHITE, BLACK
     }
 
+    /**
+     * The spaces every board is made of, by cell: white spaces, empty black
+     * spaces, then black spaces holding each kind of piece
+     */
+    private static final SpaceView[] WHITE_SPACES = new SpaceView[Board.COLUMNS];
+    private static final SpaceView[] EMPTY_SPACES = new SpaceView[Board.COLUMNS];
+    private static final SpaceView[][] PIECE_SPACES = new SpaceView[4][Board.COLUMNS];
+
+    static {
+        for (int cell = 0; cell < Board.COLUMNS; cell++) {
+            WHITE_SPACES[cell] = new SpaceView(ViewColor.WHITE, null, cell);
+            EMPTY_SPACES[cell] = new SpaceView(ViewColor.BLACK, null, cell);
+            for (PieceView.Color color : PieceView.Color.values()) {
+                for (PieceView.Type type : PieceView.Type.values()) {
+                    PIECE_SPACES[PieceView.index(color, type)][cell] =
+                        new SpaceView(ViewColor.BLACK, PieceView.of(color, type), cell);
+                }
+            }
+        }
+    }
+
+    private SpaceView(ViewColor viewColor, PieceView pieceView, int cellIndex) {
+        this.viewColor = viewColor;
+        this.pieceView = pieceView;
+        this.cellIdx = cellIndex;
+    }
+
     /**
      * Create a new SpaceView object using a model-tier representation of the
      * space.
@@ -30,16 +62,49 @@ public class SpaceView {
      */
     public SpaceView(Space space, int cellIndex) {
         this.cellIdx = cellIndex;
-        this.pieceView = null;
 
         if (space.isBlack()) {
             this.viewColor = ViewColor.BLACK;
-            if (space.doesHasPiece()) {
-                this.pieceView = space.pieceInfo().getPieceView();
-            }
+            this.pieceView = space.doesHasPiece() ? space.pieceInfo().getPieceView() : null;
         } else {
             this.viewColor = ViewColor.WHITE;
+            this.pieceView = null;
+        }
+    }
+
+    /**
+     * Gets the shared SpaceView of a black space
+     * @param pieceView the piece on the space, or null if it is empty
+     * @param cellIndex the index of the space in the row
+     * @return the SpaceView, the same one every time
+     */
+    public static SpaceView black(PieceView pieceView, int cellIndex) {
+        if (pieceView == null) {
+            return EMPTY_SPACES[cellIndex];
+        }
+        return PIECE_SPACES[PieceView.index(pieceView.getColor(), pieceView.getType())][cellIndex];
+    }
+
+    /**
+     * Gets the shared SpaceView of a white space
+     * @param cellIndex the index of the space in the row
+     * @return the SpaceView, the same one every time
+     */
+    public static SpaceView white(int cellIndex) {
+        return WHITE_SPACES[cellIndex];
+    }
+
+    /**
+     * Gets the shared SpaceView of a model-tier space
+     * @param space the model-tier representation of a space
+     * @param cellIndex the index of the space in the row
+     * @return the SpaceView, the same one for every space like it
+     */
+    public static SpaceView of(Space space, int cellIndex) {
+        if (!space.isBlack()) {
+            return white(cellIndex);
         }
+        return black(space.doesHasPiece() ? space.pieceInfo().getPieceView() : null, cellIndex);
     }
 
     //
@@ -74,6 +139,11 @@ public class SpaceView {
         if (o == this) return true;
         if (!(o instanceof SpaceView)) return false;
         final SpaceView that = (SpaceView) o;
-        return (this.pieceView == that.pieceView && this.cellIdx == that.cellIdx && this.viewColor == that.viewColor);
+        return (Objects.equals(this.pieceView, that.pieceView) && this.cellIdx == that.cellIdx && this.viewColor == that.viewColor);
+    }
+
+    @Override
+    public int hashCode() {
+        return (viewColor.ordinal() * 31 + Objects.hashCode(pieceView)) * 31 + cellIdx;
     }
 }
@@ -4,13 +4,19 @@ import static spark.Spark.*;
 
 import com.webcheckers.appl.AsyncServices;
 import com.webcheckers.appl.GameCenter;
+import com.webcheckers.appl.SpectatorCenter;
 import com.webcheckers.appl.TurnController;
 import java.util.Objects;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
 import java.util.logging.Logger;
 import com.google.gson.Gson;
 
 import com.webcheckers.appl.PlayerLobby;
 import spark.TemplateEngine;
+import spark.embeddedserver.EmbeddedServers;
+import spark.embeddedserver.jetty.EmbeddedJettyFactory;
 
 
 /**
@@ -86,6 +92,22 @@ public class WebServer {
      */
     public static final String CHECK_TURN_URL = "/checkTurn";
 
+    /**
+     * The URL pattern for the stream of changes to the game
+     */
+    public static final String GAME_EVENTS_URL = "/game/events";
+
+    /**
+     * The URL pattern for the compact state of the game's board
+     */
+    public static final String GAME_STATE_URL = "/game/state";
+
+    /**
+     * The URL pattern for the WebSocket that carries a player's moves and
+     * turn changes
+     */
+    public static final String GAME_SOCKET_URL = "/game/socket";
+
 
     public static final String BACKUP_MOVE_URL = "/backupMove";
     /**
@@ -110,6 +132,15 @@ public class WebServer {
      */
     public static final String DENY_ASYNC_URL = "/denyAsync";
 
+    public static final String SPECTATOR_GAME_URL = "/spectator/game";
+
+    public static final String SPECTATOR_CHECK_TURN_URL = "/spectator/checkTurn";
+
+    public static final String SPECTATOR_STOP_WATCHING_URL = "/spectator/stopWatching";
+
+    /** How often the board fragment cache's counters are logged */
+    static final long BOARD_FRAGMENTS_REPORT_MINUTES = 5;
+
     //
     // Attributes
     //
@@ -119,6 +150,10 @@ public class WebServer {
     private final PlayerLobby playerLobby;
     private final TurnController turnController;
     private final AsyncServices asyncServices;
+    private final SpectatorCenter spectatorCenter;
+    /** The rendered boards, shared by the players' and spectators' pages */
+    private final BoardFragmentCache boardFragments;
+    private final ServerThreadPool threadPool;
 
     //
     // Constructor
@@ -133,18 +168,37 @@ public class WebServer {
      * @throws NullPointerException If any of the parameters are {@code null}.
      */
     public WebServer(final TemplateEngine templateEngine, final Gson gson, final PlayerLobby playerLobby, final TurnController turnController, final GameCenter gameCenter) {
+        this(templateEngine, gson, playerLobby, turnController, gameCenter, new ServerThreadPool());
+    }
+
+    /**
+     * The constructor for the Web Server, with the settings for the threads
+     * that requests run on.
+     *
+     * @param templateEngine The default {@link TemplateEngine} to render page-level HTML views.
+     * @param gson           The Google JSON parser object used to render Ajax responses.
+     * @param turnController The GRASP controller that will translate turns between model and ui tiers
+     * @param threadPool     The settings for the embedded Jetty server's threads
+     * @throws NullPointerException If any of the parameters are {@code null}.
+     */
+    public WebServer(final TemplateEngine templateEngine, final Gson gson, final PlayerLobby playerLobby,
+                     final TurnController turnController, final GameCenter gameCenter, final ServerThreadPool threadPool) {
         // validation
         Objects.requireNonNull(templateEngine, "templateEngine must not be null");
         Objects.requireNonNull(gson, "gson must not be null");
         Objects.requireNonNull(playerLobby, "playerLobby must not be null");
         Objects.requireNonNull(turnController, "turnController must not be null");
         Objects.requireNonNull(gameCenter, "gameCenter must not be null");
+        Objects.requireNonNull(threadPool, "threadPool must not be null");
         //
         this.templateEngine = templateEngine;
         this.gson = gson;
         this.playerLobby = playerLobby;
         this.turnController = turnController;
         this.asyncServices = new AsyncServices(playerLobby, gameCenter);
+        this.spectatorCenter = new SpectatorCenter(playerLobby);
+        this.boardFragments = new BoardFragmentCache(templateEngine, BoardFragmentCache.DEFAULT_MAX_CHARS);
+        this.threadPool = threadPool;
     }
 
     //
@@ -162,6 +216,15 @@ public class WebServer {
      */
     public void initialize() {
 
+        // Run requests on the configured threads. This has to be set before
+        // anything below starts the embedded Jetty server.
+        EmbeddedServers.add(EmbeddedServers.defaultIdentifier(),
+            new EmbeddedJettyFactory().withThreadPool(threadPool.create()));
+
+        // Carries moves and turn changes over one connection per player.
+        // WebSockets have to be mapped before any route.
+        webSocket(GAME_SOCKET_URL, new GameSocket(playerLobby, turnController));
+
         // Configuration to serve static files
         staticFileLocation("/public");
 
@@ -199,7 +262,7 @@ public class WebServer {
         //// code clean; using small classes.
 
         // Shows the Checkers game Home page.
-        get(HOME_URL, new GetHomeRoute(playerLobby, templateEngine));
+        get(HOME_URL, new GetHomeRoute(playerLobby, spectatorCenter, templateEngine));
 
         // Shows the Checkers game Sign-in page.
         get(SIGN_IN_URL, new GetSignInRoute(playerLobby, templateEngine));
@@ -208,21 +271,25 @@ public class WebServer {
         post(SIGN_IN_URL, new PostSignInRoute(playerLobby, templateEngine));
 
         //Shows the Checkers game page
-        get(GAME_URL, new GetGameRoute(playerLobby, templateEngine, asyncServices));
+        get(GAME_URL, new GetGameRoute(playerLobby, templateEngine, asyncServices, boardFragments));
 
         // Handles Move Validation
         post(VALIDATE_MOVE_URL, new PostValidateMoveRoute(playerLobby, turnController));
 
         // Handles Turn Checking with  AJAX
         post(CHECK_TURN_URL, new PostCheckTurnRoute(playerLobby, gson));
+        // Streams changes to the game to players and spectators
+        get(GAME_EVENTS_URL, new GetGameEventsRoute(playerLobby, spectatorCenter, gson));
+        // Sends the board, or what changed on it, to players and spectators
+        get(GAME_STATE_URL, new GetGameStateRoute(playerLobby, spectatorCenter, gson));
         //Handles Turn Validation
-        post(SUBMIT_TURN_URL, new PostSubmitTurnRoute(playerLobby));
+        post(SUBMIT_TURN_URL, new PostSubmitTurnRoute(playerLobby, turnController));
 
         //Handles signing out
         get(SIGN_OUT_URL, new GetSignOutRoute(playerLobby));
 
         //Undoes a move
-        post(BACKUP_MOVE_URL, new PostBackupMoveRoute(playerLobby));
+        post(BACKUP_MOVE_URL, new PostBackupMoveRoute(playerLobby, turnController));
 
         // Handles Resignation
         post(RESIGN_GAME_URL, new PostResignGameRoute(playerLobby, gson));
@@ -232,8 +299,36 @@ public class WebServer {
         post(CONFIRM_ASYNC_URL, new PostConfirmAsyncRoute(asyncServices));
         post(DENY_ASYNC_URL, new PostDenyAsyncRoute(asyncServices));
 
+        // Lets signed-in users watch other people's games
+        get(SPECTATOR_GAME_URL, new GetSpectatorGameRoute(playerLobby, spectatorCenter, templateEngine, boardFragments));
+        post(SPECTATOR_CHECK_TURN_URL, new PostSpectatorCheckTurnRoute(playerLobby, spectatorCenter));
+        get(SPECTATOR_STOP_WATCHING_URL, new GetSpectatorStopWatchingRoute(playerLobby, spectatorCenter));
+
+        // Log how well the rendered boards are shared, when anyone is listening
+        Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "board-fragments-report");
+            thread.setDaemon(true);
+            return thread;
+        }).scheduleWithFixedDelay(this::reportBoardFragments,
+            BOARD_FRAGMENTS_REPORT_MINUTES, BOARD_FRAGMENTS_REPORT_MINUTES, TimeUnit.MINUTES);
+
         //
         LOG.config("WebServer is initialized.");
     }
 
+    //
+    // Private methods
+    //
+
+    /**
+     * Log the board fragment cache's counters at {@code FINE}
+     */
+    private void reportBoardFragments() {
+        if (LOG.isLoggable(Level.FINE)) {
+            LOG.fine(String.format("Board fragments: %d hits, %d misses, %d evictions, %d kept in %d chars",
+                boardFragments.getHits(), boardFragments.getMisses(), boardFragments.getEvictions(),
+                boardFragments.size(), boardFragments.getChars()));
+        }
+    }
+
 }
\ No newline at end of file
@@ -89,6 +89,31 @@ define(function(require){
     jQuery("fieldset#game-info table[data-color='" + inactiveColor + "']").removeClass('isMyTurn');
   };
 
+  /**
+   * Show the pieces on some of the board's black spaces.
+   *
+   * @param squares  a map from the number of a black space, counted four to
+   *    a row from the top left, to the piece on it: '.' for none, 'r' and
+   *    'w' for single pieces and 'R' and 'W' for kings
+   */
+  GameView.prototype.setSquares = function setSquares(squares) {
+    Object.keys(squares).forEach(function (key) {
+      var square = parseInt(key, 10);
+      var row = square >> 2;
+      var cell = ((square & 3) << 1) | (~square >> 2 & 1);
+      var space = jQuery("table#game-board tr[data-row='" + row + "'] td[data-cell='" + cell + "']");
+      var piece = squares[key];
+      space.empty();
+      if (piece !== '.') {
+        jQuery('<div class="Piece"></div>')
+          .attr('id', 'pieceView-' + row + '-' + cell)
+          .attr('data-type', piece === piece.toUpperCase() ? 'KING' : 'SINGLE')
+          .attr('data-color', piece.toLowerCase() === 'r' ? 'RED' : 'WHITE')
+          .appendTo(space);
+      }
+    });
+  };
+
   GameView.prototype.displayMessage = function displayMessage(message) {
     jQuery('#message').attr('class', message.type).html(message.text).slideDown(400);
   };
@@ -54,6 +54,19 @@ define(function(require){
     this.isRedsTurn = function isRedsTurn() {
       return gameData.activeColor === 'RED';
     };
+
+    this.getVersion = function getVersion() {
+      return gameData.version;
+    };
+
+    /**
+     * Take on the version and turn of a newer state of the game,
+     * as sent by the server.
+     */
+    this.update = function update(state) {
+      gameData.version = state.version;
+      gameData.activeColor = state.turn;
+    };
     
     this.isPlayerRed = function isPlayerRed() {
       return gameData.redPlayer === gameData.currentPlayer;
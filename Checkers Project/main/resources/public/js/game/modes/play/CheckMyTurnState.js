@@ -40,10 +40,11 @@ define(function (require) {
    */
   CheckMyTurnState.prototype.onEntry = function onEntry() {
     this._controller.disableButton(PlayModeConstants.RESIGN_BUTTON_ID);
-    // query the server if it's my turn
+    // query the server if it's my turn; the server holds the request until
+    // the turn changes or the wait runs out
     AjaxUtils.callServer(
         // the action takes no data
-        '/checkTurn', '',
+        '/checkTurn?wait=' + PlayModeConstants.CHECK_TURN_WAIT, '',
         // the handler method should be run in the context of 'this' State object
         handleResponse, this);
   };
@@ -13,6 +13,7 @@ define(function(require){
   const StatePatternMixin = require('../../util/StatePatternMixin');
   const ControlsToolbarMixin = require('../../util/ControlsToolbarMixin');
   const AjaxUtils = require('../../util/AjaxUtils');
+  const GameChannel = require('../../util/GameChannel');
   const PlayModeConstants = require('./PlayModeConstants');
 
   // import PLAY mode states
@@ -79,6 +80,8 @@ define(function(require){
      * Start Play mode.
      */
     this.startup = function startup() {
+      // open the socket for moves and turn changes while Play mode starts
+      GameChannel.connect(PlayModeConstants.GAME_SOCKET_URL);
       // start Play mode
       this.setState(PlayModeConstants.PLAY_MODE_STARTING);
     };
@@ -33,5 +33,18 @@ define(function(){
       ,RESIGN_BUTTON_ID: 'resignBtn'
       ,RESIGN_BUTTON_TOOLTIP: 'Resign from the game.'
 
+      //
+      // Turn checks
+      //
+
+      // how long the server may hold a turn check (ms)
+      ,CHECK_TURN_WAIT: 25000
+      // pause between turn checks (ms)
+      ,CHECK_TURN_DELAY: 250
+      // the stream of changes to the game
+      ,GAME_EVENTS_URL: '/game/events'
+      // the socket that carries moves and turn changes
+      ,GAME_SOCKET_URL: '/game/socket'
+
     };
 });
\ No newline at end of file
@@ -12,7 +12,7 @@ define(function(require){
   
   // imports
   const PlayModeConstants = require('./PlayModeConstants');
-  const AjaxUtils = require('../../util/AjaxUtils');
+  const GameChannel = require('../../util/GameChannel');
 
   /**
    * Constructor function.
@@ -49,7 +49,7 @@ define(function(require){
     this._controller.disableAllMyPieces();
     
     // 3) ask the server to backup from the most recent move
-    AjaxUtils.callServer(
+    GameChannel.callServer(
         // the action takes no data
         '/backupMove', '',
         // the handler method should be run in the context of 'this' State object
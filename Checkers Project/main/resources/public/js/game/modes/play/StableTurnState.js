@@ -12,7 +12,7 @@ define(function(require){
   
   // imports
   const PlayModeConstants = require('./PlayModeConstants');
-  const AjaxUtils = require('../../util/AjaxUtils');
+  const GameChannel = require('../../util/GameChannel');
 
   /**
    * Constructor function.
@@ -74,7 +74,7 @@ define(function(require){
    * updated Game view from the server.
    */
   StableTurnState.prototype.submitTurn = function submitTurn() {
-    AjaxUtils.callServer(
+    GameChannel.callServer(
         // the action takes no data
         '/submitTurn', '',
         // the handler method should be run in the context of 'this' State object
@@ -11,7 +11,7 @@ define(function(require){
   
   // imports
   const PlayModeConstants = require('./PlayModeConstants');
-  const AjaxUtils = require('../../util/AjaxUtils');
+  const GameChannel = require('../../util/GameChannel');
 
   /**
    * Constructor function.
@@ -50,7 +50,7 @@ define(function(require){
     this._controller.disableAllMyPieces();
     
     // 3) ask the server to validate the pending move
-    AjaxUtils.callServer(
+    GameChannel.callServer(
         // the action takes a single move
         '/validateMove', move,
         // the handler method should be run in the context of 'this' State object
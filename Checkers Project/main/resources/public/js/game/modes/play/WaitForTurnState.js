@@ -3,14 +3,18 @@
  * 
  * This component is an concrete implementation of a state
  * for the Game view; this state represents the state in which
- * the view is waiting between calls to the server to check whether
- * it's the current player's turn.
+ * the view is waiting for the server to say that it's the current
+ * player's turn, or that the game has changed.  The server pushes
+ * the changes over the game socket when it is open, or else over an
+ * event stream; browsers without either fall back to checking the
+ * turn on the server.
  */
 define(function(require){
   'use strict';
 
   // imports
   const PlayModeConstants = require('./PlayModeConstants');
+  const GameChannel = require('../../util/GameChannel');
 
   /**
    * Constructor function.
@@ -21,6 +25,17 @@ define(function(require){
   function WaitForTurnState(controller) {
     // private attributes
     this._controller = controller;
+    this._events = null;
+    this._waiting = false;
+    GameChannel.addTurnListener((turn) => {
+      if (!this._waiting) return;
+      if (turn !== null) {
+        handleTurn(turn);
+      } else if (window.EventSource && this._events === null) {
+        // the socket closed, so follow the game over an event stream instead
+        listenForChanges.call(this);
+      }
+    });
   };
 
   //
@@ -39,8 +54,60 @@ define(function(require){
    */
   WaitForTurnState.prototype.onEntry = function onEntry() {
     this._controller.enableButton(PlayModeConstants.RESIGN_BUTTON_ID);
-    // wait five seconds then check my turn
-    setTimeout(() => { this._controller.setState(PlayModeConstants.CHECK_MY_TURN); }, 5000);
+    this._waiting = true;
+    if (GameChannel.isOpen()) {
+      // the socket pushes every change; check the one that came in before now
+      var lastTurn = GameChannel.getLastTurn();
+      if (lastTurn !== null) handleTurn(lastTurn);
+    } else if (window.EventSource && this._events === null) {
+      listenForChanges.call(this);
+    } else if (!window.EventSource) {
+      // the turn check waits on the server, so only pause briefly between checks
+      setTimeout(() => { this._controller.setState(PlayModeConstants.CHECK_MY_TURN); },
+          PlayModeConstants.CHECK_TURN_DELAY);
+    }
+  }
+
+  //
+  // Private methods
+  //
+
+  /**
+   * Reload the Game View once a change pushed over the game socket says
+   * it's my turn, my opponent has left or the game has changed under me.
+   */
+  function handleTurn(turn) {
+    if (turn.resigned || turn.signedOut || turn.yourTurn
+        || (turn.state !== 'ACTIVE' && turn.state !== 'ASYNC_ACTIVE')) {
+      window.location = '/game';
+    }
+  }
+
+  /**
+   * Open the stream of game events; reload the Game View once it's my turn,
+   * my opponent has left or the game has changed under me.
+   */
+  function listenForChanges() {
+    this._events = new EventSource(PlayModeConstants.GAME_EVENTS_URL);
+    const handleEvent = (event) => {
+      const data = JSON.parse(event.data);
+      if (event.type === 'resign' || event.type === 'signout' || data.yourTurn
+          || (data.state !== 'ACTIVE' && data.state !== 'ASYNC_ACTIVE')) {
+        this._events.close();
+        // tell the browser to redisplay the Game View to get the updated board
+        window.location = '/game';
+      }
+    };
+    ['sync', 'turn', 'state', 'resign', 'signout'].forEach((name) => {
+      this._events.addEventListener(name, handleEvent);
+    });
+    this._events.onerror = () => {
+      // the browser reconnects on its own unless the server refused the stream
+      if (this._events.readyState === EventSource.CLOSED) {
+        this._events = null;
+        this._controller.setState(PlayModeConstants.CHECK_MY_TURN);
+      }
+    };
   }
 
   // export class constructor
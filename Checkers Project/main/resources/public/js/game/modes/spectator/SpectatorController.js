@@ -31,6 +31,10 @@ define(function(require){
       return gameState.getGameID();
     };
 
+    this.getVersion = function () {
+      return gameState.getVersion();
+    };
+
     // Add the StatePattern mixin
     StatePatternMixin.call(this);
     // create states and a lookup map
@@ -63,6 +67,24 @@ define(function(require){
       view.displayMessage(message);
     };
 
+    /**
+     * Bring the board and the turn up to date with a state of the game
+     * from the server.
+     */
+    this.showState = function showState(state) {
+      if (state.board) {
+        var squares = {};
+        state.board.split('').forEach(function (piece, square) {
+          squares[square] = piece;
+        });
+        view.setSquares(squares);
+      } else {
+        view.setSquares(state.changes);
+      }
+      gameState.update(state);
+      view.setTurnFlasher();
+    };
+
   }
 
   //
@@ -23,5 +23,14 @@ define(function(){
 
       ,EXIT_BUTTON_ID: 'exitBtn'
 
+      //
+      // Server
+      //
+
+      // the stream of changes to the game
+      ,GAME_EVENTS_URL: '/game/events'
+      // the board, or what changed on it since a version
+      ,GAME_STATE_URL: '/game/state'
+
     };
 });
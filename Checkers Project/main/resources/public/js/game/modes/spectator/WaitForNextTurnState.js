@@ -3,8 +3,10 @@
  * 
  * This component is an concrete implementation of a state
  * for the Game view; this state represents the state in which
- * the view is waiting between calls to the server to check whether
- * the next turn has been made in the game being spectated.
+ * the view is waiting for the next turn to be made in the game being
+ * spectated.  The server pushes the changes over an event stream, and
+ * a turn is shown by fetching just the spaces that changed; browsers
+ * without one fall back to checking on the server.
  */
 define(function(require){
   'use strict';
@@ -24,6 +26,8 @@ define(function(require){
     this._checkNextTurn = function () {
       controller.setState(SpectatorModeConstants.CHECKING_FOR_NEXT_TURN);
     }
+    this._controller = controller;
+    this._events = null;
   }
 
   //
@@ -41,10 +45,64 @@ define(function(require){
    * Method when entering this state.
    */
   WaitForNextTurnState.prototype.onEntry = function onEntry() {
-    // wait five seconds then check my turn
-    setTimeout(this._checkNextTurn, 5000);
+    if (window.EventSource && this._events === null) {
+      listenForChanges.call(this);
+    } else if (!window.EventSource) {
+      // wait five seconds then check my turn
+      setTimeout(this._checkNextTurn, 5000);
+    }
   };
 
+  //
+  // Private methods
+  //
+
+  /**
+   * Open the stream of events for the game being watched; redisplay the
+   * Game View whenever the game changes.
+   */
+  function listenForChanges() {
+    const url = SpectatorModeConstants.GAME_EVENTS_URL + '?gameID=' + this._controller.getGameID();
+    this._events = new EventSource(url);
+    const reload = () => {
+      this._events.close();
+      // tell the browser to redisplay the Game View to get the updated board
+      window.location = window.location + '&splat=' + new Date().getTime();
+    };
+    // the first 'sync' event is the game as it is on screen
+    this._events.addEventListener('turn', () => {
+      showChanges.call(this, reload);
+    });
+    ['state', 'resign', 'signout'].forEach((name) => {
+      this._events.addEventListener(name, reload);
+    });
+    this._events.onerror = () => {
+      // the browser reconnects on its own unless the server refused the stream
+      if (this._events.readyState === EventSource.CLOSED) {
+        this._events = null;
+        setTimeout(this._checkNextTurn, 5000);
+      }
+    };
+  }
+
+  /**
+   * Fetch the spaces that changed since the version on screen and show
+   * them; redisplay the whole Game View if that fails or the game is won.
+   */
+  function showChanges(reload) {
+    const url = SpectatorModeConstants.GAME_STATE_URL + '?gameID=' + this._controller.getGameID()
+        + '&since=' + this._controller.getVersion();
+    jQuery.getJSON(url)
+      .done((state) => {
+        if (state.winner) {
+          reload();
+        } else if (state.version > this._controller.getVersion()) {
+          this._controller.showState(state);
+        }
+      })
+      .fail(reload);
+  }
+
   // export class constructor
   return WaitForNextTurnState;
   
@@ -0,0 +1,157 @@
+/**
+ * This module exports the channel the Play mode uses to talk to the server
+ * about the current turn.
+ *
+ * <p>
+ *   When the browser can open a WebSocket to the server, move validation,
+ *   backing up and submitting a turn travel over it as small binary frames,
+ *   and the server pushes a frame whenever the game changes.  Otherwise, and
+ *   for every other action, the channel falls back to the Ajax calls in
+ *   AjaxUtils, so callers don't have to know which one is used.
+ * </p>
+ */
+define(function(require){
+  'use strict';
+
+  // imports
+  const AjaxUtils = require('./AjaxUtils');
+
+  // frame opcodes; these must match GameSocket on the server
+  const VALIDATE = 1;
+  const BACKUP = 2;
+  const SUBMIT = 3;
+  const TURN = 4;
+  const YOUR_TURN = 1;
+  const RESIGNED = 2;
+  const SIGNED_OUT = 4;
+
+  const CONNECTION_LOST = 'Lost the connection to the server, please try again.';
+
+  // the actions the socket carries, by their Ajax URL
+  const OPCODES = {
+    '/validateMove': VALIDATE,
+    '/backupMove': BACKUP,
+    '/submitTurn': SUBMIT
+  };
+
+  // the server's Game.State names, by ordinal
+  const STATES = ['ACTIVE', 'ENDED', 'ASYNC_START', 'ASYNC_ACCEPTED', 'ASYNC_DENIED', 'ASYNC_ACTIVE'];
+
+  // private data
+  var socket = null;
+  var pending = [];
+  var turnListeners = [];
+  var lastTurn = null;
+  var decoder = window.TextDecoder ? new TextDecoder('utf-8') : null;
+
+  // Private functions
+
+  function isOpen() {
+    return socket !== null && socket.readyState === WebSocket.OPEN;
+  }
+
+  function encode(opcode, actionData) {
+    if (opcode !== VALIDATE) {
+      return new Uint8Array([opcode]);
+    }
+    var move = (typeof actionData === 'object') ? actionData : JSON.parse(actionData);
+    return new Uint8Array([opcode, move.start.row, move.start.cell, move.end.row, move.end.cell]);
+  }
+
+  function handleFrame(event) {
+    var frame = new Uint8Array(event.data);
+    if (frame[0] === TURN) {
+      var view = new DataView(event.data);
+      var turn = {
+        yourTurn: (frame[1] & YOUR_TURN) !== 0,
+        resigned: (frame[1] & RESIGNED) !== 0,
+        signedOut: (frame[1] & SIGNED_OUT) !== 0,
+        state: STATES[frame[2]],
+        version: view.getInt32(3)
+      };
+      lastTurn = turn;
+      turnListeners.forEach((listener) => listener(turn));
+      return;
+    }
+    // replies come back in the order the requests were sent
+    var request = pending.shift();
+    if (request) {
+      request.callback.call(request.callbackContext, {
+        type: frame[1] === 1 ? 'error' : 'info',
+        text: decoder.decode(frame.subarray(2))
+      });
+    }
+  }
+
+  function handleClose() {
+    socket = null;
+    // the server may or may not have acted on what was never answered, so
+    // don't send it again; let the player retry, which then uses Ajax
+    var unanswered = pending;
+    pending = [];
+    unanswered.forEach((request) => {
+      request.callback.call(request.callbackContext, {type: 'error', text: CONNECTION_LOST});
+    });
+    turnListeners.forEach((listener) => listener(null));
+  }
+
+  var GameChannel = {
+
+    /**
+     * Open the WebSocket to the server, if the browser has one.
+     *
+     * @param socketURL  the path of the server's game socket
+     */
+    connect: function (socketURL) {
+      if (!window.WebSocket || decoder === null || socket !== null) {
+        return;
+      }
+      var protocol = (window.location.protocol === 'https:') ? 'wss://' : 'ws://';
+      socket = new WebSocket(protocol + window.location.host + socketURL);
+      socket.binaryType = 'arraybuffer';
+      socket.onmessage = handleFrame;
+      socket.onclose = handleClose;
+    },
+
+    /**
+     * Check if the channel is carrying turn changes from the server.
+     */
+    isOpen: isOpen,
+
+    /**
+     * Listen for the game's changes pushed over the socket.  The listener
+     * gets {yourTurn, resigned, signedOut, state, version}, or null once the socket
+     * has closed.
+     */
+    addTurnListener: function (listener) {
+      turnListeners.push(listener);
+    },
+
+    /**
+     * Get the last change pushed over the socket, or null if none has been.
+     */
+    getLastTurn: function () {
+      return lastTurn;
+    },
+
+    /**
+     * Send an action to the server, the same way as AjaxUtils.callServer.
+     */
+    callServer: function (actionURL, actionData, callback, callbackContext) {
+      var opcode = OPCODES[actionURL];
+      if (opcode === undefined || !isOpen()) {
+        AjaxUtils.callServer(actionURL, actionData, callback, callbackContext);
+        return;
+      }
+      pending.push({
+        actionURL: actionURL,
+        actionData: actionData,
+        callback: callback,
+        callbackContext: callbackContext
+      });
+      socket.send(encode(opcode, actionData));
+    }
+  };
+
+  return GameChannel;
+});
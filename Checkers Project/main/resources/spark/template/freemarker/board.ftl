@@ -0,0 +1,24 @@
+<#-- The board, which depends only on the position and its orientation -->
+<table id="game-board">
+  <tbody>
+  <#list board.iterator() as row>
+    <tr data-row="${row.index}">
+    <#list row.iterator() as space>
+      <td data-cell="${space.cellIdx}"
+          <#if space.isValid() >
+          class="Space"
+          </#if>
+          >
+      <#if space.pieceView??>
+        <div class="Piece"
+             id="pieceView-${row.index}-${space.cellIdx}"
+             data-type="${space.pieceView.type}"
+             data-color="${space.pieceView.color}">
+        </div>
+      </#if>
+      </td>
+    </#list>
+    </tr>
+  </#list>
+  </tbody>
+</table>
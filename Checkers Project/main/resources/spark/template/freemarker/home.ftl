@@ -44,6 +44,19 @@
               </li>
         </#list>
         </ul>
+        <#if watchableGameNames?? && watchableGameNames?has_content>
+        <p>Games to watch:</p>
+        <ul style="list-style-type:none">
+            <#list watchableGameNames as game>
+              <li>
+              <form method = "get" action = "/spectator/game">
+              <input type="hidden" name="gameID" value="${watchableGameIDs[game?index]?c}">
+              <input type="submit" value="${game}">
+              </form>
+              </li>
+            </#list>
+        </ul>
+        </#if>
       <#else>
         <p> Number of Players online: ${numPlayersOnline}</p>
       </#if>
@@ -0,0 +1,83 @@
+<!DOCTYPE html>
+<html>
+<head>
+  <meta http-equiv="Content-Type" content="text/html; charset=UTF-8" />
+  <title>${title} | Web Checkers</title>
+  <link rel="stylesheet" href="/css/style.css" />
+  <link rel="stylesheet" href="/css/game.css" />
+  <script src="https://ajax.googleapis.com/ajax/libs/jquery/3.1.1/jquery.min.js"></script>
+  <#-- Every spectator is sent this same page, so it doesn't say who they are -->
+  <script>
+  window.gameState = {
+    "currentPlayer" : "",
+    "viewMode" : "${viewMode}",
+    "modeOptions" : ${modeOptionsAsJSON!'{}'},
+    "redPlayer" : "${redPlayer}",
+    "whitePlayer" : "${whitePlayer}",
+    "activeColor" : "${activeColor}",
+    "version" : ${version}
+  };
+  </script>
+</head>
+<body>
+  <div class="page">
+    <h1>Web Checkers</h1>
+    
+    <div class="navigation">
+      <a href="/">my home</a> |
+      <a href="/spectator/stopWatching?gameID=${gameID}">stop watching</a>
+    </div>
+    
+    <div class="body">
+      
+      <p id="help_text"></p>
+
+      <div>
+        <div id="game-controls">
+        
+          <fieldset id="game-info">
+            <legend>Info</legend>
+            
+            <#if message??>
+            <div id="message" class="${message.type}">${message.text}</div>
+            <#else>
+            <div id="message" class="info" style="display:none">
+              <!-- keep here for client-side messages -->
+            </div>
+            </#if>
+
+            <div>
+              <table data-color='RED'>
+                <tr>
+                  <td><img src="../img/single-piece-red.svg" /></td>
+                  <td class="name">Red</td>
+                </tr>
+              </table>
+              <table data-color='WHITE'>
+                <tr>
+                  <td><img src="../img/single-piece-white.svg" /></td>
+                  <td class="name">White</td>
+                </tr>
+              </table>
+            </div>
+          </fieldset>
+          
+          <fieldset id="game-toolbar">
+            <legend>Controls</legend>
+            <div class="toolbar"></div>
+          </fieldset>
+          
+        </div>
+  
+        <div class="game-board">
+          ${boardHtml}
+        </div>
+      </div>
+
+    </div>
+  </div>
+
+  <script data-main="/js/game/index" src="/js/require.js"></script>
+  
+</body>
+</html>
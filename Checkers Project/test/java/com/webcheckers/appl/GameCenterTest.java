@@ -7,6 +7,11 @@ import com.webcheckers.model.Game.State;
 import com.webcheckers.model.Player;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -55,7 +60,7 @@ public class GameCenterTest {
         // check if the list and hashmap updated with number of player and games
         assertEquals(prev_active_size, CuT.activeGames.size());
         assertEquals(prev_num_opp, CuT.opponents.size());
-        assertEquals(1, CuT.gameID);
+        assertEquals(1, CuT.gameID.get());
         assertEquals(0, CuT.readGameID(redPlayer));
         // check if game was returned
         assertNotNull(testGame);
@@ -150,7 +155,7 @@ public class GameCenterTest {
         CuT.resignFromGame(game, redPlayer);
         verify(game, times(1)).leaveFromGame(redPlayer);
         // when in active game, it just sets state to null, next call it is wiped
-        assertEquals(1, testGames.size());
+        assertEquals(1, CuT.activeGames.size());
         assertEquals(2, testHashMap.size());
     }
 
@@ -171,7 +176,7 @@ public class GameCenterTest {
         CuT.resignFromGame(game, redPlayer);
         verify(game, times(1)).leaveFromGame(redPlayer);
         // when in active game, it just sets state to null, next call it is wiped
-        assertEquals(0, testGames.size());
+        assertEquals(0, CuT.activeGames.size());
         assertEquals(0, testHashMap.size());
     }
 
@@ -211,4 +216,61 @@ public class GameCenterTest {
 
         assertIterableEquals(testGames, results);
     }
+
+    /**
+     * Make sure games the GameCenter no longer knows about are skipped.
+     */
+    @Test
+    public void testGetAllGamesSkipsEndedGames() {
+        ArrayList<Game> testGames = new ArrayList<>();
+        testGames.add(makeGame(1));
+        ArrayList<Integer> gameIDs = new ArrayList<>();
+        gameIDs.add(1);
+        gameIDs.add(7);
+
+        Player player = mock(Player.class);
+        when(player.getCurrentGameIDs()).thenReturn(gameIDs);
+
+        CuT = new GameCenter(new HashMap<>(), testGames);
+
+        assertIterableEquals(testGames, CuT.getAllGames(player));
+    }
+
+    /**
+     * Make sure a game can be looked up by its ID, and is gone once ended.
+     */
+    @Test
+    public void testGetGameByID() {
+        Game game = CuT.startGame(redPlayer, whitePlayer);
+        assertSame(game, CuT.getGameByID(game.getGameID()));
+        assertNull(CuT.getGameByID(game.getGameID() + 1));
+
+        game.setStateEnded();
+        CuT.endGame(game);
+        assertNull(CuT.getGameByID(game.getGameID()));
+        assertNull(CuT.getGame(redPlayer));
+    }
+
+    /**
+     * Make sure games started at the same time all get their own ID.
+     */
+    @Test
+    public void testConcurrentStartGame() throws InterruptedException {
+        final int games = 200;
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        for (int i = 0; i < games; i++) {
+            final int n = i;
+            pool.execute(() -> CuT.startGame(new Player("red" + n, "r" + n), new Player("white" + n, "w" + n)));
+        }
+        pool.shutdown();
+        assertTrue(pool.awaitTermination(10, TimeUnit.SECONDS));
+
+        assertEquals(games, CuT.activeGames.size());
+        assertEquals(games, CuT.gameID.get());
+        Set<Integer> ids = new HashSet<>();
+        for (Game game : CuT.activeGames.values()) {
+            ids.add(game.getGameID());
+        }
+        assertEquals(games, ids.size());
+    }
 }
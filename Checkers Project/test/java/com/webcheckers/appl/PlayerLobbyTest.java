@@ -1,6 +1,8 @@
 package com.webcheckers.appl;
 
 import com.webcheckers.model.Player;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
@@ -87,4 +89,78 @@ public class PlayerLobbyTest {
         playerLobby.signIn(player);
         assertTrue(playerLobby.signIn(VALID_USERNAME, SID));
     }
-}
\ No newline at end of file
+
+    /**
+     * Test that a signed in player can be found by their session ID, and
+     * that their name is in the signed in players.
+     */
+    @Test
+    public void getPlayerBySessionID_should_find_signedInPlayer() {
+        assertTrue(playerLobby.signIn(VALID_USERNAME, SID));
+
+        Player found = playerLobby.getPlayerBySessionID(SID);
+        assertNotNull(found);
+        assertEquals(VALID_USERNAME, found.getName());
+        assertEquals(VALID_USERNAME, playerLobby.getPlayerNameBySessionID(SID));
+        assertNull(playerLobby.getPlayerBySessionID(IMPOSTER_SID));
+        assertNull(playerLobby.getPlayerBySessionID(null));
+        assertTrue(playerLobby.isSignedIn(VALID_USERNAME));
+        assertEquals(1, playerLobby.getSignedInCount());
+    }
+
+    /**
+     * Test that signing out removes the player from the session index, and
+     * that signing back in with a new session indexes the new session only.
+     */
+    @Test
+    public void signOut_should_clear_sessionIndex() {
+        playerLobby.signIn(VALID_USERNAME, SID);
+        playerLobby.signOut(VALID_USERNAME);
+
+        assertNull(playerLobby.getPlayerBySessionID(SID));
+        assertFalse(playerLobby.isSignedIn(VALID_USERNAME));
+        assertTrue(playerLobby.getSignedInPlayers().isEmpty());
+
+        assertTrue(playerLobby.signIn(VALID_USERNAME, IMPOSTER_SID));
+        assertNull(playerLobby.getPlayerBySessionID(SID));
+        assertEquals(VALID_USERNAME, playerLobby.getPlayerNameBySessionID(IMPOSTER_SID));
+        assertEquals(1, playerLobby.getSignedInCount());
+    }
+
+    /**
+     * Test that when several sessions sign in with the same new name at
+     * once, only one of them gets it, and the player keeps that session.
+     */
+    @Test
+    public void signIn_should_admit_one_of_racingSessions() throws InterruptedException {
+        final int sessions = 8;
+        for (int round = 0; round < 500; round++) {
+            PlayerLobby lobby = new PlayerLobby(mock(GameCenter.class));
+            CountDownLatch start = new CountDownLatch(1);
+            AtomicInteger admitted = new AtomicInteger();
+            Thread[] threads = new Thread[sessions];
+            for (int i = 0; i < sessions; i++) {
+                String sessionID = Integer.toString(i);
+                threads[i] = new Thread(() -> {
+                    try {
+                        start.await();
+                    } catch (InterruptedException e) {
+                        return;
+                    }
+                    if (lobby.signIn(VALID_USERNAME, sessionID)) {
+                        admitted.incrementAndGet();
+                    }
+                });
+                threads[i].start();
+            }
+            start.countDown();
+            for (Thread thread : threads) {
+                thread.join();
+            }
+
+            assertEquals(1, admitted.get());
+            Player signedIn = lobby.getPlayer(VALID_USERNAME);
+            assertSame(signedIn, lobby.getPlayerBySessionID(signedIn.getSessionID()));
+        }
+    }
+}
@@ -0,0 +1,146 @@
+package com.webcheckers.appl;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.webcheckers.model.Game;
+import com.webcheckers.model.GameSnapshot;
+import com.webcheckers.model.Player;
+import java.util.Arrays;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+@Tag("Application-Tier")
+public class SpectatorCenterTest {
+
+    // Component Under Test
+    private SpectatorCenter CuT;
+
+    // Friendly objects
+    private PlayerLobby playerLobby;
+    private Player red;
+    private Player white;
+    private Player amy;
+    private Player ben;
+    private Game game;
+
+    @BeforeEach
+    public void setup() {
+        playerLobby = new PlayerLobby();
+        red = new Player("red", "1");
+        white = new Player("white", "2");
+        amy = new Player("amy", "3");
+        ben = new Player("ben", "4");
+        game = playerLobby.startGame(red, white);
+
+        CuT = new SpectatorCenter(playerLobby, 2, SpectatorCenter.DEFAULT_IDLE_MILLIS);
+    }
+
+    /**
+     * Make sure every watcher is given the same snapshot, and a new one is
+     * taken only once the game changes.
+     */
+    @Test
+    public void testSharedSnapshot() {
+        GameSnapshot first = CuT.startWatching(amy, game.getGameID());
+        assertSame(first, CuT.startWatching(ben, game.getGameID()));
+        assertEquals(2, CuT.getWatcherCount(game.getGameID()));
+
+        game.applyTurnMoves();
+        GameSnapshot next = CuT.startWatching(amy, game.getGameID());
+        assertNotSame(first, next);
+        assertEquals(1, next.getVersion());
+        assertSame(next, CuT.startWatching(ben, game.getGameID()));
+    }
+
+    /**
+     * Make sure a game takes no more watchers than it can, but makes room
+     * by dropping the idle ones.
+     */
+    @Test
+    public void testBoundedWatchers() {
+        Player cat = new Player("cat", "5");
+        assertNotNull(CuT.startWatching(amy, game.getGameID()));
+        assertNotNull(CuT.startWatching(ben, game.getGameID()));
+        assertNull(CuT.startWatching(cat, game.getGameID()));
+        // Someone already watching keeps their place
+        assertNotNull(CuT.startWatching(amy, game.getGameID()));
+
+        // With no time allowed, everyone is idle
+        CuT = new SpectatorCenter(playerLobby, 1, 0);
+        assertNotNull(CuT.startWatching(amy, game.getGameID()));
+        assertNotNull(CuT.startWatching(cat, game.getGameID()));
+        assertFalse(CuT.isWatching(amy, game.getGameID()));
+        assertTrue(CuT.isWatching(cat, game.getGameID()));
+    }
+
+    /**
+     * Make sure the latest snapshot is shared with whoever asks, and a
+     * watcher can keep their place until they stop watching.
+     */
+    @Test
+    public void testSnapshotAndKeepWatching() {
+        assertNull(CuT.getSnapshot(game.getGameID()));
+        assertFalse(CuT.keepWatching(amy, game.getGameID()));
+
+        GameSnapshot first = CuT.startWatching(amy, game.getGameID());
+        assertSame(first, CuT.getSnapshot(game.getGameID()));
+        assertTrue(CuT.keepWatching(amy, game.getGameID()));
+
+        game.applyTurnMoves();
+        GameSnapshot next = CuT.getSnapshot(game.getGameID());
+        assertEquals(1, next.getVersion());
+        assertSame(next, CuT.startWatching(ben, game.getGameID()));
+
+        CuT.stopWatching(amy, game.getGameID());
+        assertFalse(CuT.keepWatching(amy, game.getGameID()));
+        CuT.stopWatching(ben, game.getGameID());
+        assertNull(CuT.getSnapshot(game.getGameID()));
+    }
+
+    /**
+     * Make sure a watcher's page is out of date once the game changes.
+     */
+    @Test
+    public void testHasChanged() {
+        assertTrue(CuT.hasChanged(amy, game.getGameID()));
+        GameSnapshot snapshot = CuT.startWatching(amy, game.getGameID());
+        CuT.markSeen(amy, game.getGameID(), snapshot.getVersion());
+        assertFalse(CuT.hasChanged(amy, game.getGameID()));
+
+        game.applyTurnMoves();
+        assertTrue(CuT.hasChanged(amy, game.getGameID()));
+    }
+
+    /**
+     * Make sure someone watching can still see how a game ended after it is
+     * gone, but nobody new can start watching it.
+     */
+    @Test
+    public void testGameGone() {
+        CuT.startWatching(amy, game.getGameID());
+        game.leaveFromGame(white);
+        // The first end marks the game ENDED, the second removes it
+        playerLobby.endGame(game);
+        playerLobby.endGame(game);
+        assertNull(playerLobby.getGameByID(game.getGameID()));
+
+        assertTrue(CuT.startWatching(amy, game.getGameID()).isOver());
+        assertNull(CuT.startWatching(ben, game.getGameID()));
+        assertNull(CuT.startWatching(amy, 42));
+    }
+
+    /**
+     * Make sure the most watched games are offered first, leaving out the
+     * viewer's own games.
+     */
+    @Test
+    public void testFeaturedGames() {
+        Game other = playerLobby.startGame(new Player("cat", "5"), new Player("dan", "6"));
+        CuT.startWatching(ben, other.getGameID());
+
+        assertEquals(Arrays.asList(other, game), CuT.getFeaturedGames(amy, 10));
+        assertEquals(Arrays.asList(other), CuT.getFeaturedGames(amy, 1));
+        assertEquals(Arrays.asList(other), CuT.getFeaturedGames(red, 10));
+    }
+}
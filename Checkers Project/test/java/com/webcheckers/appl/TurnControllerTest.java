@@ -3,6 +3,7 @@ package com.webcheckers.appl;
 import com.webcheckers.appl.TurnController;
 import com.webcheckers.model.*;
 import com.webcheckers.ui.BoardView;
+import com.webcheckers.ui.JsonCodec;
 import com.webcheckers.ui.Message;
 import com.webcheckers.ui.Message.MessageType;
 import org.junit.jupiter.api.AfterEach;
@@ -14,6 +15,8 @@ import org.junit.jupiter.api.Tag;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockingDetails;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @Tag("Application-Tier")
@@ -42,7 +45,7 @@ public class TurnControllerTest {
     @BeforeEach
     public void setup() {
         playerLobby = new PlayerLobby();
-        CuT = new TurnController(playerLobby);
+        CuT = new TurnController(playerLobby, JsonCodec.GSON);
     }
 
     @AfterEach
@@ -52,7 +55,6 @@ public class TurnControllerTest {
     }
 
     @Test public void testConstructor() {
-        Assertions.assertNotNull(CuT.builder);
         Assertions.assertNotNull(CuT.playerLobby);
     }
 
@@ -104,16 +106,45 @@ public class TurnControllerTest {
     }
     */
 
+    @Test
+    public void testHandleBackup() {
+        setupHandleValidation(false);
+        Message none = CuT.handleBackup(testGame);
+        Assertions.assertEquals(TurnController.BACKUP_NONE_MSG, none.getText());
+        Assertions.assertEquals(MessageType.error, none.getType());
+
+        when(testGame.removeMove()).thenReturn(Move.between(5, 0, 4, 1));
+        Message simple = CuT.handleBackup(testGame);
+        Assertions.assertEquals(TurnController.BACKUP_SIMPLE_MSG, simple.getText());
+        Assertions.assertEquals(MessageType.info, simple.getType());
+    }
+
+    @Test
+    public void testSubmitTurn() {
+        setupHandleValidation(false);
+        when(testGame.movesLeft()).thenReturn(true);
+        Message incomplete = CuT.submitTurn(testGame);
+        Assertions.assertEquals(TurnController.SUBMIT_ERROR_MSG, incomplete.getText());
+
+        when(testGame.movesLeft()).thenReturn(false);
+        Message submitted = CuT.submitTurn(testGame);
+        Assertions.assertEquals(TurnController.SUBMIT_SUCCESS_MSG, submitted.getText());
+        verify(testGame).applyTurnMoves();
+    }
+
     private void setupHandleValidation(boolean hasMultipleMoves) {
         Player red = new Player(TEST_RED_NAME, TEST_RED_ID);
-        Board testBoard = new Board();
-        testGame = mock(Game.class);
+        Board testBoard = new BitBoard();
+        // A real game underneath, for the moves queued this turn, which only
+        // the model may read
+        testGame = spy(new Game(red, new Player(TEST_WHITE_NAME, TEST_WHITE_ID), 0));
         when(testGame.hasMovesInCurrentTurn()).thenReturn(false);
         when(testGame.getBoard()).thenReturn(testBoard);
+        when(testGame.getLegalMoves()).thenReturn(MoveGenerator.generate(testBoard, Piece.PColor.red));
         playerLobby = mock(PlayerLobby.class);
         when(playerLobby.getPlayerBySessionID(TEST_RED_ID)).thenReturn(red);
         when(playerLobby.getGame(red)).thenReturn(testGame);
-        CuT = new TurnController(playerLobby);
+        CuT = new TurnController(playerLobby, JsonCodec.GSON);
         if (hasMultipleMoves) {
             when(testGame.hasMovesInCurrentTurn()).thenReturn(true);
             when(testGame.getLastMoveMade()).thenReturn(mock(SimpleMove.class));
@@ -0,0 +1,104 @@
+package com.webcheckers.model;
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+@Tag("Model-tier")
+
+public class ArrayBoardTest {
+
+    ArrayBoard board = new ArrayBoard();
+
+    @Test
+    public void testConstructor() {
+        assertTrue(board.boardArray[7][0].isBlack(), "Bottom-left space should be black");
+        assertTrue(board.boardArray[0][7].isBlack(), "Top-right space should be black");
+    }
+
+    @Test
+    public void testMoveFromEmptySpace() {
+        Position oldPos = new Position(4,0);
+        Position newPos = new Position(3,0);
+        board.move(oldPos, newPos);
+        assertFalse(board.boardArray[3][0].doesHasPiece());
+    }
+
+    @Test
+    public void testMakeAndUnmakeJump() {
+        board.move(new Position(5, 0), new Position(4, 1));
+        board.move(new Position(2, 3), new Position(3, 2));
+        String before = board.toString();
+        int jump = PackedMove.of(new JumpMove(new Position(4, 1), new Position(2, 3)));
+
+        long undo = board.make(jump);
+        assertFalse(board.boardArray[3][2].doesHasPiece(), "The jumped piece should be captured");
+        assertTrue(board.boardArray[2][3].pieceInfo().isRed());
+
+        board.unmake(undo);
+        assertEquals(before, board.toString());
+        assertFalse(board.boardArray[3][2].pieceInfo().isRed(), "The captured piece should be put back");
+    }
+
+    @Test
+    public void testVersionOnlyChangesOnWrites() {
+        int version = board.getVersion();
+        board.getSpace(new Position(5, 0));
+        board.getRow(5);
+        assertEquals(version, board.getVersion(), "Reading the board should not change it");
+
+        board.removePiece(new Position(5, 0));
+        assertFalse(board.boardArray[5][0].doesHasPiece());
+        assertNotEquals(version, board.getVersion());
+    }
+
+    /**
+     * Make sure a change made through a space the board handed out is
+     * counted, and its piece can't be changed behind the board's back.
+     */
+    @Test
+    public void testSpaceWritesAreCounted() {
+        int version = board.getVersion();
+        Space space = board.getSpace(new Position(4, 1));
+        space.addPiece(new Piece(Piece.PColor.red, Piece.PType.single));
+        assertNotEquals(version, board.getVersion());
+
+        version = board.getVersion();
+        space.pieceInfo().makeKing();
+        assertFalse(space.pieceInfo().isKing());
+        assertEquals(version, board.getVersion());
+
+        space.removePiece();
+        assertNotEquals(version, board.getVersion());
+        version = board.getVersion();
+        space.removePiece();
+        assertEquals(version, board.getVersion(), "Removing from an empty space is not a change");
+    }
+
+    /*
+    @Test
+    public void testBadMoveWhiteSpace() {
+        Position oldPos = new Position(5,0);
+        Position newPos = new Position(4,0);
+        board.move(oldPos, newPos);
+        assertFalse(board.boardArray[4][0].doesHasPiece());
+        assertTrue(board.boardArray[5][0].doesHasPiece());
+    }
+
+    @Test
+    public void testBadMoveTakenSpace() {
+        Position oldPos = new Position(5,2);
+        Position newPos = new Position(6,3);
+        board.move(oldPos, newPos);
+        assertTrue(board.boardArray[5][2].doesHasPiece());
+    }
+
+    @Test
+    public void testGoodMove() {
+        Position oldPos = new Position(5,4);
+        Position newPos = new Position(4,5);
+        board.move(oldPos, newPos);
+        assertTrue(board.boardArray[4][5].doesHasPiece());
+        assertFalse(board.boardArray[5][4].doesHasPiece());
+    }
+    */
+}
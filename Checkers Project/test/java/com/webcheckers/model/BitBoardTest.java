@@ -0,0 +1,239 @@
+package com.webcheckers.model;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.webcheckers.model.Piece.PColor;
+import com.webcheckers.model.Piece.PType;
+import java.util.ArrayList;
+import java.util.Arrays;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+@Tag("Model-tier")
+public class BitBoardTest {
+
+    // Component Under Test
+    private BitBoard CuT;
+
+    @BeforeEach
+    public void setup() {
+        CuT = new BitBoard();
+    }
+
+    @Test
+    public void testConstructorMatchesArrayBoard() {
+        ArrayBoard expected = new ArrayBoard();
+        assertEquals(expected.toString(), CuT.toString());
+        assertEquals(expected.getPieceMask(PColor.red), CuT.getPieceMask(PColor.red));
+        assertEquals(expected.getPieceMask(PColor.white), CuT.getPieceMask(PColor.white));
+        assertEquals(0, CuT.getKingMask());
+    }
+
+    @Test
+    public void testSquareNumbering() {
+        for (int square = 0; square < BitBoard.SQUARES; square++) {
+            int row = BitBoard.rowOf(square);
+            int cell = BitBoard.cellOf(square);
+            assertTrue(BitBoard.isDarkSquare(row, cell), "Square should map to a black space");
+            assertEquals(square, BitBoard.squareOf(row, cell));
+        }
+        assertEquals(-1, BitBoard.squareOf(0, 0), "White spaces have no square index");
+        assertEquals(-1, BitBoard.squareOf(-1, 0), "Spaces off the board have no square index");
+    }
+
+    @Test
+    public void testMove() {
+        Position start = new Position(5, 0);
+        Position end = new Position(4, 1);
+        CuT.move(start, end);
+        assertFalse(CuT.getSpace(start).doesHasPiece());
+        assertTrue(CuT.getSpace(end).doesHasPiece());
+        assertTrue(CuT.getSpace(end).pieceInfo().isRed());
+    }
+
+    @Test
+    public void testMoveFromEmptySpace() {
+        CuT.move(new Position(4, 1), new Position(3, 0));
+        assertFalse(CuT.getSpace(new Position(3, 0)).doesHasPiece());
+    }
+
+    @Test
+    public void testSpaceViewWritesThrough() {
+        Position position = new Position(4, 1);
+        CuT.getSpace(position).addPiece(new Piece(PColor.white, PType.king));
+        assertFalse(CuT.spaceIsValid(position));
+        assertEquals(PColor.white, CuT.getSpace(position).pieceInfo().pieceColor);
+        assertTrue(CuT.getSpace(position).pieceInfo().isKing());
+
+        CuT.getSpace(position).removePiece();
+        assertTrue(CuT.spaceIsValid(position));
+        assertEquals(0, CuT.getKingMask());
+    }
+
+    @Test
+    public void testSetPieceType() {
+        Position position = new Position(5, 0);
+        CuT.setPieceType(position, PType.king);
+        assertTrue(CuT.getSpace(position).pieceInfo().isKing());
+        CuT.setPieceType(position, PType.single);
+        assertFalse(CuT.getSpace(position).pieceInfo().isKing());
+    }
+
+    @Test
+    public void testVersionChangesOnMutation() {
+        int version = CuT.getVersion();
+        CuT.getSpace(new Position(5, 0));
+        assertEquals(version, CuT.getVersion(), "Reading a space is not a change");
+
+        CuT.move(new Position(5, 0), new Position(4, 1));
+        assertNotEquals(version, CuT.getVersion());
+        version = CuT.getVersion();
+
+        CuT.setPieceType(new Position(4, 1), PType.king);
+        assertNotEquals(version, CuT.getVersion());
+        version = CuT.getVersion();
+
+        CuT.getSpace(new Position(4, 1)).removePiece();
+        assertNotEquals(version, CuT.getVersion());
+        version = CuT.getVersion();
+
+        CuT.removePiece(new Position(4, 1));
+        assertEquals(version, CuT.getVersion(), "Clearing an empty space is not a change");
+    }
+
+    @Test
+    public void testPositionHashIsIncremental() {
+        CuT.move(new Position(5, 0), new Position(4, 1));
+        CuT.setPieceType(new Position(4, 1), PType.king);
+        CuT.removePiece(new Position(2, 1));
+        CuT.getSpace(new Position(3, 2)).addPiece(new Piece(PColor.white, PType.single));
+        assertEquals(Zobrist.hash(CuT.getPieceMask(PColor.red), CuT.getPieceMask(PColor.white), CuT.getKingMask()),
+            CuT.positionHash());
+    }
+
+    @Test
+    public void testEqualPositions() {
+        BitBoard other = new BitBoard();
+        assertEquals(other, CuT);
+        assertEquals(other.positionHash(), CuT.positionHash());
+
+        // The same position reached by moving pieces in a different order
+        CuT.move(new Position(5, 0), new Position(4, 1));
+        CuT.move(new Position(2, 1), new Position(3, 2));
+        other.move(new Position(2, 1), new Position(3, 2));
+        assertNotEquals(other, CuT);
+        assertNotEquals(other.positionHash(), CuT.positionHash());
+        other.move(new Position(5, 0), new Position(4, 1));
+        assertEquals(other, CuT);
+        assertEquals(other.hashCode(), CuT.hashCode());
+
+        // Kings are part of the position
+        CuT.setPieceType(new Position(4, 1), PType.king);
+        assertNotEquals(other, CuT);
+        CuT.setPieceType(new Position(4, 1), PType.single);
+        assertEquals(other.positionHash(), CuT.positionHash());
+    }
+
+    @Test
+    public void testEqualsArrayBoard() {
+        ArrayBoard arrayBoard = new ArrayBoard();
+        assertEquals(arrayBoard, CuT);
+        assertEquals(CuT, arrayBoard);
+        assertEquals(arrayBoard.positionHash(), CuT.positionHash());
+        assertEquals(arrayBoard.hashCode(), CuT.hashCode());
+    }
+
+    @Test
+    public void testMakeAndUnmakeCapture() {
+        Position king = new Position(4, 1);
+        CuT = new BitBoard(new ArrayList<>(Arrays.asList(new Position(5, 2))), new ArrayList<>(Arrays.asList(king)));
+        CuT.setPieceType(king, PType.king);
+        BitBoard before = new BitBoard(new ArrayList<>(Arrays.asList(new Position(5, 2))), new ArrayList<>(Arrays.asList(king)));
+        before.setPieceType(king, PType.king);
+
+        long undo = CuT.make(PackedMove.of(new JumpMove(new Position(5, 2), new Position(3, 0))));
+        assertTrue(UndoRecord.capturedKing(undo));
+        assertFalse(UndoRecord.promoted(undo));
+        assertEquals(0, CuT.getPieceMask(PColor.white));
+        assertEquals(0, CuT.getKingMask());
+
+        CuT.unmake(undo);
+        assertEquals(before, CuT);
+        assertEquals(before.positionHash(), CuT.positionHash());
+        assertTrue(CuT.getSpace(king).pieceInfo().isKing());
+    }
+
+    @Test
+    public void testMakeAndUnmakePromotion() {
+        Position start = new Position(1, 2);
+        CuT = new BitBoard(new ArrayList<>(Arrays.asList(start)), new ArrayList<>(Arrays.asList(new Position(7, 0))));
+        long hash = CuT.positionHash();
+
+        long undo = CuT.make(PackedMove.of(new SimpleMove(start, new Position(0, 1))));
+        assertTrue(UndoRecord.promoted(undo));
+        assertTrue(CuT.getSpace(new Position(0, 1)).pieceInfo().isKing());
+
+        CuT.unmake(undo);
+        assertFalse(CuT.getSpace(start).pieceInfo().isKing());
+        assertEquals(hash, CuT.positionHash());
+    }
+
+    @Test
+    public void testWhiteSpacesAreNeverValid() {
+        assertFalse(CuT.spaceIsValid(new Position(4, 0)));
+        assertFalse(CuT.getSpace(new Position(4, 0)).isBlack());
+        assertFalse(CuT.spaceIsValid(new Position(8, 1)));
+    }
+
+    @Test
+    public void testGetPieceLocations() {
+        ArrayList<Position> red = new ArrayList<>(Arrays.asList(new Position(7, 0), new Position(2, 1)));
+        ArrayList<Position> white = new ArrayList<>(Arrays.asList(new Position(0, 7)));
+        CuT = new BitBoard(red, white);
+        ArrayList<Position> redLocations = CuT.getPieceLocations(PColor.red);
+        assertEquals(2, redLocations.size());
+        assertTrue(redLocations.containsAll(red));
+        assertEquals(white, CuT.getPieceLocations(PColor.white));
+    }
+
+    /**
+     * Make sure a piece can't be put on a white space, which has no square.
+     */
+    @Test
+    public void testConstructorRejectsWhiteSpace() {
+        ArrayList<Position> none = new ArrayList<>();
+        ArrayList<Position> white = new ArrayList<>(Arrays.asList(new Position(4, 0)));
+        assertThrows(IllegalArgumentException.class, () -> new BitBoard(white, none));
+        assertThrows(IllegalArgumentException.class, () -> new BitBoard(none, white));
+    }
+
+    /**
+     * Make sure two pieces can't be put on the same space.
+     */
+    @Test
+    public void testConstructorRejectsOverlap() {
+        ArrayList<Position> red = new ArrayList<>(Arrays.asList(new Position(5, 0), new Position(4, 1)));
+        ArrayList<Position> white = new ArrayList<>(Arrays.asList(new Position(4, 1)));
+        assertThrows(IllegalArgumentException.class, () -> new BitBoard(red, white));
+    }
+
+    /**
+     * Make sure a piece added to an occupied space replaces the one there,
+     * in the masks and in the hash.
+     */
+    @Test
+    public void testAddPieceReplaces() {
+        Position position = new Position(5, 0);
+        CuT.setPieceType(position, PType.king);
+        CuT.getSpace(position).addPiece(new Piece(PColor.white, PType.single));
+
+        Piece piece = CuT.getSpace(position).pieceInfo();
+        assertEquals(PColor.white, piece.pieceColor);
+        assertFalse(piece.isKing());
+        assertEquals(0, CuT.getPieceMask(PColor.red) & CuT.getPieceMask(PColor.white));
+        assertEquals(0, CuT.getKingMask());
+        assertEquals(Zobrist.hash(CuT.getPieceMask(PColor.red), CuT.getPieceMask(PColor.white), CuT.getKingMask()),
+            CuT.positionHash());
+    }
+}
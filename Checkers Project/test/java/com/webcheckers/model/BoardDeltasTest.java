@@ -0,0 +1,58 @@
+package com.webcheckers.model;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+@Tag("Model-Tier")
+public class BoardDeltasTest {
+
+    // Component Under Test
+    private BoardDeltas CuT;
+
+    // Friendly objects
+    private BitBoard board;
+
+    @BeforeEach
+    public void setup() {
+        board = new BitBoard();
+        CuT = new BoardDeltas(board, 0);
+    }
+
+    private static int bit(int row, int cell) {
+        return 1 << BitBoard.squareOf(row, cell);
+    }
+
+    @Test
+    public void testNothingChanged() {
+        assertEquals(0, CuT.changedSince(0));
+        assertEquals(BoardDeltas.UNKNOWN, CuT.changedSince(1));
+        assertEquals(BoardDeltas.UNKNOWN, CuT.changedSince(-1));
+    }
+
+    @Test
+    public void testChangesAddUp() {
+        board.move(Position.of(5, 0), Position.of(4, 1));
+        CuT.record(board, 1);
+        // A version that doesn't touch the board
+        CuT.record(board, 2);
+        board.move(Position.of(2, 1), Position.of(3, 2));
+        CuT.record(board, 3);
+
+        assertEquals(bit(5, 0) | bit(4, 1) | bit(2, 1) | bit(3, 2), CuT.changedSince(0));
+        assertEquals(bit(2, 1) | bit(3, 2), CuT.changedSince(1));
+        assertEquals(bit(2, 1) | bit(3, 2), CuT.changedSince(2));
+        assertEquals(0, CuT.changedSince(3));
+    }
+
+    @Test
+    public void testOldVersionsForgotten() {
+        for (int version = 1; version <= BoardDeltas.CAPACITY + 1; version++) {
+            CuT.record(board, version);
+        }
+        assertEquals(BoardDeltas.UNKNOWN, CuT.changedSince(0));
+        assertEquals(0, CuT.changedSince(1));
+    }
+}
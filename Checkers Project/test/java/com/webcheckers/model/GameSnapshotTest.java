@@ -0,0 +1,92 @@
+package com.webcheckers.model;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+@Tag("Model-Tier")
+public class GameSnapshotTest {
+
+    private Player red;
+    private Player white;
+    private Game game;
+
+    @BeforeEach
+    public void setup() {
+        red = new Player("red");
+        white = new Player("white");
+        game = new Game(red, white, 3);
+    }
+
+    /**
+     * Make sure a snapshot copies the game as it was, and doesn't follow it.
+     */
+    @Test
+    public void testCopiesGame() {
+        GameSnapshot CuT = GameSnapshot.of(game, null);
+        Board board = game.getBoard();
+        int redPieces = board.getPieceMask(Piece.PColor.red);
+        long hash = board.positionHash();
+
+        game.addMove(Move.between(5, 0, 4, 1));
+        game.applyTurnMoves();
+
+        assertEquals(3, CuT.getGameID());
+        assertEquals(0, CuT.getVersion());
+        assertEquals(Game.Turn.RED, CuT.getTurn());
+        assertEquals(Game.State.ACTIVE, CuT.getState());
+        assertEquals("red", CuT.getRedPlayerName());
+        assertEquals("white", CuT.getWhitePlayerName());
+        assertNull(CuT.getWinnerName());
+        assertNull(CuT.getResignedPlayerName());
+        assertNull(CuT.getSignedOutPlayerName());
+        assertEquals(redPieces, CuT.getPieceMask(Piece.PColor.red));
+        assertEquals(hash, CuT.getPositionHash());
+        assertFalse(CuT.isOver());
+    }
+
+    /**
+     * Make sure a snapshot knows what changed since the one before it.
+     */
+    @Test
+    public void testChangedSquares() {
+        GameSnapshot first = GameSnapshot.of(game, null);
+        game.addMove(Move.between(5, 0, 4, 1));
+        game.applyTurnMoves();
+        GameSnapshot CuT = GameSnapshot.of(game, first);
+
+        int expected = 1 << BitBoard.squareOf(5, 0) | 1 << BitBoard.squareOf(4, 1);
+        assertEquals(expected, CuT.getChangedSquares(first.getVersion()));
+        assertEquals(0, CuT.getChangedSquares(CuT.getVersion()));
+        assertEquals(BoardDeltas.UNKNOWN, CuT.getChangedSquares(7));
+        assertEquals(BoardDeltas.UNKNOWN, first.getChangedSquares(-3));
+    }
+
+    /**
+     * Make sure a game someone left is over, with the other player winning.
+     */
+    @Test
+    public void testPlayerLeft() {
+        game.leaveFromGame(white);
+        GameSnapshot CuT = GameSnapshot.of(game, null);
+
+        assertEquals("white", CuT.getResignedPlayerName());
+        assertEquals("red", CuT.getWinnerName());
+        assertTrue(CuT.isOver());
+    }
+
+    /**
+     * Make sure a snapshot names a player who signed out, while the game
+     * carries on.
+     */
+    @Test
+    public void testPlayerSignedOut() {
+        game.setSignedoutPlayer(white);
+        GameSnapshot CuT = GameSnapshot.of(game, null);
+
+        assertEquals("white", CuT.getSignedOutPlayerName());
+        assertFalse(CuT.isOver());
+    }
+}
@@ -2,6 +2,8 @@ package com.webcheckers.model;
 
 import com.webcheckers.model.Game.State;
 import com.webcheckers.model.Game.Turn;
+import java.util.ArrayList;
+import java.util.Arrays;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
@@ -50,7 +52,7 @@ public class GameTest {
 
     @Test
     public void testCustomConfigConstructor() {
-        board = new Board();
+        board = new BitBoard();
         CuT = new Game(redPlayer, whitePlayer, CUSTOM_GAME_TURN, board, 1);
 
         Assertions.assertNotNull(CuT.redPlayer);
@@ -88,7 +90,7 @@ public class GameTest {
 
     @Test
     public void testGetBoard() {
-        board = new Board();
+        board = new BitBoard();
         CuT = new Game(redPlayer, whitePlayer, Turn.RED, board, 1);
         Assertions.assertEquals(board, CuT.getBoard());
     }
@@ -100,14 +102,14 @@ public class GameTest {
 
     @Test
     public void testGetTurn() {
-        board = new Board();
+        board = new BitBoard();
         CuT = new Game(redPlayer, whitePlayer, CUSTOM_GAME_TURN, board, 1);
         Assertions.assertEquals(CUSTOM_GAME_TURN, CuT.getTurn());
     }
 
     @Test
     public void testSwitchTurn() {
-        board = new Board();
+        board = new BitBoard();
         CuT = new Game(redPlayer, whitePlayer, CUSTOM_GAME_TURN, board, 1);
         Turn previous = CuT.getTurn();
         CuT.switchTurn();
@@ -117,6 +119,53 @@ public class GameTest {
         Assertions.assertNotEquals(previous, CuT.getTurn());
     }
 
+    @Test
+    public void testLegalMovesAreReused() {
+        LegalMoves first = CuT.getLegalMoves();
+        Assertions.assertSame(first, CuT.getLegalMoves());
+    }
+
+    @Test
+    public void testLegalMovesAfterBoardChange() {
+        LegalMoves first = CuT.getLegalMoves();
+        CuT.getBoard().move(new Position(5, 0), new Position(4, 1));
+        LegalMoves second = CuT.getLegalMoves();
+        Assertions.assertNotSame(first, second);
+        Assertions.assertTrue(second.allows(PackedMove.of(new SimpleMove(new Position(4, 1), new Position(3, 0)))));
+    }
+
+    @Test
+    public void testLegalMovesAfterTurnChange() {
+        LegalMoves first = CuT.getLegalMoves();
+        CuT.switchTurn();
+        LegalMoves second = CuT.getLegalMoves();
+        Assertions.assertNotSame(first, second);
+        Assertions.assertTrue(second.allows(PackedMove.of(new SimpleMove(new Position(2, 1), new Position(3, 0)))));
+    }
+
+    @Test
+    public void testMakeAndUnmakeSwitchTurn() {
+        int step = CuT.getLegalMoves().getSteps().get(0);
+        long undo = CuT.make(step);
+        Assertions.assertEquals(Turn.WHITE, CuT.getTurn());
+        CuT.unmake(undo);
+        Assertions.assertEquals(Turn.RED, CuT.getTurn());
+        Assertions.assertEquals(new BitBoard(), CuT.getBoard());
+    }
+
+    @Test
+    public void testApplyTurnMovesKingsPiece() {
+        CuT = Game.testKingMidTurn(redPlayer, whitePlayer, 0);
+        CuT.addMoveToCurrentTurn(new JumpMove(new Position(2, 1), new Position(0, 3)));
+        Assertions.assertTrue(CuT.lastMoveMakesKing());
+        Assertions.assertFalse(CuT.getBoard().getSpace(new Position(2, 1)).pieceInfo().isKing(),
+            "Queued moves shouldn't change the board");
+
+        CuT.applyTurnMoves();
+        Assertions.assertTrue(CuT.getBoard().getSpace(new Position(0, 3)).pieceInfo().isKing());
+        Assertions.assertFalse(CuT.getBoard().getSpace(new Position(1, 2)).doesHasPiece());
+    }
+
     /**
      * Make sure that there is no winner when the game starts.
      */
@@ -134,11 +183,12 @@ public class GameTest {
 
     @Test
     public void testGetLastMove() {
-        JumpMove mockJump = mock(JumpMove.class);
+        JumpMove jump = new JumpMove(new Position(5, 0), new Position(3, 2));
         // no moves made cannot get last move
         Assertions.assertNull(CuT.getLastMoveMade());
-        CuT.addMoveToCurrentTurn(mockJump);
-        Assertions.assertEquals(mockJump, CuT.getLastMoveMade());
+        CuT.addMoveToCurrentTurn(jump);
+        Assertions.assertEquals(jump, CuT.getLastMoveMade());
+        Assertions.assertTrue(CuT.getLastMoveMade() instanceof JumpMove);
 
     }
 
@@ -146,7 +196,7 @@ public class GameTest {
     public void testAddMoveToCurrentTurn() {
         // no moves before add
         Assertions.assertFalse(CuT.hasMovesInCurrentTurn());
-        CuT.addMoveToCurrentTurn(mock(JumpMove.class));
+        CuT.addMoveToCurrentTurn(new JumpMove(new Position(5, 0), new Position(3, 2)));
         // moves after addition
         Assertions.assertTrue(CuT.hasMovesInCurrentTurn());
     }
@@ -193,6 +243,44 @@ public class GameTest {
         Assertions.assertEquals(State.ACTIVE, CuT.getState());
     }
 
+    /**
+     * Make sure the version only goes up for changes the players see.
+     */
+    @Test
+    public void testVersion() {
+        long start = CuT.getVersion();
+        CuT.addMove(new SimpleMove(new Position(5, 0), new Position(4, 1)));
+        Assertions.assertEquals(start, CuT.getVersion());
+        CuT.applyTurnMoves();
+        Assertions.assertEquals(start + 1, CuT.getVersion());
+        CuT.requestAsync(redPlayer);
+        Assertions.assertEquals(start + 2, CuT.getVersion());
+        CuT.leaveFromGame(redPlayer);
+        Assertions.assertEquals(start + 3, CuT.getVersion());
+    }
+
+    /**
+     * Make sure the turn that takes the last piece decides the winner, as
+     * part of the same change, and reading the game afterwards changes
+     * nothing.
+     */
+    @Test
+    public void testTurnDecidesWinner() {
+        board = new BitBoard(new ArrayList<>(Arrays.asList(new Position(3, 2))),
+            new ArrayList<>(Arrays.asList(new Position(2, 1))));
+        CuT = new Game(redPlayer, whitePlayer, Turn.RED, board, 1);
+        Assertions.assertNull(CuT.getWinningPlayerName());
+
+        CuT.addMove(Move.between(3, 2, 1, 0));
+        CuT.applyTurnMoves();
+        Assertions.assertEquals(RED_NAME, CuT.getWinningPlayerName());
+        Assertions.assertEquals(1, CuT.getVersion());
+
+        GameSnapshot snapshot = GameSnapshot.of(CuT, null);
+        Assertions.assertEquals(RED_NAME, snapshot.getWinnerName());
+        Assertions.assertEquals(1, CuT.getVersion());
+    }
+
     /*
     @Test
     public void testApplyTurnMoves() {
@@ -249,7 +337,7 @@ public class GameTest {
     public void testMovesLeftWithValidJumpLeft() {
         ArrayList<Position> red = new ArrayList<>(Arrays.asList(new Position(5,0)));
         ArrayList<Position> white = new ArrayList<>(Arrays.asList(new Position(4,1)));
-        Board testBoard = new Board(red, white);
+        Board testBoard = new BitBoard(red, white);
         Position end = new Position(5, 0);
         JumpMove mockJump = mock(JumpMove.class);
         when(mockJump.getEnd()).thenReturn(end);
@@ -1,5 +1,8 @@
 package com.webcheckers.model;
 
+import com.webcheckers.model.Game.Turn;
+import java.util.ArrayList;
+import java.util.Arrays;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
@@ -7,8 +10,6 @@ import org.junit.jupiter.api.Test;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
-import static org.mockito.Mockito.mock;
-import static org.mockito.Mockito.when;
 
 @Tag("Model-Tier")
 public class JumpMoveTest {
@@ -16,6 +17,8 @@ public class JumpMoveTest {
     //
     // Constants
     //
+    private static final String RED_NAME = "red";
+    private static final String WHITE_NAME = "white";
 
     //
     // Attributes
@@ -24,45 +27,17 @@ public class JumpMoveTest {
     private Position middle;
     private Position validEnd;
     private Position invalidEnd;
-    private Game game;
-    private Board board;
 
     //
     // Helper methods
     //
-    private Position makeMockPosition(int row, int col) {
-        Position mockPosition = mock(Position.class);
-        when(mockPosition.getRow()).thenReturn(row);
-        when(mockPosition.getCell()).thenReturn(col);
-        return mockPosition;
+    private static ArrayList<Position> positions(Position... positions) {
+        return new ArrayList<>(Arrays.asList(positions));
     }
 
-    private Space makeEmptySpace() {
-        Space mockSpace = mock(Space.class);
-        when(mockSpace.doesHasPiece()).thenReturn(false);
-        when(mockSpace.isValid()).thenReturn(true);
-        return mockSpace;
-    }
-
-    private Space makeFullSpace(Piece.PColor color) {
-        Space mockSpace = mock(Space.class);
-        when(mockSpace.doesHasPiece()).thenReturn(true);
-        when(mockSpace.pieceInfo()).thenReturn(new Piece(color, Piece.PType.single));
-        return mockSpace;
-    }
-
-    private Space makeRedSpace() {
-        return makeFullSpace(Piece.PColor.red);
-    }
-
-    private Space makeWhiteSpace() {
-        return makeFullSpace(Piece.PColor.white);
-    }
-
-    private void addEmptySpace(Board board, Position position) {
-        Space emptySpace = makeEmptySpace();
-        when(board.getSpace(position)).thenReturn(emptySpace);
-        when(board.spaceIsValid(position)).thenReturn(true);
+    private static Game makeGame(Turn turn, ArrayList<Position> red, ArrayList<Position> white) {
+        Board board = new BitBoard(red, white);
+        return new Game(new Player(RED_NAME), new Player(WHITE_NAME), turn, board, 0);
     }
 
     //
@@ -70,16 +45,11 @@ public class JumpMoveTest {
     //
     @BeforeEach
     public void setUp() {
-        // Set up positions
-        start = makeMockPosition(0, 0);
-        middle = makeMockPosition(1, 1);
-        validEnd = makeMockPosition(2, 2);
-        invalidEnd = makeMockPosition(4, 4);
-
-        // Create game
-        game = mock(Game.class);
-        board = mock(Board.class);
-        when(game.getBoard()).thenReturn(board);
+        // A red piece moving "forward" jumps towards row 0
+        start = new Position(5, 2);
+        middle = new Position(4, 3);
+        validEnd = new Position(3, 4);
+        invalidEnd = new Position(1, 6);
     }
 
     //
@@ -93,8 +63,8 @@ public class JumpMoveTest {
     @Test
     public void testMiddleCalculation() {
         JumpMove CuT = new JumpMove(start, validEnd);
-        assertEquals(CuT.middle.row, 1, "Row of jumped position calculated incorrectly");
-        assertEquals(CuT.middle.cell, 1, "Column of jumped position calculated incorrectly");
+        assertEquals(CuT.middle.row, 4, "Row of jumped position calculated incorrectly");
+        assertEquals(CuT.middle.cell, 3, "Column of jumped position calculated incorrectly");
     }
 
     /**
@@ -103,8 +73,10 @@ public class JumpMoveTest {
      */
     @Test
     public void testInvalidSpacingValidation() {
+        Game game = makeGame(Turn.RED, positions(start), positions(middle));
         JumpMove CuT = new JumpMove(start, invalidEnd);
         assertFalse(CuT.validateMove(game), "An invalidly-spaced move was returned as valid");
+        assertEquals(JumpMove.INVALID_JUMP_SPACING, CuT.getCurrentMsg());
     }
 
     /**
@@ -112,12 +84,11 @@ public class JumpMoveTest {
      */
     @Test
     public void testNoPieceOnStartSpace() {
-        // Set up an empty board
-        addEmptySpace(board, start);
-
+        Game game = makeGame(Turn.RED, positions(new Position(7, 0)), positions(middle));
         JumpMove CuT = new JumpMove(start, validEnd);
 
         assertFalse(CuT.validateMove(game));
+        assertEquals(JumpMove.INVALID_START_PIECE, CuT.getCurrentMsg());
     }
 
     /**
@@ -127,38 +98,39 @@ public class JumpMoveTest {
      */
     @Test
     public void testEndSpaceIsInvalid() {
-        // Add a space to the start
-        Space startSpace = makeRedSpace();
-        when(board.getSpace(start)).thenReturn(startSpace);
-
-        // Add a space that appears to have a piece on it to the destination on
-        // the board - the color doesn't matter, it just needs to be full
-        Space endSpace = makeRedSpace();
-        when(board.getSpace(validEnd)).thenReturn(endSpace);
-
+        // The color of the piece on the destination doesn't matter, it just
+        // needs to be full
+        Game game = makeGame(Turn.RED, positions(start, validEnd), positions(middle));
         JumpMove CuT = new JumpMove(start, validEnd);
 
         assertFalse(CuT.validateMove(game), "A move that would end on a full or white space was returned as valid");
+        assertEquals(JumpMove.INVALID_LANDING_SPACE, CuT.getCurrentMsg());
     }
 
     /**
      * Make sure that a jump move that would end out of the bounds of the
-     * checkers board is not considered valid, but also that the exception is
-     * properly handled.
+     * checkers board is not considered valid.
      */
     @Test
     public void testOutOfBoundsEndPosition() {
-        // Set up the start position
-        Space startSpace = makeRedSpace();
-        when(board.getSpace(start)).thenReturn(startSpace);
+        Position edge = new Position(1, 0);
+        Game game = makeGame(Turn.RED, positions(edge), positions(new Position(0, 1)));
+        JumpMove CuT = new JumpMove(edge, new Position(-1, 2));
 
-        // Set up the OOB position
-        Position outOfBounds = makeMockPosition(-2, -2);
-        when(board.spaceIsValid(outOfBounds)).thenThrow(new IndexOutOfBoundsException());
+        assertFalse(CuT.validateMove(game), "A move that would end outside of the board was returned as valid");
+    }
 
-        JumpMove CuT = new JumpMove(start, outOfBounds);
+    /**
+     * Make sure that a jump move that starts outside of the board is turned
+     * down without looking at the board.
+     */
+    @Test
+    public void testOutOfBoundsStartPosition() {
+        Game game = makeGame(Turn.RED, positions(start), positions(middle));
+        JumpMove CuT = new JumpMove(new Position(9, 2), new Position(7, 0));
 
-        assertFalse(CuT.validateMove(game), "A move that would end outside of the board was returned as valid");
+        assertFalse(CuT.validateMove(game), "A move that starts outside of the board was returned as valid");
+        assertEquals(Move.OUT_OF_BOUNDS, CuT.getCurrentMsg());
     }
 
     /**
@@ -167,22 +139,11 @@ public class JumpMoveTest {
      */
     @Test
     public void testNoPieceInMiddleSpace() {
-        // Make sure the destination space looks valid
-        when(board.spaceIsValid(validEnd)).thenReturn(true);
-
-        // Set up the start space
-        Space startSpace = makeRedSpace();
-        when(board.getSpace(start)).thenReturn(startSpace);
-
-        // Set up the middle space
-        addEmptySpace(board, middle);
-
-        // There are no queued moves
-        when(game.hasMovesInCurrentTurn()).thenReturn(false);
-
-        JumpMove CuT = new JumpMove(start, middle, validEnd);
+        Game game = makeGame(Turn.RED, positions(start), positions(new Position(0, 1)));
+        JumpMove CuT = new JumpMove(start, validEnd);
 
         assertFalse(CuT.validateMove(game), "A jump move that jumps over an empty space was returned as valid");
+        assertEquals(JumpMove.MIDDLE_NO_PIECE, CuT.getCurrentMsg());
     }
 
     /**
@@ -191,41 +152,20 @@ public class JumpMoveTest {
      */
     @Test
     public void testOwnPieceInMiddleSpace() {
-        // Make sure the destination space looks valid
-        when(board.spaceIsValid(validEnd)).thenReturn(true);
-
-        // Make it look like white's turn
-        when(game.getTurn()).thenReturn(Game.Turn.WHITE);
-
-        // Add white piece at the start
-        Space startSpace = makeWhiteSpace();
-        when(board.getSpace(start)).thenReturn(startSpace);
-        when(game.getPieceColor(start)).thenReturn(Piece.PColor.white);
-        // Add white piece in the middle
-        Space middleSpace = makeWhiteSpace();
-        when(board.getSpace(middle)).thenReturn(middleSpace);
-
-        JumpMove CuT = new JumpMove(start, middle, validEnd);
+        Game game = makeGame(Turn.RED, positions(start, middle), positions(new Position(0, 1)));
+        JumpMove CuT = new JumpMove(start, validEnd);
 
         assertFalse(CuT.validateMove(game), "A jump move that jumps over the player's own piece was returned as valid");
+        assertEquals(JumpMove.MIDDLE_SAME_COLOR, CuT.getCurrentMsg());
     }
 
     @Test
     public void testValidJumpMove() {
-        // Make sure the destination space looks valid
-        when(board.spaceIsValid(validEnd)).thenReturn(true);
-
-        // Add a white space to the start
-        Space startSpace = makeWhiteSpace();
-        when(board.getSpace(start)).thenReturn(startSpace);
-
-        // Add a red piece to the middle
-        Space middleSpace = makeRedSpace();
-        when(board.getSpace(middle)).thenReturn(middleSpace);
-
-        JumpMove CuT = new JumpMove(start, middle, validEnd);
+        Game game = makeGame(Turn.RED, positions(start), positions(middle));
+        JumpMove CuT = new JumpMove(start, validEnd);
 
         assertTrue(CuT.validateMove(game));
+        assertEquals(Move.MOVE_VALID, CuT.getCurrentMsg());
     }
 
     /**
@@ -233,144 +173,103 @@ public class JumpMoveTest {
      */
     @Test
     public void testBackwardsRedJumpMove() {
-        // Make sure the destination space looks valid
-        when(board.spaceIsValid(validEnd)).thenReturn(true);
-
-        // Make it look like red's turn
-        when(game.getTurn()).thenReturn(Game.Turn.RED);
-
-        // Add a red space to the start
-        Space startSpace = makeRedSpace();
-        when(board.getSpace(start)).thenReturn(startSpace);
-        when(game.getPieceColor(start)).thenReturn(Piece.PColor.red);
-
-        // Add a white space to the middle
-        Space middleSpace = makeWhiteSpace();
-        when(board.getSpace(middle)).thenReturn(middleSpace);
-
-        JumpMove CuT = new JumpMove(start, middle, validEnd);
+        Game game = makeGame(Turn.RED, positions(validEnd), positions(middle));
+        JumpMove CuT = new JumpMove(validEnd, start);
 
         assertFalse(CuT.validateMove(game));
+        assertEquals(Move.MOVE_PIECE_FORWARD, CuT.getCurrentMsg());
     }
 
     /**
-     * Make sure that backwards white moves do not count as valid. The use of
-     * the previously-defined positions is a little weird here, and I'm sorry.
+     * Make sure that backwards white moves do not count as valid.
      */
     @Test
     public void testBackwardsWhiteJumpMove() {
-        // Make sure the destination space looks valid
-        when(board.spaceIsValid(validEnd)).thenReturn(true);
-
-        // Add a white space to the start
-        Space startSpace = makeWhiteSpace();
-        when(board.getSpace(validEnd)).thenReturn(startSpace);
-
-        // Add a red space to the middle
-        Space middleSpace = makeRedSpace();
-        when(board.getSpace(middle)).thenReturn(middleSpace);
-
-        JumpMove CuT = new JumpMove(validEnd, middle, start);
+        Game game = makeGame(Turn.WHITE, positions(middle), positions(start));
+        JumpMove CuT = new JumpMove(start, validEnd);
 
         assertFalse(CuT.validateMove(game));
+        assertEquals(Move.MOVE_PIECE_FORWARD, CuT.getCurrentMsg());
     }
 
     /**
-     * Make sure invalid moves aren't executed.
+     * Make sure that kings may jump backwards.
      */
-    /**
     @Test
-    public void testExecuteInvalidMove() {
-        JumpMove CuT = new JumpMove(start, invalidEnd);
-        when(board.getSpace(CuT.middle)).thenReturn(mock(Space.class));
-        assertFalse(CuT.executeMove(game));
+    public void testBackwardsKingJumpMove() {
+        Game game = makeGame(Turn.RED, positions(validEnd), positions(middle));
+        game.getBoard().setPieceType(validEnd, Piece.PType.king);
+        JumpMove CuT = new JumpMove(validEnd, start);
+
+        assertTrue(CuT.validateMove(game));
     }
-    */
 
     /**
-     * Make sure valid moves get executed properly.
+     * Make sure the second jump of a multi-jump turn is checked against the
+     * piece that is already jumping.
      */
     @Test
-    public void testExecuteValidMove() {
-        // Make sure the destination space looks valid
-        when(board.spaceIsValid(validEnd)).thenReturn(true);
-
-        // Add a white space to the start
-        Space startSpace = makeWhiteSpace();
-        when(board.getSpace(start)).thenReturn(startSpace);
-
-        // Add a red piece to the middle
-        Space middleSpace = makeRedSpace();
-        when(board.getSpace(middle)).thenReturn(middleSpace);
+    public void testValidateMoveWithMultiMoveTurn() {
+        Position secondEnd = new Position(1, 2);
+        Game game = makeGame(Turn.RED, positions(start, new Position(5, 6)),
+            positions(middle, new Position(2, 3), new Position(4, 5)));
+        game.addMoveToCurrentTurn(new JumpMove(start, validEnd));
 
-        JumpMove CuT = new JumpMove(start, middle, validEnd);
+        JumpMove CuT = new JumpMove(validEnd, secondEnd);
+        assertTrue(CuT.validateMove(game));
 
-        assertTrue(CuT.executeMove(game));
+        JumpMove otherPiece = new JumpMove(new Position(5, 6), validEnd);
+        assertFalse(otherPiece.validateMove(game));
+        assertEquals(JumpMove.INVALID_JUMP_PIECE, otherPiece.getCurrentMsg());
     }
 
     /**
-     * Make sure that a default starting board does not have any valid jump
-     * moves for the red player.
+     * Make sure a piece cannot be jumped twice in one turn.
      */
-
-    /*
     @Test
-    public void testDefaultBoardRedNoJumpMoves() {
-        Game mockGame = mock(Game.class);
-        Board realBoard = new Board();
-        when(mockGame.getBoard()).thenReturn(realBoard);
+    public void testAlreadyJumpedPiece() {
+        Game game = makeGame(Turn.RED, positions(start), positions(middle));
+        game.getBoard().setPieceType(start, Piece.PType.king);
+        game.addMoveToCurrentTurn(new JumpMove(start, validEnd));
 
-        assertFalse(JumpMove.jumpMoveAvailable(mockGame));
+        JumpMove CuT = new JumpMove(validEnd, start);
+        assertFalse(CuT.validateMove(game));
+        assertEquals(JumpMove.ALREADY_JUMPED, CuT.getCurrentMsg());
     }
-    */
 
     /**
-     * Make sure that a default starting board does not have any valid jump
-     * moves for the white player.
+     * Make sure valid moves get executed properly.
      */
     @Test
-    public void testDefaultBoardWhiteNoJumpMoves() {
-        Game realGame = new Game(mock(Player.class), mock(Player.class), 0);
+    public void testExecuteValidMove() {
+        Game game = makeGame(Turn.RED, positions(start), positions(middle));
+        JumpMove CuT = new JumpMove(start, validEnd);
 
-        assertFalse(JumpMove.jumpMoveAvailable(game));
+        assertTrue(CuT.executeMove(game));
+        Board board = game.getBoard();
+        assertFalse(board.getSpace(start).doesHasPiece());
+        assertFalse(board.getSpace(middle).doesHasPiece(), "The jumped piece should be removed");
+        assertTrue(board.getSpace(validEnd).doesHasPiece());
     }
 
     /**
+     * Make sure that a default starting board does not have any valid jump
+     * moves for the red player.
+     */
     @Test
-    public void testValidateMoveWithMultiMoveTurn() {
-        when(board.spaceIsValid(validEnd)).thenReturn(true);
-
-        // Add a white space to the start
-        Space startSpace = makeWhiteSpace();
-        when(board.getSpace(start)).thenReturn(startSpace);
-        when(startSpace.doesHasPiece()).thenReturn(false);
-
-        // Add a red piece to the middle
-        Space middleSpace = makeRedSpace();
-        when(board.getSpace(middle)).thenReturn(middleSpace);
+    public void testDefaultBoardNoJumpMoves() {
+        Game realGame = new Game(new Player(RED_NAME), new Player(WHITE_NAME), 0);
 
-        Move mockPreviousMove = mock(JumpMove.class);
-        when(mockPreviousMove.getEnd()).thenReturn(start);
-        when(game.hasMovesInCurrentTurn()).thenReturn(true);
-        when(game.getLastMoveMade()).thenReturn(mockPreviousMove);
-
-        JumpMove CuT = new JumpMove(start, middle, validEnd);
-        boolean actual = CuT.validateMove(game);
-        assertTrue(actual);
+        assertFalse(JumpMove.jumpMoveAvailable(realGame));
     }
 
+    /**
+     * Make sure that a capture is found when one is on the board.
+     */
     @Test
-    public void testValidateMoveWithMultiMoveTurnShouldFail() {
-        Game mockGame = mock(Game.class);
-        Board realBoard = new Board();
-        Move mockPreviousMove = mock(JumpMove.class);
-        when(mockPreviousMove.getEnd()).thenReturn(validEnd);
-        when(mockGame.getBoard()).thenReturn(realBoard);
-        when(mockGame.hasMovesInCurrentTurn()).thenReturn(true);
-        when(mockGame.getLastMoveMade()).thenReturn(mockPreviousMove);
+    public void testJumpMoveAvailable() {
+        Game game = makeGame(Turn.RED, positions(start), positions(middle));
 
-        JumpMove CuT = new JumpMove(start, validEnd);
-        assertFalse(CuT.validateMove(mockGame));
+        assertTrue(JumpMove.jumpMoveAvailable(game));
     }
-    */
 }
@@ -0,0 +1,117 @@
+package com.webcheckers.model;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.webcheckers.model.Piece.PColor;
+import java.util.ArrayList;
+import java.util.Arrays;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+@Tag("Model-tier")
+public class MoveGeneratorTest {
+
+    private static final Player RED = new Player("red");
+    private static final Player WHITE = new Player("white");
+
+    private static ArrayList<Position> positions(Position... positions) {
+        return new ArrayList<>(Arrays.asList(positions));
+    }
+
+    private static int simple(int startRow, int startCell, int endRow, int endCell) {
+        return PackedMove.of(new SimpleMove(new Position(startRow, startCell), new Position(endRow, endCell)));
+    }
+
+    private static int jump(int startRow, int startCell, int endRow, int endCell) {
+        return PackedMove.of(new JumpMove(new Position(startRow, startCell), new Position(endRow, endCell)));
+    }
+
+    @Test
+    public void testOpeningMoves() {
+        LegalMoves CuT = MoveGenerator.generate(new BitBoard(), PColor.red);
+        assertFalse(CuT.hasCaptures());
+        assertEquals(7, CuT.size());
+        assertTrue(CuT.allows(simple(5, 0, 4, 1)));
+        assertFalse(CuT.allows(simple(6, 1, 5, 0)), "Blocked pieces can't move");
+
+        CuT = MoveGenerator.generate(new BitBoard(), PColor.white);
+        assertEquals(7, CuT.size());
+        assertTrue(CuT.allows(simple(2, 1, 3, 0)));
+    }
+
+    @Test
+    public void testCapturesAreMandatory() {
+        Board board = new BitBoard(positions(new Position(5, 2), new Position(7, 6)), positions(new Position(4, 3)));
+        LegalMoves CuT = MoveGenerator.generate(board, PColor.red);
+        assertTrue(CuT.hasCaptures());
+        assertEquals(1, CuT.size());
+        assertTrue(CuT.allows(jump(5, 2, 3, 4)));
+        assertFalse(CuT.allows(simple(7, 6, 6, 5)));
+    }
+
+    @Test
+    public void testMultiJumpIsOnePath() {
+        Game game = Game.testDoubleJump(RED, WHITE, 0);
+        LegalMoves CuT = game.getLegalMoves();
+        assertTrue(CuT.hasCaptures());
+        assertEquals(1, CuT.size());
+
+        MoveList queued = new MoveList();
+        int first = jump(7, 0, 5, 2);
+        int second = jump(5, 2, 3, 0);
+        assertTrue(CuT.allows(queued, first));
+        queued.add(first);
+        assertTrue(CuT.canContinue(queued), "The chain isn't finished after one jump");
+        assertTrue(CuT.allows(queued, second));
+        queued.add(second);
+        assertFalse(CuT.canContinue(queued));
+    }
+
+    @Test
+    public void testMovesMustJoinUp() {
+        Game game = Game.testDoubleJump(RED, WHITE, 0);
+        MoveList queued = new MoveList();
+        queued.add(jump(7, 0, 5, 2));
+        assertFalse(game.getLegalMoves().allows(queued, jump(3, 4, 1, 2)));
+    }
+
+    @Test
+    public void testPromotionEndsChain() {
+        // Without the promotion rule the piece could jump back from row 0
+        Game game = Game.testKingMidTurn(RED, WHITE, 0);
+        LegalMoves CuT = game.getLegalMoves();
+        MoveList queued = new MoveList();
+        assertTrue(CuT.allows(queued, jump(2, 1, 0, 3)));
+        queued.add(jump(2, 1, 0, 3));
+        assertFalse(CuT.canContinue(queued));
+        assertTrue(PackedMove.isPromotion(CuT.getSteps().get(0)));
+    }
+
+    @Test
+    public void testKingsMoveBothWays() {
+        Board board = new BitBoard(positions(new Position(4, 3)), positions(new Position(0, 7)));
+        board.setPieceType(new Position(4, 3), Piece.PType.king);
+        assertEquals(4, MoveGenerator.generate(board, PColor.red).size());
+    }
+
+    @Test
+    public void testChainIsPackedAsSteps() {
+        Game game = Game.testDoubleJump(RED, WHITE, 0);
+        MoveList steps = game.getLegalMoves().getSteps();
+        assertEquals(2, steps.size());
+        assertTrue(PackedMove.isJump(steps.get(0)));
+        assertFalse(PackedMove.isLast(steps.get(0)));
+        assertEquals(new Position(6, 1).getSquare(), PackedMove.captured(steps.get(0)));
+        assertTrue(PackedMove.isLast(steps.get(1)));
+        assertEquals(new Position(4, 1).getSquare(), PackedMove.captured(steps.get(1)));
+    }
+
+    @Test
+    public void testNoMoves() {
+        // The red piece is blocked and the jump would land off the board
+        Board board = new BitBoard(positions(new Position(1, 0)), positions(new Position(0, 1)));
+        Game game = new Game(RED, WHITE, Game.Turn.RED, board, 0);
+        assertTrue(game.getLegalMoves().isEmpty());
+        assertTrue(game.playerHasLost(PColor.red));
+    }
+}
@@ -0,0 +1,42 @@
+package com.webcheckers.model;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+@Tag("Model-tier")
+public class MoveListTest {
+
+    @Test
+    public void testAddAndGet() {
+        MoveList CuT = new MoveList(1);
+        assertTrue(CuT.isEmpty());
+        for (int i = 0; i < 40; i++) {
+            CuT.add(i);
+        }
+        assertEquals(40, CuT.size());
+        assertEquals(7, CuT.get(7));
+        assertEquals(39, CuT.last());
+    }
+
+    @Test
+    public void testRemoveLast() {
+        MoveList CuT = new MoveList();
+        CuT.add(1);
+        CuT.add(2);
+        assertEquals(2, CuT.removeLast());
+        assertEquals(1, CuT.size());
+        assertEquals(1, CuT.last());
+    }
+
+    @Test
+    public void testClear() {
+        MoveList CuT = new MoveList();
+        CuT.add(1);
+        CuT.clear();
+        assertTrue(CuT.isEmpty());
+        assertThrows(IndexOutOfBoundsException.class, () -> CuT.get(0));
+        assertThrows(IndexOutOfBoundsException.class, CuT::removeLast);
+    }
+}
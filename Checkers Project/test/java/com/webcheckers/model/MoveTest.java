@@ -46,6 +46,16 @@ public class MoveTest {
         Assertions.assertNotNull(this.testEnd);
     }
 
+    @Test
+    public void testBetween() {
+        Move simple = Move.between(5, 0, 4, 1);
+        Move jump = Move.between(5, 0, 3, 2);
+        Assertions.assertTrue(simple instanceof SimpleMove);
+        Assertions.assertTrue(jump instanceof JumpMove);
+        Assertions.assertSame(Position.of(5, 0), jump.getStart());
+        Assertions.assertEquals(new Position(3, 2), jump.getEnd());
+    }
+
     @Test
     public void testGetEnd() {
         Position actualEnd = CuT.getEnd();
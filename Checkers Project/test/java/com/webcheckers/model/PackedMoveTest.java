@@ -0,0 +1,54 @@
+package com.webcheckers.model;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+@Tag("Model-tier")
+public class PackedMoveTest {
+
+    @Test
+    public void testSimpleRoundTrip() {
+        SimpleMove move = new SimpleMove(new Position(5, 0), new Position(4, 1));
+        int CuT = PackedMove.of(move);
+        assertEquals(new Position(5, 0).getSquare(), PackedMove.from(CuT));
+        assertEquals(new Position(4, 1).getSquare(), PackedMove.to(CuT));
+        assertFalse(PackedMove.isJump(CuT));
+        assertEquals(-1, PackedMove.captured(CuT));
+
+        Move unpacked = PackedMove.toMove(CuT);
+        assertTrue(unpacked instanceof SimpleMove);
+        assertEquals(move, unpacked);
+    }
+
+    @Test
+    public void testJumpRoundTrip() {
+        JumpMove move = new JumpMove(new Position(5, 0), new Position(3, 2));
+        int CuT = PackedMove.of(move);
+        assertTrue(PackedMove.isJump(CuT));
+        assertEquals(new Position(4, 1).getSquare(), PackedMove.captured(CuT));
+
+        Move unpacked = PackedMove.toMove(CuT);
+        assertTrue(unpacked instanceof JumpMove);
+        assertEquals(move, unpacked);
+    }
+
+    @Test
+    public void testFlags() {
+        int CuT = PackedMove.jump(31, 22, 26, PackedMove.PROMOTION | PackedMove.LAST);
+        assertTrue(PackedMove.isPromotion(CuT));
+        assertTrue(PackedMove.isLast(CuT));
+        assertEquals(31, PackedMove.from(CuT));
+        assertEquals(22, PackedMove.to(CuT));
+        assertEquals(26, PackedMove.captured(CuT));
+        assertTrue(PackedMove.samePath(CuT, PackedMove.jump(31, 22, 26, 0)));
+        assertFalse(PackedMove.samePath(CuT, PackedMove.jump(22, 31, 26, 0)));
+    }
+
+    @Test
+    public void testOffTheBlackSpaces() {
+        assertEquals(PackedMove.NONE, PackedMove.of(new SimpleMove(new Position(5, 0), new Position(4, 0))));
+        assertEquals(PackedMove.NONE, PackedMove.of(new JumpMove(new Position(1, 0), new Position(-1, 2))));
+    }
+}
@@ -0,0 +1,53 @@
+package com.webcheckers.model;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * The opening counts are the published perft numbers for English draughts.
+ * The counts for the test games were recorded from this generator, so they
+ * only catch changes in behaviour.
+ */
+@Tag("Model-tier")
+@Tag("Perft")
+public class PerftTest {
+
+    private static final long[] OPENING = {1, 7, 49, 302, 1469, 7361, 36768, 179740};
+
+    private static final Player RED = new Player("red");
+    private static final Player WHITE = new Player("white");
+
+    @Test
+    public void testOpeningPosition() {
+        Game game = new Game(RED, WHITE, 0);
+        for (int depth = 0; depth < OPENING.length; depth++) {
+            assertEquals(OPENING[depth], Perft.count(game, depth), "Wrong count at depth " + depth);
+        }
+    }
+
+    @Test
+    public void testBoardIsRestored() {
+        Game game = new Game(RED, WHITE, 0);
+        long hash = game.getBoard().positionHash();
+        Perft.count(game, 5);
+        assertEquals(new BitBoard(), game.getBoard());
+        assertEquals(hash, game.getBoard().positionHash());
+    }
+
+    @Test
+    public void testDoubleJump() {
+        assertEquals(48, Perft.count(Game.testDoubleJump(RED, WHITE, 0), 9));
+    }
+
+    @Test
+    public void testDoubleJumpKing() {
+        assertEquals(4719, Perft.count(Game.testDoubleJumpKing(RED, WHITE, 0), 9));
+    }
+
+    @Test
+    public void testInvalidMoves() {
+        assertEquals(170134, Perft.count(Game.testInvalidMoves(RED, WHITE, 0), 9));
+    }
+}
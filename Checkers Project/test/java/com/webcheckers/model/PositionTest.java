@@ -51,6 +51,31 @@ public class PositionTest {
         Assertions.assertTrue(CuT.equals(other));
     }
 
+    @Test
+    public void testHashCode() {
+        CuT = new Position(ROW, COL);
+        Assertions.assertEquals(new Position(ROW, COL).hashCode(), CuT.hashCode());
+        Assertions.assertNotEquals(new Position(COL + 1, ROW).hashCode(), CuT.hashCode());
+    }
+
+    @Test
+    public void testOfIsShared() {
+        CuT = Position.of(ROW, COL);
+        Assertions.assertSame(CuT, Position.of(ROW, COL));
+        Assertions.assertEquals(new Position(ROW, COL), CuT);
+
+        // (1, 1) is a white space, so use a black one
+        Position black = Position.of(ROW, COL + 1);
+        Assertions.assertSame(black, Position.ofSquare(black.getSquare()));
+    }
+
+    @Test
+    public void testOfOffBoard() {
+        CuT = Position.of(-1, 8);
+        Assertions.assertTrue(CuT.outOfBounds());
+        Assertions.assertEquals(-1, CuT.getSquare());
+    }
+
     @Test public void testToString() {
         CuT = new Position(ROW, COL);
         Assertions.assertEquals(CORRECT_STRING, CuT.toString());
@@ -1,15 +1,14 @@
 package com.webcheckers.model;
 
 import com.webcheckers.model.Game.Turn;
+import java.util.ArrayList;
+import java.util.Arrays;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.Tag;
 
-import static org.mockito.Mockito.mock;
-import static org.mockito.Mockito.when;
-
 @Tag("Model-Tier")
 public class SimpleMoveTest {
 
@@ -28,51 +27,54 @@ public class SimpleMoveTest {
     // Friendly Objects
     private Position testStart;
     private Position testEnd;
-
-    // Mocked Objects for testing
     private Game testGame;
     private Board testBoard;
 
+    /**
+     * Make a game where the only piece of the given color is on the start
+     * space, with one piece of the other color in the far corner
+     */
+    private Game makeGame(Turn turn, Position... others) {
+        ArrayList<Position> own = new ArrayList<>(Arrays.asList(new Position(START_ROW, START_COL)));
+        ArrayList<Position> other = new ArrayList<>(Arrays.asList(others));
+        other.add(new Position(7, 6));
+        testBoard = turn == Turn.RED ? new BitBoard(own, other) : new BitBoard(other, own);
+        return new Game(new Player(TEST_NAME_RED), new Player(TEST_NAME_WHITE), turn, testBoard, 1);
+    }
+
     @BeforeEach
     public void setup() {
-       // CuT = new SimpleMove(testStart, testEnd);
-       testBoard = mock(Board.class);
-       testGame = mock(Game.class);
-       // when(testGame.getBoard()).thenReturn(testBoard);
+        testStart = new Position(START_ROW, START_COL);
     }
 
     @AfterEach
     public void tearDown() {
-       // CuT = null;
-       // testStart = null;
-       // testEnd = null;
-       // testGame = null;
+       CuT = null;
+       testStart = null;
+       testEnd = null;
+       testGame = null;
     }
 
     @Test
     public void testExecuteMoveSuccess() {
         // setup
-        testStart = new Position(START_ROW, START_COL);
         testEnd = new Position(END_ROW_RED, END_COL_RED);
-        testGame = new Game(new Player(TEST_NAME_RED), new Player(TEST_NAME_WHITE), Turn.RED, testBoard, 1);
-        when(testBoard.spaceIsValid(testEnd)).thenReturn(true);
-        when(testBoard.getSpace(testStart)).thenReturn(new Space(Space.SpColor.black, new Piece(Piece.PColor.red, Piece.PType.single)));
+        testGame = makeGame(Turn.RED);
 
         // Initialize CuT and start testing
         CuT = new SimpleMove(testStart, testEnd);
-        Turn previousTurn = testGame.getTurn();
         boolean result = CuT.executeMove(testGame);
         Assertions.assertTrue(result);
-        // Assertions.assertNotEquals(testGame.getTurn(), previousTurn);  This shouldn't actually change
+        Assertions.assertFalse(testBoard.getSpace(testStart).doesHasPiece());
+        Assertions.assertTrue(testBoard.getSpace(testEnd).doesHasPiece());
     }
 
     @Test
     public void testExecuteMoveFailure() {
 
         // Setup
-        testStart = new Position(START_ROW, START_COL);
         testEnd = new Position(START_ROW, START_COL);
-        when(testGame.getBoard()).thenReturn(testBoard);
+        testGame = makeGame(Turn.RED);
 
         // Iniitialze cut and start testing
         CuT = new SimpleMove(testStart, testEnd);
@@ -82,84 +84,75 @@ public class SimpleMoveTest {
 
     @Test
     public void shouldFailValidateMoveEndSpaceFilled() {
-        testStart = new Position(START_ROW, START_COL);
-        testEnd = new Position(START_ROW, START_COL);
-        when(testGame.getBoard()).thenReturn(testBoard);
-        when(testBoard.spaceIsValid(testEnd)).thenReturn(false);
+        testEnd = new Position(END_ROW_RED, END_COL_RED);
+        testGame = makeGame(Turn.RED, testEnd);
         // Initialize CuT and start testing
         CuT = new SimpleMove(testStart, testEnd);
         Assertions.assertFalse(CuT.validateMove(testGame));
+        Assertions.assertEquals(SimpleMove.INVALID_LANDING_SPACE, CuT.getCurrentMsg());
     }
 
-    /**
     @Test
     public void shouldPassWhitePlayerValidateMove() {
-        //TODO: test upper left of white
-        // set valid starting spot
-        testStart = new Position(START_ROW, START_COL);
-        // set valid ending spot using white's movement (upper right)
         testEnd = new Position(END_ROW_WHITE, END_COL_WHITE);
-        when(testBoard.spaceIsValid(testEnd)).thenReturn(true);
-        when(testGame.getBoard()).thenReturn(testBoard);
-        when(testGame.getTurn()).thenReturn(Turn.WHITE);
-        when(testGame.getPieceColor(testStart)).thenReturn(Piece.PColor.white);
-        // create a new move to update these values
+        testGame = makeGame(Turn.WHITE);
         CuT = new SimpleMove(testStart, testEnd);
         Assertions.assertTrue(CuT.validateMove(testGame));
+        Assertions.assertEquals(Move.MOVE_VALID, CuT.getCurrentMsg());
     }
 
     @Test
     public void shouldFailWhitePlayerValidateMove() {
-        // setup
-        testStart = new Position(START_ROW, START_COL);
         testEnd = new Position(END_ROW_RED, END_COL_RED);
-        when(testGame.getPieceColor(testStart)).thenReturn(Piece.PColor.white);
-        when(testBoard.spaceIsValid(testEnd)).thenReturn(true);
-        when(testGame.getBoard()).thenReturn(testBoard);
-        when(testGame.getTurn()).thenReturn(Turn.WHITE);
-
-        // Initialize CuT and start testing
+        testGame = makeGame(Turn.WHITE);
         CuT = new SimpleMove(testStart, testEnd);
         Assertions.assertFalse(CuT.validateMove(testGame));
+        Assertions.assertEquals(Move.MOVE_PIECE_FORWARD, CuT.getCurrentMsg());
     }
 
     @Test
     public void shouldPassRedPlayerValidateMove() {
-        // setup
-        //TODO: test left side of the move
-        testStart = new Position(START_ROW, START_COL);
         testEnd = new Position(END_ROW_RED, END_COL_RED);
-        when(testBoard.spaceIsValid(testEnd)).thenReturn(true);
-        when(testGame.getBoard()).thenReturn(testBoard);
-        when(testGame.getTurn()).thenReturn(Turn.RED);
-
-        // Initiialize CuT and run test
+        testGame = makeGame(Turn.RED);
         CuT = new SimpleMove(testStart, testEnd);
         Assertions.assertTrue(CuT.validateMove(testGame));
     }
+
     @Test
     public void shouldFailRedPlayerValidateMove() {
-        testStart = new Position(START_ROW, START_COL);
         testEnd = new Position(END_ROW_WHITE, END_COL_WHITE);
-        when(testBoard.spaceIsValid(testEnd)).thenReturn(true);
-        when(testGame.getBoard()).thenReturn(testBoard);
-        when(testGame.getTurn()).thenReturn(Turn.RED);
-
+        testGame = makeGame(Turn.RED);
         CuT = new SimpleMove(testStart, testEnd);
         Assertions.assertFalse(CuT.validateMove(testGame));
+        Assertions.assertEquals(Move.MOVE_PIECE_FORWARD, CuT.getCurrentMsg());
+    }
+
+    @Test
+    public void shouldFailWithNoPiece() {
+        testEnd = new Position(END_ROW_RED, END_COL_RED);
+        testGame = makeGame(Turn.RED);
+        CuT = new SimpleMove(new Position(3, 2), new Position(2, 1));
+        Assertions.assertFalse(CuT.validateMove(testGame));
+        Assertions.assertEquals(SimpleMove.NO_PIECE, CuT.getCurrentMsg());
+    }
+
+    @Test
+    public void shouldFailWithStartOffBoard() {
+        testGame = makeGame(Turn.RED);
+        CuT = new SimpleMove(new Position(-1, 8), new Position(0, 7));
+        Assertions.assertFalse(CuT.validateMove(testGame));
+        Assertions.assertEquals(Move.OUT_OF_BOUNDS, CuT.getCurrentMsg());
     }
 
     @Test
     public void shouldFailWhenJumpMove() {
-        testStart = new Position(5, 0);
-        testEnd = new Position(3, 2);
-        when(testBoard.spaceIsValid(testEnd)).thenReturn(true);
-        when(testGame.getBoard()).thenReturn(testBoard);
-        when(testGame.getTurn()).thenReturn(Turn.RED);
+        // The red piece at (5, 0) can jump the white piece at (4, 1)
+        testEnd = new Position(END_ROW_RED, END_COL_RED);
+        testGame = makeGame(Turn.RED, new Position(4, 1));
+        testBoard.getSpace(new Position(5, 0)).addPiece(new Piece(Piece.PColor.red, Piece.PType.single));
 
         CuT = new SimpleMove(testStart, testEnd);
         Assertions.assertFalse(CuT.validateMove(testGame));
-
+        Assertions.assertEquals(SimpleMove.JUMP_MOVE_AVAILABLE, CuT.getCurrentMsg());
     }
-    */
 }
@@ -0,0 +1,100 @@
+package com.webcheckers.ui;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.webcheckers.model.Game;
+import com.webcheckers.model.Player;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import spark.ModelAndView;
+import spark.TemplateEngine;
+
+@Tag("UI-Tier")
+public class BoardFragmentCacheTest {
+
+    private static final String FRAGMENT = "<table id=\"game-board\"></table>";
+
+    // Component Under Test
+    private BoardFragmentCache CuT;
+
+    // Mocked objects
+    private TemplateEngine templateEngine;
+
+    // Friendly objects
+    private Player red;
+    private Player white;
+
+    @BeforeEach
+    public void setup() {
+        templateEngine = mock(TemplateEngine.class);
+        when(templateEngine.render(any(ModelAndView.class))).thenReturn(FRAGMENT);
+        CuT = new BoardFragmentCache(templateEngine, BoardFragmentCache.DEFAULT_MAX_CHARS);
+        red = new Player("red");
+        white = new Player("white");
+    }
+
+    @Test
+    public void testSharedAcrossGames() {
+        Game first = new Game(red, white, 1);
+        Game second = new Game(red, white, 2);
+
+        assertEquals(FRAGMENT, CuT.render(first, false));
+        assertEquals(FRAGMENT, CuT.render(second, false));
+        assertEquals(1, CuT.getMisses());
+        assertEquals(1, CuT.getHits());
+
+        // The other way up is another fragment
+        CuT.render(second, true);
+        assertEquals(2, CuT.getMisses());
+        assertEquals(2, CuT.size());
+        verify(templateEngine, times(2)).render(any(ModelAndView.class));
+    }
+
+    @Test
+    public void testChangedPosition() {
+        Game game = new Game(red, white, 1);
+        CuT.render(game, false);
+
+        game.addMove(com.webcheckers.model.Move.between(5, 0, 4, 1));
+        game.applyTurnMoves();
+        CuT.render(game, false);
+        assertEquals(2, CuT.getMisses());
+        assertEquals(0, CuT.getHits());
+    }
+
+    @Test
+    public void testEvictsLeastRecentlyUsed() {
+        CuT = new BoardFragmentCache(templateEngine, FRAGMENT.length() * 2);
+        Game opening = new Game(red, white, 1);
+        Game kings = Game.testKingPieces(red, white, 2);
+        Game jumps = Game.testDoubleJump(red, white, 3);
+
+        CuT.render(opening, false);
+        CuT.render(kings, false);
+        // Use the opening again, so the kings are the oldest
+        CuT.render(opening, false);
+        CuT.render(jumps, false);
+
+        assertEquals(1, CuT.getEvictions());
+        assertEquals(2, CuT.size());
+        assertEquals(FRAGMENT.length() * 2, CuT.getChars());
+
+        CuT.render(opening, false);
+        assertEquals(2, CuT.getHits());
+        CuT.render(kings, false);
+        assertEquals(4, CuT.getMisses());
+    }
+
+    @Test
+    public void testNothingRendered() {
+        when(templateEngine.render(any(ModelAndView.class))).thenReturn(null);
+        assertEquals("", CuT.render(new Game(red, white, 1), false));
+        assertEquals(0, CuT.size());
+    }
+}
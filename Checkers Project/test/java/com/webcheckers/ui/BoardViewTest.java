@@ -1,8 +1,10 @@
 package com.webcheckers.ui;
 
+import com.webcheckers.model.BitBoard;
 import com.webcheckers.model.Board;
-import java.util.ArrayList;
-import java.util.Collections;
+import com.webcheckers.model.Game;
+import com.webcheckers.model.Player;
+import java.util.Iterator;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
@@ -24,26 +26,42 @@ public class BoardViewTest {
 
     @Test
     public void testConstructorReversed() {
-        board = new Board();
+        board = new BitBoard();
         BoardView notReversed = new BoardView(board, false);
         CuT = new BoardView(board, true);
 
-        // starting and either end of each board, check if they're the same
-        // if all of them match then the row has been flipped
-        Collections.reverse(notReversed.listRowViews);
-        for(int i = 0; i < CuT.listRowViews.size(); i++) {
-            if(CuT.listRowViews.get(i).equals(notReversed.listRowViews.get(i))) {
-                continue;
-            } else {
-                Assertions.fail("Rows not reversed properly");
+        // White sees the last row first, with its spaces backwards
+        for (int place = 0; place < Board.ROWS; place++) {
+            RowView row = CuT.getRow(place);
+            RowView other = notReversed.getRow(Board.ROWS - 1 - place);
+            Assertions.assertEquals(other, row, "Rows not reversed properly");
+            for (int cell = 0; cell < Board.COLUMNS; cell++) {
+                Assertions.assertSame(other.get(Board.COLUMNS - 1 - cell), row.get(cell), "Spaces not reversed properly");
             }
         }
+    }
+
+    @Test
+    public void testMatchesSpaces() {
+        board = Game.testKingPieces(new Player("red"), new Player("white"), 0).getBoard();
+        CuT = new BoardView(board, false);
 
+        // The same spaces as building each row from the board's spaces
+        Iterator<RowView> rows = CuT.iterator();
+        for (int row = 0; row < Board.ROWS; row++) {
+            Iterator<SpaceView> expected = new RowView(board.getRow(row), row, false).iterator();
+            Iterator<SpaceView> actual = rows.next().iterator();
+            while (expected.hasNext()) {
+                Assertions.assertSame(expected.next(), actual.next());
+            }
+            Assertions.assertFalse(actual.hasNext());
+        }
+        Assertions.assertFalse(rows.hasNext());
     }
 
     @Test
     public void testIterator() {
-        board = new Board();
+        board = new BitBoard();
         CuT = new BoardView(board, true);
         Assertions.assertNotNull(CuT.iterator());
     }
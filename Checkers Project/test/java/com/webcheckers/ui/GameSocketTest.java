@@ -0,0 +1,264 @@
+package com.webcheckers.ui;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.webcheckers.appl.PlayerLobby;
+import com.webcheckers.appl.TurnController;
+import com.webcheckers.model.Game;
+import com.webcheckers.model.Player;
+import java.io.IOException;
+import java.net.HttpCookie;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import javax.servlet.http.HttpSession;
+import org.eclipse.jetty.websocket.api.RemoteEndpoint;
+import org.eclipse.jetty.websocket.api.Session;
+import org.eclipse.jetty.websocket.api.StatusCode;
+import org.eclipse.jetty.websocket.api.UpgradeRequest;
+import org.eclipse.jetty.websocket.api.WriteCallback;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+@Tag("UI-Tier")
+public class GameSocketTest {
+
+    private static final String RED_ID = "1";
+    private static final byte[] SIMPLE_MOVE = {GameSocket.VALIDATE, 5, 0, 4, 1};
+
+    // Component Under Test
+    private GameSocket CuT;
+
+    // Friendly objects
+    private PlayerLobby playerLobby;
+    private Player red;
+    private Game game;
+
+    // Mocked objects
+    private Session session;
+    private RemoteEndpoint remote;
+
+    @BeforeEach
+    public void setup() {
+        playerLobby = new PlayerLobby();
+        playerLobby.signIn("red", RED_ID);
+        playerLobby.signIn("white", "2");
+        red = playerLobby.getPlayerBySessionID(RED_ID);
+        game = playerLobby.startGame(red, playerLobby.getPlayerBySessionID("2"));
+        CuT = new GameSocket(playerLobby, new TurnController(playerLobby, JsonCodec.GSON));
+
+        session = mockSession(RED_ID);
+        remote = mock(RemoteEndpoint.class);
+        when(session.getRemote()).thenReturn(remote);
+    }
+
+    private static Session mockSession(String sessionID) {
+        Session session = mock(Session.class);
+        UpgradeRequest upgrade = mock(UpgradeRequest.class);
+        HttpSession httpSession = mock(HttpSession.class);
+        when(session.getUpgradeRequest()).thenReturn(upgrade);
+        when(session.isOpen()).thenReturn(true);
+        when(upgrade.getSession()).thenReturn(httpSession);
+        when(httpSession.getId()).thenReturn(sessionID);
+        when(upgrade.getOrigin()).thenReturn("http://localhost:4567");
+        when(upgrade.getHeader("Host")).thenReturn("localhost:4567");
+        return session;
+    }
+
+    /**
+     * Get every frame sent to the player so far
+     */
+    private List<ByteBuffer> sentFrames() {
+        ArgumentCaptor<ByteBuffer> frames = ArgumentCaptor.forClass(ByteBuffer.class);
+        verify(remote, atLeastOnce()).sendBytes(frames.capture(), any(WriteCallback.class));
+        return frames.getAllValues();
+    }
+
+    private static String text(ByteBuffer frame) {
+        ByteBuffer copy = frame.duplicate();
+        copy.position(2);
+        byte[] bytes = new byte[copy.remaining()];
+        copy.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    @Test
+    public void testConnectWithoutPlayer() {
+        Session stranger = mockSession("unknown");
+        CuT.onConnect(stranger);
+        verify(stranger).close(eq(StatusCode.POLICY_VIOLATION), anyString());
+        assertEquals(0, CuT.getConnectionCount());
+    }
+
+    /**
+     * Make sure a page from another site can't open a connection with the
+     * player's cookie.
+     */
+    @Test
+    public void testConnectFromOtherOrigin() {
+        when(session.getUpgradeRequest().getOrigin()).thenReturn("http://evil.example:4567");
+        CuT.onConnect(session);
+        verify(session).close(StatusCode.POLICY_VIOLATION, GameSocket.WRONG_ORIGIN);
+        assertEquals(0, CuT.getConnectionCount());
+
+        UpgradeRequest upgrade = mock(UpgradeRequest.class);
+        assertFalse(GameSocket.isSameOrigin(upgrade));
+        when(upgrade.getHeader("Host")).thenReturn("checkers.example");
+        when(upgrade.getOrigin()).thenReturn("https://checkers.example");
+        assertTrue(GameSocket.isSameOrigin(upgrade));
+        when(upgrade.getOrigin()).thenReturn("null");
+        assertFalse(GameSocket.isSameOrigin(upgrade));
+    }
+
+    @Test
+    public void testFindSessionIDFromCookie() {
+        UpgradeRequest upgrade = mock(UpgradeRequest.class);
+        assertNull(GameSocket.findSessionID(upgrade));
+
+        when(upgrade.getCookies()).thenReturn(Arrays.asList(new HttpCookie("other", "x"),
+            new HttpCookie(GameSocket.SESSION_COOKIE, "node0abc.node0")));
+        assertEquals("node0abc", GameSocket.findSessionID(upgrade));
+    }
+
+    @Test
+    public void testConnectSendsTurn() {
+        CuT.onConnect(session);
+        assertEquals(1, CuT.getConnectionCount());
+
+        ByteBuffer frame = sentFrames().get(0);
+        assertEquals(GameSocket.TURN_FRAME_LENGTH, frame.remaining());
+        assertEquals(GameSocket.TURN, frame.get(0));
+        assertEquals(GameSocket.YOUR_TURN, frame.get(1));
+        assertEquals(Game.State.ACTIVE.ordinal(), frame.get(2));
+        assertEquals(game.getVersion(), frame.getInt(3));
+    }
+
+    @Test
+    public void testValidateAndBackup() {
+        CuT.onConnect(session);
+        CuT.onMessage(session, SIMPLE_MOVE, 0, SIMPLE_MOVE.length);
+        CuT.onMessage(session, new byte[]{GameSocket.BACKUP}, 0, 1);
+
+        List<ByteBuffer> frames = sentFrames();
+        ByteBuffer validated = frames.get(1);
+        assertEquals(GameSocket.VALIDATE, validated.get(0));
+        assertEquals(GameSocket.INFO, validated.get(1));
+        assertEquals("Valid move!", text(validated));
+
+        ByteBuffer backedUp = frames.get(2);
+        assertEquals(GameSocket.BACKUP, backedUp.get(0));
+        assertEquals(GameSocket.INFO, backedUp.get(1));
+        assertFalse(game.hasMovesInCurrentTurn());
+    }
+
+    @Test
+    public void testBackupWithoutMoves() {
+        CuT.onConnect(session);
+        CuT.onMessage(session, new byte[]{GameSocket.BACKUP}, 0, 1);
+
+        ByteBuffer reply = sentFrames().get(1);
+        assertEquals(GameSocket.BACKUP, reply.get(0));
+        assertEquals(GameSocket.ERROR, reply.get(1));
+        assertEquals("No moves to undo.", text(reply));
+    }
+
+    @Test
+    public void testSubmitPushesTurn() {
+        CuT.onConnect(session);
+        long version = game.getVersion();
+        CuT.onMessage(session, SIMPLE_MOVE, 0, SIMPLE_MOVE.length);
+        CuT.onMessage(session, new byte[]{GameSocket.SUBMIT}, 0, 1);
+
+        List<ByteBuffer> frames = sentFrames();
+        // The change is pushed while the turn is applied, before the reply
+        ByteBuffer turn = frames.get(2);
+        assertEquals(GameSocket.TURN, turn.get(0));
+        assertEquals(0, turn.get(1));
+        assertEquals(version + 1, turn.getInt(3));
+
+        ByteBuffer reply = frames.get(3);
+        assertEquals(GameSocket.SUBMIT, reply.get(0));
+        assertEquals(TurnController.SUBMIT_SUCCESS_MSG, text(reply));
+    }
+
+    /**
+     * Make sure the player is told when their opponent signs out.
+     */
+    @Test
+    public void testSignoutPushed() {
+        CuT.onConnect(session);
+        game.setSignedoutPlayer(game.getWhitePlayer());
+
+        ByteBuffer turn = sentFrames().get(1);
+        assertEquals(GameSocket.TURN, turn.get(0));
+        assertEquals(GameSocket.YOUR_TURN | GameSocket.SIGNED_OUT, turn.get(1));
+    }
+
+    @Test
+    public void testCloseStopsPushes() {
+        CuT.onConnect(session);
+        CuT.onClose(session, StatusCode.NORMAL, null);
+        assertEquals(0, CuT.getConnectionCount());
+
+        game.setStateEnded();
+        // Only the frame sent on connecting
+        assertEquals(1, sentFrames().size());
+    }
+
+    @Test
+    public void testErrorStopsPushes() {
+        CuT.onConnect(session);
+        CuT.onError(session, new IOException("reset"));
+        assertEquals(0, CuT.getConnectionCount());
+
+        game.setStateEnded();
+        assertEquals(1, sentFrames().size());
+    }
+
+    /**
+     * Make sure a move is validated in the game the connection follows,
+     * even once the player is looking at another one.
+     */
+    @Test
+    public void testValidateInConnectionGame() {
+        CuT.onConnect(session);
+        playerLobby.signIn("blue", "3");
+        Game other = playerLobby.startGame(red, playerLobby.getPlayerBySessionID("3"));
+        assertSame(other, playerLobby.getGame(red));
+
+        CuT.onMessage(session, SIMPLE_MOVE, 0, SIMPLE_MOVE.length);
+        assertTrue(game.hasMovesInCurrentTurn());
+        assertFalse(other.hasMovesInCurrentTurn());
+    }
+
+    @Test
+    public void testBadFrames() {
+        ByteBuffer unknown = CuT.handleFrame(game, new byte[]{42}, 0, 1);
+        assertEquals(42, unknown.get(0));
+        assertEquals(GameSocket.ERROR, unknown.get(1));
+
+        ByteBuffer shortMove = CuT.handleFrame(game, SIMPLE_MOVE, 0, 3);
+        assertEquals(GameSocket.ERROR, shortMove.get(1));
+        assertEquals(GameSocket.BAD_FRAME, text(shortMove));
+
+        ByteBuffer empty = CuT.handleFrame(game, new byte[0], 0, 0);
+        assertEquals(GameSocket.ERROR, empty.get(1));
+    }
+
+    @Test
+    public void testMessageBeforeConnect() {
+        CuT.onMessage(session, SIMPLE_MOVE, 0, SIMPLE_MOVE.length);
+        verify(remote, never()).sendBytes(any(ByteBuffer.class), any(WriteCallback.class));
+    }
+}
@@ -0,0 +1,247 @@
+package com.webcheckers.ui;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.google.gson.Gson;
+import com.webcheckers.appl.PlayerLobby;
+import com.webcheckers.appl.SpectatorCenter;
+import com.webcheckers.model.Game;
+import com.webcheckers.model.Player;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import javax.servlet.AsyncContext;
+import javax.servlet.AsyncEvent;
+import javax.servlet.AsyncListener;
+import javax.servlet.ServletOutputStream;
+import javax.servlet.WriteListener;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import spark.Request;
+import spark.Response;
+import spark.Session;
+
+@Tag("UI-Tier")
+public class GetGameEventsRouteTest {
+
+    private static final String RED_ID = "1";
+
+    // Component Under Test
+    private GetGameEventsRoute CuT;
+
+    // Friendly objects
+    private PlayerLobby playerLobby;
+    private SpectatorCenter spectatorCenter;
+    private Player red;
+    private Player white;
+    private Game game;
+
+    // Mocked objects
+    private Request request;
+    private Response response;
+    private HttpServletResponse raw;
+    private AsyncContext context;
+    private ByteArrayOutputStream written;
+
+    @BeforeEach
+    public void setup() throws IOException {
+        playerLobby = new PlayerLobby();
+        playerLobby.signIn("red", RED_ID);
+        playerLobby.signIn("white", "2");
+        red = playerLobby.getPlayerBySessionID(RED_ID);
+        white = playerLobby.getPlayerBySessionID("2");
+        game = playerLobby.startGame(red, white);
+
+        request = mock(Request.class);
+        Session session = mock(Session.class);
+        when(request.session()).thenReturn(session);
+        when(session.id()).thenReturn(RED_ID);
+
+        written = new ByteArrayOutputStream();
+        raw = mock(HttpServletResponse.class);
+        when(raw.getOutputStream()).thenReturn(new ServletOutputStream() {
+            @Override
+            public boolean isReady() {
+                return true;
+            }
+
+            @Override
+            public void setWriteListener(WriteListener writeListener) {
+            }
+
+            @Override
+            public void write(int b) {
+                written.write(b);
+            }
+        });
+        response = mock(Response.class);
+        when(response.raw()).thenReturn(raw);
+
+        // A player's request is suspended
+        HttpServletRequest rawRequest = mock(HttpServletRequest.class);
+        context = mock(AsyncContext.class);
+        when(request.raw()).thenReturn(rawRequest);
+        when(rawRequest.startAsync()).thenReturn(context);
+        when(context.getResponse()).thenReturn(raw);
+
+        // Events are written on the thread that makes the change
+        spectatorCenter = new SpectatorCenter(playerLobby);
+        CuT = new GetGameEventsRoute(playerLobby, spectatorCenter, new Gson(), Runnable::run);
+    }
+
+    private String output() {
+        return new String(written.toByteArray(), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Make sure the stream starts with the game as it is, then sends each
+     * change until the game is over, without holding the request's thread.
+     */
+    @Test
+    public void testStreamsChangesUntilOver() throws Exception {
+        assertEquals("", CuT.handle(request, response));
+        verify(raw).flushBuffer();
+        game.applyTurnMoves();
+        CuT.sendHeartbeats();
+        game.leaveFromGame(white);
+
+        verify(response).type(GetGameEventsRoute.CONTENT_TYPE);
+        String out = output();
+        int sync = out.indexOf("event: sync\ndata: {\"version\":0,\"turn\":\"RED\",\"state\":\"ACTIVE\",\"yourTurn\":true}");
+        int turn = out.indexOf("event: turn\ndata: {\"version\":1,\"turn\":\"WHITE\",\"state\":\"ACTIVE\",\"yourTurn\":false}");
+        int heartbeat = out.indexOf(": keep-alive\n\n");
+        int resign = out.indexOf("event: resign\n");
+        assertTrue(out.startsWith("retry: "), out);
+        assertTrue(sync > 0 && turn > sync && heartbeat > turn && resign > heartbeat, out);
+        assertTrue(out.contains("\"resignedPlayer\":\"white\""), out);
+        verify(context).complete();
+    }
+
+    /**
+     * Make sure a stream the browser has left is no longer written to.
+     */
+    @Test
+    public void testBrowserLeft() throws Exception {
+        CuT.handle(request, response);
+        ArgumentCaptor<AsyncListener> listener = ArgumentCaptor.forClass(AsyncListener.class);
+        verify(context).addListener(listener.capture());
+        listener.getValue().onError(mock(AsyncEvent.class));
+        verify(context).complete();
+        written.reset();
+
+        game.applyTurnMoves();
+        CuT.sendHeartbeats();
+        assertEquals("", output());
+
+        // Coming back opens a new stream
+        CuT.handle(request, response);
+        game.applyTurnMoves();
+        assertTrue(output().contains("event: turn\ndata: {\"version\":2,"), output());
+        verify(context, times(2)).addListener(listener.capture());
+    }
+
+    /**
+     * Make sure a spectator can follow a game by its ID, and the stream of a
+     * finished game closes straight away.
+     */
+    @Test
+    public void testSpectatorByGameID() throws Exception {
+        playerLobby.signIn("watcher", "3");
+        when(request.session().id()).thenReturn("3");
+        when(request.queryParams(GetGameEventsRoute.GAME_ID_PARAM)).thenReturn(Integer.toString(game.getGameID()));
+        game.setStateEnded();
+
+        assertEquals("", CuT.handle(request, response));
+
+        assertTrue(output().contains("event: sync\ndata: {\"version\":1,\"turn\":\"RED\",\"state\":\"ENDED\",\"yourTurn\":false}"), output());
+        verify(context).complete();
+    }
+
+    /**
+     * Make sure every spectator is sent each change from the shared snapshot,
+     * and the heartbeat keeps their place until they are dropped.
+     */
+    @Test
+    public void testSpectatorsFollowChanges() throws Exception {
+        Player amy = new Player("amy", "3");
+        playerLobby.signIn("amy", "3");
+        playerLobby.signIn("ben", "4");
+        when(request.queryParams(GetGameEventsRoute.GAME_ID_PARAM)).thenReturn(Integer.toString(game.getGameID()));
+        when(request.session().id()).thenReturn("3");
+        CuT.handle(request, response);
+        when(request.session().id()).thenReturn("4");
+        CuT.handle(request, response);
+        assertEquals(2, spectatorCenter.getWatcherCount(game.getGameID()));
+        written.reset();
+
+        game.applyTurnMoves();
+        String turn = "event: turn\ndata: {\"version\":1,\"turn\":\"WHITE\",\"state\":\"ACTIVE\",\"yourTurn\":false}\n\n";
+        assertEquals(turn + turn, output());
+        assertFalse(spectatorCenter.hasChanged(amy, game.getGameID()));
+
+        // A spectator who is dropped has their stream closed
+        spectatorCenter.stopWatching(amy, game.getGameID());
+        written.reset();
+        CuT.sendHeartbeats();
+        assertEquals(": keep-alive\n\n", output());
+        verify(context).complete();
+    }
+
+    /**
+     * Make sure a player is told straight away when their opponent signs
+     * out, and the stream stays open while the game carries on.
+     */
+    @Test
+    public void testSignoutPushed() throws Exception {
+        CuT.handle(request, response);
+        written.reset();
+
+        game.setSignedoutPlayer(white);
+
+        String out = output();
+        assertTrue(out.startsWith("event: signout\ndata: {\"version\":1,"), out);
+        assertTrue(out.contains("\"signedOutPlayer\":\"white\""), out);
+        verify(context, times(0)).complete();
+    }
+
+    @Test
+    public void testNotSignedIn() throws Exception {
+        when(request.session().id()).thenReturn("nobody");
+        CuT.handle(request, response);
+        verify(response).status(401);
+    }
+
+    @Test
+    public void testNoSuchGame() throws Exception {
+        when(request.queryParams(GetGameEventsRoute.GAME_ID_PARAM)).thenReturn("42");
+        CuT.handle(request, response);
+        verify(response).status(404);
+    }
+
+    @Test
+    public void testEventName() {
+        game.applyTurnMoves();
+        GetGameEventsRoute.EventData before = new GetGameEventsRoute.EventData(game, red);
+        game.applyTurnMoves();
+        GetGameEventsRoute.EventData turn = new GetGameEventsRoute.EventData(game, red);
+        game.requestAsync(red);
+        GetGameEventsRoute.EventData state = new GetGameEventsRoute.EventData(game, red);
+        game.leaveFromGame(red);
+        GetGameEventsRoute.EventData resign = new GetGameEventsRoute.EventData(game, red);
+        game.setSignedoutPlayer(red);
+        GetGameEventsRoute.EventData signout = new GetGameEventsRoute.EventData(game, red);
+
+        assertEquals(GetGameEventsRoute.TURN_EVENT, GetGameEventsRoute.eventName(before, turn));
+        assertEquals(GetGameEventsRoute.STATE_EVENT, GetGameEventsRoute.eventName(turn, state));
+        assertEquals(GetGameEventsRoute.RESIGN_EVENT, GetGameEventsRoute.eventName(state, resign));
+        assertEquals(GetGameEventsRoute.SIGNOUT_EVENT, GetGameEventsRoute.eventName(resign, signout));
+    }
+}
@@ -14,8 +14,13 @@ import java.util.ArrayList;
 import java.util.HashMap;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.booleanThat;
 import static org.mockito.Mockito.*;
 
@@ -30,6 +35,7 @@ public class GetGameRouteTester {
     private static final String OPPONENT_USERNAME = "other";
     private static final String MY_USERNAME = "jimmy";
     private static final String WINNER_ATTR_VAL_NO_WINNER = "NO_WINNER";
+    private static final String BOARD_HTML = "<table id=\"game-board\"></table>";
 
     //
     // Attributes
@@ -85,7 +91,23 @@ public class GetGameRouteTester {
         asyncServices = mock(AsyncServices.class);
 
         // Set up the route component
-        CuT = new GetGameRoute(playerLobby, templateEngine, asyncServices);
+        CuT = new GetGameRoute(playerLobby, templateEngine, asyncServices,
+            new BoardFragmentCache(templateEngine, BoardFragmentCache.DEFAULT_MAX_CHARS));
+    }
+
+    /**
+     * Make the template engine answer the board fragment with
+     * {@link #BOARD_HTML}, capturing its model
+     */
+    private TemplateEngineTester stubBoardRender() {
+        TemplateEngineTester boardHelper = new TemplateEngineTester();
+        when(templateEngine.render(argThat((ModelAndView modelAndView) ->
+            modelAndView != null && BoardFragmentCache.TEMPLATE_NAME.equals(modelAndView.getViewName()))))
+            .thenAnswer(invocation -> {
+                boardHelper.makeAnswer().answer(invocation);
+                return BOARD_HTML;
+            });
+        return boardHelper;
     }
 
     //
@@ -121,6 +143,7 @@ public class GetGameRouteTester {
         // Set up template engine tester
         TemplateEngineTester testHelper = new TemplateEngineTester();
         when(templateEngine.render(any(ModelAndView.class))).thenAnswer(testHelper.makeAnswer());
+        TemplateEngineTester boardHelper = stubBoardRender();
 
         // Set up the expected board view
         BoardView expected = mock(BoardView.class);
@@ -140,7 +163,9 @@ public class GetGameRouteTester {
         testHelper.assertViewModelAttribute(GetGameRoute.WHITE_PLAYER_ATTR, otherPlayer);
         testHelper.assertViewModelAttribute(GetGameRoute.RED_PLAYER_ATTR, thisPlayer);
         testHelper.assertViewModelAttribute(GetGameRoute.CURRENT_PLAYER_ATTR, thisPlayer);
-        testHelper.assertViewModelAttribute(GetGameRoute.BOARD_VIEW_ATTR, expected);
+        testHelper.assertViewModelAttribute(GetGameRoute.BOARD_HTML_ATTR, BOARD_HTML);
+        boardHelper.assertViewModelAttribute(GetGameRoute.BOARD_VIEW_ATTR, expected);
+        boardHelper.assertViewName(BoardFragmentCache.TEMPLATE_NAME);
         testHelper.assertViewModelAttribute(GetGameRoute.VIEW_MODE_ATTR, GetGameRoute.View.PLAY);
         testHelper.assertViewModelAttributeIsAbsent(GetGameRoute.SIGNED_IN_PLAYERS);
         testHelper.assertViewModelAttributeIsAbsent(GetGameRoute.IS_SIGNED_IN);
@@ -176,6 +201,7 @@ public class GetGameRouteTester {
         // Set up template engine tester
         TemplateEngineTester testHelper = new TemplateEngineTester();
         when(templateEngine.render(any(ModelAndView.class))).thenAnswer(testHelper.makeAnswer());
+        TemplateEngineTester boardHelper = stubBoardRender();
 
         // Set up the expected board view
         BoardView expected = mock(BoardView.class);
@@ -195,7 +221,9 @@ public class GetGameRouteTester {
         testHelper.assertViewModelAttribute(GetGameRoute.WHITE_PLAYER_ATTR, thisPlayer);
         testHelper.assertViewModelAttribute(GetGameRoute.RED_PLAYER_ATTR, otherPlayer);
         testHelper.assertViewModelAttribute(GetGameRoute.CURRENT_PLAYER_ATTR, thisPlayer);
-        testHelper.assertViewModelAttribute(GetGameRoute.BOARD_VIEW_ATTR, expected);
+        testHelper.assertViewModelAttribute(GetGameRoute.BOARD_HTML_ATTR, BOARD_HTML);
+        boardHelper.assertViewModelAttribute(GetGameRoute.BOARD_VIEW_ATTR, expected);
+        boardHelper.assertViewName(BoardFragmentCache.TEMPLATE_NAME);
         testHelper.assertViewModelAttribute(GetGameRoute.VIEW_MODE_ATTR, GetGameRoute.View.PLAY);
         testHelper.assertViewModelAttributeIsAbsent(GetGameRoute.SIGNED_IN_PLAYERS);
         testHelper.assertViewModelAttributeIsAbsent(GetGameRoute.IS_SIGNED_IN);
@@ -280,6 +308,132 @@ public class GetGameRouteTester {
         testHelper.assertViewName(GetGameRoute.TEMPLATE_NAME);
     }
 
+    /**
+     * Make sure that a browser which already has the current game page gets
+     * 304 Not Modified without the page being rendered again.
+     */
+    @Test
+    public void testNotModified() {
+        // Make it look like we're in a game nobody has won yet
+        when(playerLobby.getGame(thisPlayer)).thenReturn(game);
+        when(game.getWinningPlayerName()).thenReturn(null);
+        when(game.getWhitePlayer()).thenReturn(otherPlayer);
+        when(game.getGameID()).thenReturn(3);
+        when(game.getVersion()).thenReturn(7L);
+
+        String tag = GetGameRoute.entityTag(game, thisPlayer);
+        when(request.headers(GetGameRoute.IF_NONE_MATCH_HEADER)).thenReturn("\"old\", " + tag);
+
+        assertEquals("", CuT.handle(request, response));
+        verify(response).status(304);
+        verify(response).header(GetGameRoute.ETAG_HEADER, tag);
+        verify(templateEngine, never()).render(any(ModelAndView.class));
+
+        // Once the game changes the page is rendered again
+        when(game.getVersion()).thenReturn(8L);
+        CuT.handle(request, response);
+        verify(templateEngine).render(argThat((ModelAndView modelAndView) ->
+            GetGameRoute.TEMPLATE_NAME.equals(modelAndView.getViewName())));
+        verify(response).header(GetGameRoute.ETAG_HEADER, GetGameRoute.entityTag(game, thisPlayer));
+    }
+
+    /**
+     * Make sure the board is rendered once for a position seen the same way
+     * up, even across players and games.
+     */
+    @Test
+    public void testBoardFragmentReused() {
+        when(playerLobby.getGame(thisPlayer)).thenReturn(game);
+        when(game.getWinningPlayerName()).thenReturn(null);
+        when(game.getWhitePlayer()).thenReturn(otherPlayer);
+        when(game.getPositionHash()).thenReturn(42L);
+        stubBoardRender();
+
+        CuT.handle(request, response);
+        when(game.getVersion()).thenReturn(1L);
+        CuT.handle(request, response);
+
+        verify(game, times(1)).getBoardView(false);
+        assertEquals(1, CuT.getBoardFragments().getMisses());
+        assertEquals(1, CuT.getBoardFragments().getHits());
+    }
+
+    /**
+     * Make sure the entity tag changes with the player and is left out when
+     * the page depends on more than the game.
+     */
+    @Test
+    public void testEntityTag() {
+        when(game.getWinningPlayerName()).thenReturn(null);
+        when(game.getWhitePlayer()).thenReturn(otherPlayer);
+        when(otherPlayer.getName()).thenReturn(OPPONENT_USERNAME);
+
+        String mine = GetGameRoute.entityTag(game, thisPlayer);
+        assertTrue(mine.startsWith("\"") && mine.endsWith("\""));
+        assertNotEquals(mine, GetGameRoute.entityTag(game, otherPlayer));
+
+        // Names with the same hash code still get their own tags
+        when(thisPlayer.getName()).thenReturn("Aa");
+        when(otherPlayer.getName()).thenReturn("BB");
+        when(game.getWhitePlayer()).thenReturn(null);
+        assertNotEquals(GetGameRoute.entityTag(game, thisPlayer), GetGameRoute.entityTag(game, otherPlayer));
+
+        // The answers to an asynchronous request come from other games
+        when(game.getState()).thenReturn(Game.State.ASYNC_START);
+        assertNull(GetGameRoute.entityTag(game, thisPlayer));
+
+        // Rendering a won game ends it
+        when(game.getState()).thenReturn(Game.State.ACTIVE);
+        when(game.getWinningPlayerName()).thenReturn(MY_USERNAME);
+        assertNull(GetGameRoute.entityTag(game, thisPlayer));
+    }
+
+    /**
+     * Make sure the key renders are shared by tells every viewer apart,
+     * whatever their names hash to.
+     */
+    @Test
+    public void testPageKey() {
+        when(game.getWinningPlayerName()).thenReturn(null);
+        when(game.getGameID()).thenReturn(3);
+        when(game.getVersion()).thenReturn(7L);
+        when(thisPlayer.getName()).thenReturn("Aa");
+        when(otherPlayer.getName()).thenReturn("BB");
+
+        GetGameRoute.PageKey mine = GetGameRoute.pageKey(game, thisPlayer);
+        assertEquals(mine, GetGameRoute.pageKey(game, thisPlayer));
+        assertEquals(mine.hashCode(), GetGameRoute.pageKey(game, thisPlayer).hashCode());
+        assertNotEquals(mine, GetGameRoute.pageKey(game, otherPlayer));
+        assertEquals("\"3-7-r-Aa\"", mine.entityTag());
+
+        when(game.getVersion()).thenReturn(8L);
+        assertNotEquals(mine, GetGameRoute.pageKey(game, thisPlayer));
+    }
+
+    /**
+     * Make sure an escaped name is safe inside an entity tag and can't be
+     * mistaken for another name.
+     */
+    @Test
+    public void testEscapeForTag() {
+        assertEquals("Bob7", GetGameRoute.escapeForTag("Bob7"));
+        assertEquals("a%20b%22%2D", GetGameRoute.escapeForTag("a b\"-"));
+        assertEquals("%C3%A9", GetGameRoute.escapeForTag("\u00e9"));
+        assertNotEquals(GetGameRoute.escapeForTag("%20"), GetGameRoute.escapeForTag(" "));
+    }
+
+    /**
+     * Make sure If-None-Match lists, weak tags and the wildcard all match.
+     */
+    @Test
+    public void testMatches() {
+        assertFalse(GetGameRoute.matches(null, "\"1-2-r-0\""));
+        assertFalse(GetGameRoute.matches("\"1-1-r-0\"", "\"1-2-r-0\""));
+        assertTrue(GetGameRoute.matches("W/\"1-2-r-0\"", "\"1-2-r-0\""));
+        assertTrue(GetGameRoute.matches("\"x\",\"1-2-r-0\"", "\"1-2-r-0\""));
+        assertTrue(GetGameRoute.matches("*", "\"1-2-r-0\""));
+    }
+
     /**
      * Make sure the opponentNames function filters properly.
      */
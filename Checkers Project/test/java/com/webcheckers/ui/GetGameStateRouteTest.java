@@ -0,0 +1,160 @@
+package com.webcheckers.ui;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.webcheckers.appl.PlayerLobby;
+import com.webcheckers.appl.SpectatorCenter;
+import com.webcheckers.model.BitBoard;
+import com.webcheckers.model.Game;
+import com.webcheckers.model.Move;
+import com.webcheckers.model.Player;
+import java.io.IOException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import spark.Request;
+import spark.Response;
+import spark.Session;
+
+@Tag("UI-Tier")
+public class GetGameStateRouteTest {
+
+    private static final String RED_ID = "1";
+    private static final String OPENING = "wwwwwwwwwwww........rrrrrrrrrrrr";
+
+    // Component Under Test
+    private GetGameStateRoute CuT;
+
+    // Friendly objects
+    private PlayerLobby playerLobby;
+    private Game game;
+    private JsonResponseTester responseTester;
+
+    // Mocked objects
+    private Request request;
+    private Response response;
+    private Session session;
+
+    @BeforeEach
+    public void setup() throws IOException {
+        playerLobby = new PlayerLobby();
+        playerLobby.signIn("red", RED_ID);
+        playerLobby.signIn("white", "2");
+        Player red = playerLobby.getPlayerBySessionID(RED_ID);
+        game = playerLobby.startGame(red, playerLobby.getPlayerBySessionID("2"));
+
+        request = mock(Request.class);
+        session = mock(Session.class);
+        when(request.session()).thenReturn(session);
+        when(session.id()).thenReturn(RED_ID);
+        response = mock(Response.class);
+        responseTester = new JsonResponseTester();
+        responseTester.attach(response);
+
+        CuT = new GetGameStateRoute(playerLobby, new SpectatorCenter(playerLobby), JsonCodec.GSON);
+    }
+
+    private JsonObject handle(String since) throws IOException {
+        when(request.queryParams(GetGameStateRoute.SINCE_PARAM)).thenReturn(since);
+        CuT.handle(request, response);
+        return new JsonParser().parse(responseTester.getBody()).getAsJsonObject();
+    }
+
+    @Test
+    public void testWholeBoard() throws IOException {
+        JsonObject state = handle(null);
+        assertEquals(OPENING, state.get("board").getAsString());
+        assertEquals(0, state.get("version").getAsLong());
+        assertEquals("RED", state.get("turn").getAsString());
+        assertEquals("ACTIVE", state.get("state").getAsString());
+        assertFalse(state.has("changes"));
+        assertFalse(state.has("winner"));
+        verify(response).type(JsonCodec.CONTENT_TYPE);
+    }
+
+    @Test
+    public void testChangesSince() throws IOException {
+        game.addMove(Move.between(5, 0, 4, 1));
+        game.applyTurnMoves();
+
+        JsonObject state = handle("0");
+        assertFalse(state.has("board"));
+        JsonObject changes = state.getAsJsonObject("changes");
+        assertEquals(2, changes.size());
+        assertEquals(".", changes.get(Integer.toString(BitBoard.squareOf(5, 0))).getAsString());
+        assertEquals("r", changes.get(Integer.toString(BitBoard.squareOf(4, 1))).getAsString());
+        assertEquals("WHITE", state.get("turn").getAsString());
+
+        // Already up to date
+        assertEquals(0, handle("1").getAsJsonObject("changes").size());
+    }
+
+    @Test
+    public void testUnknownVersion() throws IOException {
+        assertEquals(OPENING, handle("7").get("board").getAsString());
+        assertEquals(OPENING, handle("latest").get("board").getAsString());
+    }
+
+    @Test
+    public void testWinner() throws IOException {
+        game.leaveFromGame(playerLobby.getPlayerBySessionID("2"));
+        assertEquals("red", handle("0").get("winner").getAsString());
+    }
+
+    /**
+     * Make sure a spectator is answered from the game's shared snapshot, and
+     * starts watching the game.
+     */
+    @Test
+    public void testSpectator() throws IOException {
+        SpectatorCenter spectatorCenter = new SpectatorCenter(playerLobby);
+        CuT = new GetGameStateRoute(playerLobby, spectatorCenter, JsonCodec.GSON);
+        playerLobby.signIn("watcher", "3");
+        when(session.id()).thenReturn("3");
+        when(request.queryParams(GetGameStateRoute.GAME_ID_PARAM)).thenReturn(Integer.toString(game.getGameID()));
+
+        assertEquals(OPENING, handle(null).get("board").getAsString());
+        assertTrue(spectatorCenter.isWatching(playerLobby.getPlayerBySessionID("3"), game.getGameID()));
+
+        // The snapshot knows what changed since the one before it
+        game.addMove(Move.between(5, 0, 4, 1));
+        game.applyTurnMoves();
+        assertEquals(2, handle("0").getAsJsonObject("changes").size());
+    }
+
+    /**
+     * Make sure a spectator is turned away from a game with no room left.
+     */
+    @Test
+    public void testNoRoomToWatch() throws IOException {
+        CuT = new GetGameStateRoute(playerLobby, new SpectatorCenter(playerLobby, 1, 60000), JsonCodec.GSON);
+        when(request.queryParams(GetGameStateRoute.GAME_ID_PARAM)).thenReturn(Integer.toString(game.getGameID()));
+        playerLobby.signIn("amy", "3");
+        playerLobby.signIn("ben", "4");
+        when(session.id()).thenReturn("3");
+        handle(null);
+
+        when(session.id()).thenReturn("4");
+        assertEquals("", CuT.handle(request, response));
+        verify(response).status(503);
+    }
+
+    @Test
+    public void testNotSignedIn() throws IOException {
+        when(session.id()).thenReturn("unknown");
+        assertEquals("", CuT.handle(request, response));
+        verify(response).status(401);
+    }
+
+    @Test
+    public void testEncode() {
+        assertEquals(GetGameStateRoute.RED_KING, GetGameStateRoute.encode(3, 0b1000, 0, 0b1000));
+        assertEquals(GetGameStateRoute.WHITE, GetGameStateRoute.encode(3, 0, 0b1000, 0));
+        assertEquals(GetGameStateRoute.EMPTY, GetGameStateRoute.encode(2, 0b1000, 0b1000, 0));
+    }
+}
@@ -1,6 +1,7 @@
 package com.webcheckers.ui;
 
 import com.webcheckers.appl.PlayerLobby;
+import com.webcheckers.appl.SpectatorCenter;
 import com.webcheckers.model.Game;
 import com.webcheckers.model.Player;
 import org.junit.jupiter.api.BeforeEach;
@@ -9,6 +10,7 @@ import org.junit.jupiter.api.Test;
 import spark.*;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 
 import static com.webcheckers.ui.WebServer.GAME_URL;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -34,6 +36,7 @@ public class GetHomeRouteTest {
     private Response response;
     private Session session;
     private PlayerLobby playerLobby;
+    private SpectatorCenter spectatorCenter;
     private TemplateEngine templateEngine;
     private Player player;
     private GetHomeRoute CuT;
@@ -64,8 +67,11 @@ public class GetHomeRouteTest {
         playerLobby = mock(PlayerLobby.class);
         when(playerLobby.getPlayerBySessionID(SESSION_ID)).thenReturn(player);
 
+        // Set up the SpectatorCenter
+        spectatorCenter = mock(SpectatorCenter.class);
+
         // Set up the route component
-        CuT = new GetHomeRoute(playerLobby, templateEngine);
+        CuT = new GetHomeRoute(playerLobby, spectatorCenter, templateEngine);
     }
 
     //
@@ -120,6 +126,7 @@ public class GetHomeRouteTest {
         testHelper.assertViewModelAttribute(GetHomeRoute.SIGNED_IN_PLAYERS, expectedSignedInPlayers);
         testHelper.assertViewModelAttribute(GetHomeRoute.CURRENT_GAME_OPPONENT_NAMES, expectedOpponentNames);
         testHelper.assertViewModelAttribute(GetHomeRoute.CURRENT_GAME_IDS, expectedGameIDs);
+        testHelper.assertViewModelAttribute(GetHomeRoute.WATCHABLE_GAME_IDS, new ArrayList<>());
         testHelper.assertViewModelAttribute(GetHomeRoute.IS_SIGNED_IN, true);
         testHelper.assertViewModelAttributeIsAbsent(GetHomeRoute.NUM_SIGNED_IN);
         // Test view name
@@ -163,4 +170,30 @@ public class GetHomeRouteTest {
         // Test view name
         testHelper.assertViewName(GetHomeRoute.TEMPLATE_NAME);
     }
+
+    /**
+     * Make sure that a signed-in user is offered the games they could
+     * watch, in the order the SpectatorCenter gives them.
+     */
+    @Test
+    public void testWatchableGames() {
+        when(playerLobby.getPlayerNameBySessionID(SESSION_ID)).thenReturn(USERNAME);
+        when(playerLobby.getSignedInPlayers()).thenReturn(new ArrayList<>());
+        when(player.getCurrentOpponentNames()).thenReturn(new ArrayList<>());
+        when(player.getCurrentGameIDs()).thenReturn(new ArrayList<>());
+
+        Game watched = new Game(new Player("amy"), new Player("ben"), 4);
+        Game other = new Game(new Player("cat"), new Player("dan"), 2);
+        when(spectatorCenter.getFeaturedGames(player, GetHomeRoute.FEATURED_GAMES))
+            .thenReturn(Arrays.asList(watched, other));
+
+        TemplateEngineTester testHelper = new TemplateEngineTester();
+        when(templateEngine.render(any(ModelAndView.class))).thenAnswer(testHelper.makeAnswer());
+
+        CuT.handle(request, response);
+
+        testHelper.assertViewModelAttribute(GetHomeRoute.WATCHABLE_GAME_IDS, new ArrayList<>(Arrays.asList(4, 2)));
+        testHelper.assertViewModelAttribute(GetHomeRoute.WATCHABLE_GAME_NAMES,
+            new ArrayList<>(Arrays.asList("amy vs ben", "cat vs dan")));
+    }
 }
@@ -0,0 +1,157 @@
+package com.webcheckers.ui;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.*;
+
+import com.webcheckers.appl.PlayerLobby;
+import com.webcheckers.appl.SpectatorCenter;
+import com.webcheckers.model.Game;
+import com.webcheckers.model.Player;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import spark.HaltException;
+import spark.ModelAndView;
+import spark.Request;
+import spark.Response;
+import spark.Session;
+import spark.TemplateEngine;
+
+@Tag("UI-Tier")
+public class GetSpectatorGameRouteTest {
+
+    private static final String WATCHER_ID = "3";
+    private static final String BOARD_HTML = "<table id=\"game-board\"></table>";
+    private static final String PAGE_HTML = "<html></html>";
+
+    // Component Under Test
+    private GetSpectatorGameRoute CuT;
+
+    // Friendly objects
+    private PlayerLobby playerLobby;
+    private SpectatorCenter spectatorCenter;
+    private Player watcher;
+    private Game game;
+    private BoardFragmentCache boardFragments;
+
+    // Mocked objects
+    private Request request;
+    private Response response;
+    private Session session;
+    private TemplateEngine templateEngine;
+    private TemplateEngineTester pageHelper;
+
+    @BeforeEach
+    public void setup() {
+        playerLobby = new PlayerLobby();
+        playerLobby.signIn("red", "1");
+        playerLobby.signIn("white", "2");
+        playerLobby.signIn("watcher", WATCHER_ID);
+        watcher = playerLobby.getPlayerBySessionID(WATCHER_ID);
+        game = playerLobby.startGame(playerLobby.getPlayerBySessionID("1"), playerLobby.getPlayerBySessionID("2"));
+        spectatorCenter = new SpectatorCenter(playerLobby);
+
+        request = mock(Request.class);
+        session = mock(Session.class);
+        when(request.session()).thenReturn(session);
+        when(session.id()).thenReturn(WATCHER_ID);
+        when(request.queryParams(GetSpectatorGameRoute.GAME_ID_PARAM)).thenReturn(Integer.toString(game.getGameID()));
+        response = mock(Response.class);
+
+        templateEngine = mock(TemplateEngine.class);
+        when(templateEngine.render(argThat((ModelAndView modelAndView) ->
+            modelAndView != null && BoardFragmentCache.TEMPLATE_NAME.equals(modelAndView.getViewName()))))
+            .thenReturn(BOARD_HTML);
+        pageHelper = new TemplateEngineTester();
+        when(templateEngine.render(argThat((ModelAndView modelAndView) ->
+            modelAndView != null && GetSpectatorGameRoute.TEMPLATE_NAME.equals(modelAndView.getViewName()))))
+            .thenAnswer(invocation -> {
+                pageHelper.makeAnswer().answer(invocation);
+                return PAGE_HTML;
+            });
+
+        boardFragments = new BoardFragmentCache(templateEngine, BoardFragmentCache.DEFAULT_MAX_CHARS);
+        CuT = new GetSpectatorGameRoute(playerLobby, spectatorCenter, templateEngine, boardFragments);
+    }
+
+    private void verifyPageRenders(int times) {
+        verify(templateEngine, times(times)).render(argThat((ModelAndView modelAndView) ->
+            GetSpectatorGameRoute.TEMPLATE_NAME.equals(modelAndView.getViewName())));
+    }
+
+    @Test
+    public void testShowsGame() {
+        assertEquals(PAGE_HTML, CuT.handle(request, response));
+
+        assertTrue(spectatorCenter.isWatching(watcher, game.getGameID()));
+        pageHelper.assertViewModelAttribute(GetGameRoute.VIEW_MODE_ATTR, GetGameRoute.View.SPECTATOR);
+        pageHelper.assertViewModelAttribute(GetGameRoute.RED_PLAYER_ATTR, "red");
+        pageHelper.assertViewModelAttribute(GetGameRoute.WHITE_PLAYER_ATTR, "white");
+        pageHelper.assertViewModelAttribute(GetGameRoute.ACTIVE_COLOR_ATTR, Game.Turn.RED);
+        pageHelper.assertViewModelAttribute(GetGameRoute.BOARD_HTML_ATTR, BOARD_HTML);
+        pageHelper.assertViewModelAttribute(GetSpectatorGameRoute.VERSION_ATTR, "0");
+        pageHelper.assertViewModelAttributeIsAbsent(GetGameRoute.MESSAGE_ATTR);
+        verify(response).header(GetGameRoute.ETAG_HEADER, "\"s" + game.getGameID() + "-0\"");
+    }
+
+    /**
+     * Make sure every watcher of a version is sent the one page, and the
+     * page is rendered again only once the game changes.
+     */
+    @Test
+    public void testSharedPage() {
+        playerLobby.signIn("other", "4");
+        CuT.handle(request, response);
+        when(session.id()).thenReturn("4");
+        assertEquals(PAGE_HTML, CuT.handle(request, response));
+        verifyPageRenders(1);
+
+        game.applyTurnMoves();
+        CuT.handle(request, response);
+        CuT.handle(request, response);
+        verifyPageRenders(2);
+    }
+
+    /**
+     * Make sure a board a player's page rendered is reused for the
+     * spectators, as both pages share the cache.
+     */
+    @Test
+    public void testBoardSharedWithPlayers() {
+        boardFragments.render(game, false);
+        CuT.handle(request, response);
+        assertEquals(1, boardFragments.getMisses());
+        assertEquals(1, boardFragments.getHits());
+    }
+
+    @Test
+    public void testNotModified() {
+        when(request.headers(GetGameRoute.IF_NONE_MATCH_HEADER)).thenReturn("\"s" + game.getGameID() + "-0\"");
+        assertEquals("", CuT.handle(request, response));
+        verify(response).status(304);
+        verifyPageRenders(0);
+    }
+
+    @Test
+    public void testPlayerLeft() {
+        game.leaveFromGame(game.getWhitePlayer());
+        CuT.handle(request, response);
+        pageHelper.assertViewModelAttribute(GetGameRoute.MESSAGE_ATTR,
+            new Message(String.format(GetSpectatorGameRoute.WINNER_MSG, "red"), Message.MessageType.info));
+    }
+
+    @Test
+    public void testPlayerRedirected() {
+        when(session.id()).thenReturn("1");
+        assertThrows(HaltException.class, () -> CuT.handle(request, response));
+        verify(response).redirect(WebServer.GAME_URL + "?id=" + game.getGameID());
+    }
+
+    @Test
+    public void testNoSuchGame() {
+        when(request.queryParams(GetSpectatorGameRoute.GAME_ID_PARAM)).thenReturn("42");
+        assertThrows(HaltException.class, () -> CuT.handle(request, response));
+        verify(response).redirect(WebServer.HOME_URL);
+    }
+}
@@ -0,0 +1,47 @@
+package com.webcheckers.ui;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.webcheckers.appl.PlayerLobby;
+import com.webcheckers.appl.SpectatorCenter;
+import com.webcheckers.model.Game;
+import com.webcheckers.model.Player;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import spark.HaltException;
+import spark.Request;
+import spark.Response;
+import spark.Session;
+
+@Tag("UI-Tier")
+public class GetSpectatorStopWatchingRouteTest {
+
+    @Test
+    public void testStopWatching() {
+        PlayerLobby playerLobby = new PlayerLobby();
+        playerLobby.signIn("red", "1");
+        playerLobby.signIn("white", "2");
+        playerLobby.signIn("watcher", "3");
+        Player watcher = playerLobby.getPlayerBySessionID("3");
+        Game game = playerLobby.startGame(playerLobby.getPlayerBySessionID("1"), playerLobby.getPlayerBySessionID("2"));
+        SpectatorCenter spectatorCenter = new SpectatorCenter(playerLobby);
+        spectatorCenter.startWatching(watcher, game.getGameID());
+
+        Request request = mock(Request.class);
+        Session session = mock(Session.class);
+        when(request.session()).thenReturn(session);
+        when(session.id()).thenReturn("3");
+        when(request.queryParams(GetSpectatorGameRoute.GAME_ID_PARAM)).thenReturn(Integer.toString(game.getGameID()));
+        Response response = mock(Response.class);
+
+        GetSpectatorStopWatchingRoute CuT = new GetSpectatorStopWatchingRoute(playerLobby, spectatorCenter);
+        assertThrows(HaltException.class, () -> CuT.handle(request, response));
+
+        verify(response).redirect(WebServer.HOME_URL);
+        assertFalse(spectatorCenter.isWatching(watcher, game.getGameID()));
+        assertEquals(0, spectatorCenter.getWatcherCount(game.getGameID()));
+    }
+}
@@ -0,0 +1,91 @@
+package com.webcheckers.ui;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonParseException;
+import com.webcheckers.model.JumpMove;
+import com.webcheckers.model.Move;
+import com.webcheckers.model.Position;
+import com.webcheckers.model.SimpleMove;
+import com.webcheckers.ui.Message.MessageType;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import spark.Response;
+
+@Tag("UI-Tier")
+public class JsonCodecTest {
+
+    private static final String SIMPLE_MOVE_JSON = "{\"start\":{\"row\":5,\"cell\":0},\"end\":{\"row\":4,\"cell\":1}}";
+    private static final String JUMP_MOVE_JSON = "{\"start\":{\"row\":5,\"cell\":0},\"end\":{\"row\":3,\"cell\":2}}";
+
+    @Test
+    public void testMessageMatchesReflection() {
+        Message message = new Message("It's \"your\" turn", MessageType.error);
+        assertEquals(new Gson().toJson(message), JsonCodec.GSON.toJson(message, Message.class));
+
+        Message read = JsonCodec.GSON.fromJson("{\"type\":\"error\",\"extra\":[1],\"text\":\"hi\"}", Message.class);
+        assertEquals("hi", read.getText());
+        assertEquals(MessageType.error, read.getType());
+    }
+
+    @Test
+    public void testReadMove() {
+        Move simple = JsonCodec.GSON.fromJson(SIMPLE_MOVE_JSON, Move.class);
+        Move jump = JsonCodec.GSON.fromJson(JUMP_MOVE_JSON, Move.class);
+        assertTrue(simple instanceof SimpleMove);
+        assertTrue(jump instanceof JumpMove);
+        assertSame(Position.of(5, 0), jump.getStart());
+        assertEquals(new Position(3, 2), jump.getEnd());
+    }
+
+    @Test
+    public void testWriteMove() {
+        Move move = Move.between(5, 0, 4, 1);
+        assertEquals(SIMPLE_MOVE_JSON, JsonCodec.GSON.toJson(move, Move.class));
+        assertEquals(SIMPLE_MOVE_JSON, JsonCodec.GSON.toJson(move));
+    }
+
+    @Test
+    public void testReadMoveWithoutEnd() {
+        assertThrows(JsonParseException.class,
+            () -> JsonCodec.GSON.fromJson("{\"start\":{\"row\":5,\"cell\":0}}", Move.class));
+    }
+
+    @Test
+    public void testPreencode() throws IOException {
+        Message message = JsonCodec.preencode(new Message("Fixed answer", MessageType.error));
+        byte[] body = JsonCodec.getPreencoded(message);
+        assertArrayEquals(new Gson().toJson(message).getBytes(StandardCharsets.UTF_8), body);
+        // Registering the same message again keeps the same bytes
+        JsonCodec.preencode(new Message("Fixed answer", MessageType.error));
+        assertSame(body, JsonCodec.getPreencoded(new Message("Fixed answer", MessageType.error)));
+        assertNull(JsonCodec.getPreencoded(new Message("Fixed answer", MessageType.info)));
+
+        Response response = mock(Response.class);
+        JsonResponseTester responseTester = new JsonResponseTester();
+        responseTester.attach(response);
+        JsonCodec.respond(JsonCodec.GSON, response, new Message("Fixed answer", MessageType.error), Message.class);
+        verify(responseTester.getRaw()).setContentLength(body.length);
+        assertEquals(new String(body, StandardCharsets.UTF_8), responseTester.getBody());
+    }
+
+    @Test
+    public void testRespond() throws IOException {
+        Response response = mock(Response.class);
+        JsonResponseTester responseTester = new JsonResponseTester();
+        responseTester.attach(response);
+
+        Object result = JsonCodec.respond(response, new Message("Not a fixed answer"));
+        assertEquals("", result);
+        assertEquals("{\"text\":\"Not a fixed answer\",\"type\":\"info\"}", responseTester.getBody());
+        verify(response).type(JsonCodec.CONTENT_TYPE);
+        verify(responseTester.getRaw(), never()).setContentLength(anyInt());
+    }
+}
@@ -0,0 +1,70 @@
+package com.webcheckers.ui;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import javax.servlet.ServletOutputStream;
+import javax.servlet.WriteListener;
+import javax.servlet.http.HttpServletResponse;
+import spark.Response;
+
+/**
+ * Helper class to capture the body that a route writes straight into a
+ * mocked Spark {@link Response}, as the Ajax routes do through
+ * {@link JsonCodec#respond}.
+ */
+public class JsonResponseTester {
+
+  /** Holds everything written to the response. */
+  private final ByteArrayOutputStream body = new ByteArrayOutputStream();
+  /** The mocked raw servlet response. */
+  private HttpServletResponse raw;
+
+  /**
+   * Give a mocked response a raw servlet response whose output is captured.
+   *
+   * @param response  the mocked Spark response
+   */
+  public void attach(Response response) throws IOException {
+    raw = mock(HttpServletResponse.class);
+    when(raw.getOutputStream()).thenReturn(new ServletOutputStream() {
+      @Override
+      public boolean isReady() {
+        return true;
+      }
+
+      @Override
+      public void setWriteListener(WriteListener writeListener) {
+      }
+
+      @Override
+      public void write(int b) {
+        body.write(b);
+      }
+    });
+    when(response.raw()).thenReturn(raw);
+  }
+
+  /**
+   * Get the raw servlet response, to verify its headers.
+   *
+   * @return  the mocked raw response
+   */
+  public HttpServletResponse getRaw() {
+    return raw;
+  }
+
+  /**
+   * Get the body written since the last call.
+   *
+   * @return  the body, decoded as UTF-8
+   */
+  public String getBody() {
+    String written = new String(body.toByteArray(), StandardCharsets.UTF_8);
+    body.reset();
+    return written;
+  }
+}
@@ -51,4 +51,12 @@ public class PieceViewTest {
 
         assertNotNull(pieceView.getColor(), "Color is null");
     }
+
+    @Test
+    public void testShared(){
+        assertSame(PieceView.of(pieceKing), PieceView.of(PieceView.Color.WHITE, PieceView.Type.KING));
+        assertSame(PieceView.of(pieceRed), pieceRed.getPieceView());
+        assertEquals(pieceViewNew, PieceView.of(pieceWhite));
+        assertNotSame(PieceView.of(pieceWhite), PieceView.of(pieceKing));
+    }
 }
@@ -1,6 +1,7 @@
 package com.webcheckers.ui;
 
 import com.webcheckers.appl.PlayerLobby;
+import com.webcheckers.appl.TurnController;
 import com.webcheckers.model.Board;
 import com.webcheckers.model.Game;
 import com.webcheckers.model.JumpMove;
@@ -10,6 +11,7 @@ import com.webcheckers.model.Piece.PType;
 import com.webcheckers.model.Player;
 import com.webcheckers.model.Position;
 import com.webcheckers.model.SimpleMove;
+import java.io.IOException;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.BeforeEach;
 import spark.Request;
@@ -38,11 +40,13 @@ public class PostBackupMoveRouteTest {
 
   private Request request;
   private Response response;
+  private final JsonResponseTester responseTester = new JsonResponseTester();
   private Session session;
 
   @BeforeEach
-  void setup() {
+  void setup() throws IOException {
     response = mock(Response.class);
+    responseTester.attach(response);
     request = mock(Request.class);
     session = mock(Session.class);
     when(request.session()).thenReturn(session);
@@ -60,20 +64,22 @@ public class PostBackupMoveRouteTest {
     game = playerLobby.getGame(thisPlayer);
     board = game.getBoard();
 
-    CuT = new PostBackupMoveRoute(playerLobby);
+    CuT = new PostBackupMoveRoute(playerLobby, new TurnController(playerLobby, JsonCodec.GSON));
 
   }
 
   @Test
-  public void TestBackupSimpleMove() {
+  public void TestBackupSimpleMove() throws IOException {
     game.addMove(new SimpleMove(new Position(5, 0), new Position(4, 1)));
 
-    assertEquals(GOOD_SIMPLE_COMPARE, CuT.handle(request, response));
+    CuT.handle(request, response);
+
+    assertEquals(GOOD_SIMPLE_COMPARE, responseTester.getBody());
     assertNull(game.removeMove());
   }
 
   @Test
-  public void TestBackupJumpMove() {
+  public void TestBackupJumpMove() throws IOException {
     for (int i = 0; i < 8; i++) {
       for (int j = 0; j < 8; j++) {
         board.getSpace(new Position(i, j)).removePiece();
@@ -85,14 +91,25 @@ public class PostBackupMoveRouteTest {
 
     game.addMove(new JumpMove(new Position(5, 0), new Position(3, 2)));
 
-    assertEquals(GOOD_JUMP_COMPARE, CuT.handle(request, response));
+    CuT.handle(request, response);
+
+    assertEquals(GOOD_JUMP_COMPARE, responseTester.getBody());
     assertNull(game.removeMove());
   }
 
   @Test
-  public void TestBackupNoMove() {
-    assertEquals(ERROR_COMPARE, CuT.handle(request, response));
+  public void TestBackupNoMove() throws IOException {
+    CuT.handle(request, response);
+    assertEquals(ERROR_COMPARE, responseTester.getBody());
     assertNull(game.removeMove());
   }
 
+  @Test
+  public void TestBackupMessagesPreencoded() {
+    assertArrayEquals(GOOD_SIMPLE_COMPARE.getBytes(), JsonCodec.getPreencoded(TurnController.BACKUP_SIMPLE_MESSAGE));
+    assertArrayEquals(GOOD_JUMP_COMPARE.getBytes(), JsonCodec.getPreencoded(TurnController.BACKUP_JUMP_MESSAGE));
+    assertArrayEquals(ERROR_COMPARE.getBytes(), JsonCodec.getPreencoded(TurnController.BACKUP_NONE_MESSAGE));
+    assertNotNull(JsonCodec.getPreencoded(TurnController.BACKUP_UNKNOWN_MESSAGE));
+  }
+
 }
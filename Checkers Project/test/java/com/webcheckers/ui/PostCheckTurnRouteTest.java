@@ -1,6 +1,9 @@
 package com.webcheckers.ui;
 
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.google.gson.Gson;
@@ -8,11 +11,21 @@ import com.google.gson.GsonBuilder;
 import com.webcheckers.appl.PlayerLobby;
 import com.webcheckers.model.Game;
 import com.webcheckers.model.Player;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import javax.servlet.AsyncContext;
+import javax.servlet.AsyncEvent;
+import javax.servlet.AsyncListener;
+import javax.servlet.ServletOutputStream;
+import javax.servlet.WriteListener;
+import javax.servlet.http.HttpServletRequest;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.Tag;
+import org.mockito.ArgumentCaptor;
 import spark.Request;
 import spark.Response;
 import spark.Session;
@@ -38,13 +51,15 @@ public class PostCheckTurnRouteTest {
     private Session session;
     private Request request;
     private Response response;
+    private final JsonResponseTester responseTester = new JsonResponseTester();
 
     @BeforeEach
-    public void setup(){
+    public void setup() throws IOException {
         playerLobby = mock(PlayerLobby.class);
         gson = new Gson();
         session = mock(Session.class);
         response = mock(Response.class);
+        responseTester.attach(response);
         request = mock(Request.class);
         player = mock(Player.class);
         game = mock(Game.class);
@@ -70,18 +85,158 @@ public class PostCheckTurnRouteTest {
     }
 
     @Test
-    public void testHandleReturnTrue() {
+    public void testHandleReturnTrue() throws IOException {
         when(game.isPlayersTurn(player)).thenReturn(true);
-        Object result = CuT.handle(request, response);
+        CuT.handle(request, response);
+        Object result = responseTester.getBody();
         String JSONResult = (String)result;
         Assertions.assertEquals(IS_PLAYERS_TURN_JSON, JSONResult);
     }
 
     @Test
-    public void testHandleShouldReturnFalse() {
+    public void testHandleShouldReturnFalse() throws IOException {
         when(game.isPlayersTurn(player)).thenReturn(false);
-        Object result = CuT.handle(request, response);
+        CuT.handle(request, response);
+        Object result = responseTester.getBody();
         String JSONResult = (String)result;
         Assertions.assertEquals(NOT_PLAYERS_TURN_JSON, JSONResult);
     }
+
+    /**
+     * Suspend the request the way the server would
+     */
+    private AsyncContext suspend() {
+        HttpServletRequest raw = mock(HttpServletRequest.class);
+        AsyncContext context = mock(AsyncContext.class);
+        when(request.raw()).thenReturn(raw);
+        when(raw.startAsync()).thenReturn(context);
+        when(context.getResponse()).thenReturn(responseTester.getRaw());
+        return context;
+    }
+
+    /**
+     * Make sure a long poll doesn't hold the request's thread, and answers
+     * as soon as the game changes.
+     */
+    @Test
+    public void testLongPollWakesOnTurnChange() throws IOException {
+        Player red = new Player("red", TEST_ID);
+        Player white = new Player("white", "2");
+        Game realGame = new Game(red, white, 0);
+        when(playerLobby.getPlayerBySessionID(TEST_ID)).thenReturn(white);
+        when(playerLobby.getGame(white)).thenReturn(realGame);
+        when(request.queryParams(PostCheckTurnRoute.WAIT_PARAM)).thenReturn("10000");
+        AsyncContext context = suspend();
+
+        CuT.handle(request, response);
+        verify(context).setTimeout(10000);
+        verify(context, never()).complete();
+        Assertions.assertEquals("", responseTester.getBody());
+
+        realGame.applyTurnMoves();
+        verify(context).complete();
+        Assertions.assertEquals(IS_PLAYERS_TURN_JSON, responseTester.getBody());
+
+        // Answered once, however many more changes there are
+        realGame.applyTurnMoves();
+        verify(context).complete();
+        Assertions.assertEquals("", responseTester.getBody());
+    }
+
+    /**
+     * Make sure a change that doesn't touch the turn, the state or a
+     * resignation leaves the long poll waiting.
+     */
+    @Test
+    public void testLongPollIgnoresOtherChanges() throws IOException {
+        Player red = new Player("red", TEST_ID);
+        Player white = new Player("white", "2");
+        Game realGame = new Game(red, white, 0);
+        when(playerLobby.getPlayerBySessionID(TEST_ID)).thenReturn(white);
+        when(playerLobby.getGame(white)).thenReturn(realGame);
+        when(request.queryParams(PostCheckTurnRoute.WAIT_PARAM)).thenReturn("10000");
+        AsyncContext context = suspend();
+
+        CuT.handle(request, response);
+        realGame.setSignedoutPlayer(red);
+        verify(context, never()).complete();
+        Assertions.assertEquals("", responseTester.getBody());
+
+        realGame.setStateEnded();
+        verify(context).complete();
+        Assertions.assertEquals(IS_PLAYERS_TURN_JSON, responseTester.getBody());
+    }
+
+    /**
+     * Make sure an answer the connection can't take yet is written once it
+     * can, without blocking.
+     */
+    @Test
+    public void testLongPollWaitsToWrite() throws IOException {
+        Player red = new Player("red", TEST_ID);
+        Player white = new Player("white", "2");
+        Game realGame = new Game(red, white, 0);
+        when(playerLobby.getPlayerBySessionID(TEST_ID)).thenReturn(white);
+        when(playerLobby.getGame(white)).thenReturn(realGame);
+        when(request.queryParams(PostCheckTurnRoute.WAIT_PARAM)).thenReturn("10000");
+        AsyncContext context = suspend();
+        ByteArrayOutputStream written = new ByteArrayOutputStream();
+        boolean[] ready = {false};
+        WriteListener[] writeListener = new WriteListener[1];
+        when(responseTester.getRaw().getOutputStream()).thenReturn(new ServletOutputStream() {
+            @Override
+            public boolean isReady() {
+                return ready[0];
+            }
+
+            @Override
+            public void setWriteListener(WriteListener listener) {
+                writeListener[0] = listener;
+            }
+
+            @Override
+            public void write(int b) {
+                written.write(b);
+            }
+        });
+
+        CuT.handle(request, response);
+        realGame.applyTurnMoves();
+        verify(context, never()).complete();
+        Assertions.assertEquals(0, written.size());
+
+        ready[0] = true;
+        writeListener[0].onWritePossible();
+        verify(context).complete();
+        Assertions.assertEquals(IS_PLAYERS_TURN_JSON, new String(written.toByteArray(), StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Make sure a long poll answers false once its wait runs out.
+     */
+    @Test
+    public void testLongPollTimesOut() throws IOException {
+        when(game.isPlayersTurn(player)).thenReturn(false);
+        when(request.queryParams(PostCheckTurnRoute.WAIT_PARAM)).thenReturn("50");
+        AsyncContext context = suspend();
+
+        CuT.handle(request, response);
+        ArgumentCaptor<AsyncListener> listener = ArgumentCaptor.forClass(AsyncListener.class);
+        verify(context).addListener(listener.capture());
+        verify(game).addChangeListener(any());
+
+        listener.getValue().onTimeout(new AsyncEvent(context));
+        Assertions.assertEquals(NOT_PLAYERS_TURN_JSON, responseTester.getBody());
+        verify(context).complete();
+        verify(game).removeChangeListener(any());
+    }
+
+    @Test
+    public void testWaitMillis() {
+        Assertions.assertEquals(0, PostCheckTurnRoute.waitMillis(null));
+        Assertions.assertEquals(0, PostCheckTurnRoute.waitMillis("soon"));
+        Assertions.assertEquals(0, PostCheckTurnRoute.waitMillis("-5"));
+        Assertions.assertEquals(1500, PostCheckTurnRoute.waitMillis("1500"));
+        Assertions.assertEquals(PostCheckTurnRoute.MAX_WAIT_MILLIS, PostCheckTurnRoute.waitMillis("999999"));
+    }
 }
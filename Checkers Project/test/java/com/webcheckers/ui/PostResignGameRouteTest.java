@@ -4,6 +4,7 @@ import com.google.gson.Gson;
 import com.webcheckers.appl.PlayerLobby;
 import com.webcheckers.model.Player;
 import com.webcheckers.ui.Message.MessageType;
+import java.io.IOException;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Tag;
@@ -28,15 +29,17 @@ public class PostResignGameRouteTest {
     // Attributes used for testing
     Request mockRequest;
     Response mockResponse;
+    private final JsonResponseTester responseTester = new JsonResponseTester();
     Session mockSession;
     PlayerLobby playerLobby;
     Gson gson = new Gson();
 
     @BeforeEach
-    private void setup() {
+    private void setup() throws IOException {
         // mocked objects
         mockRequest = mock(Request.class);
         mockResponse = mock(Response.class);
+        responseTester.attach(mockResponse);
         mockSession = mock(Session.class);
         when(mockRequest.session()).thenReturn(mockSession);
         when(mockSession.id()).thenReturn(MOCK_SESSION_ID1);
@@ -60,7 +63,7 @@ public class PostResignGameRouteTest {
     }
 
     @Test
-    public void testHandleCorrectlyResignsPlayers() {
+    public void testHandleCorrectlyResignsPlayers() throws IOException {
         playerLobby.signIn("redPlayer", MOCK_SESSION_ID1);
         playerLobby.signIn("redWhite", MOCK_SESSION_ID2);
         Player red = playerLobby.getPlayerBySessionID(MOCK_SESSION_ID1);
@@ -69,7 +72,8 @@ public class PostResignGameRouteTest {
 
         CuT = new PostResignGameRoute(playerLobby, gson);
         String expected = gson.toJson(new Message(PostResignGameRoute.RESIGNATION_MESSAGE, MessageType.info));
-        Object actual = CuT.handle(mockRequest, mockResponse);
+        CuT.handle(mockRequest, mockResponse);
+        Object actual = responseTester.getBody();
         assertEquals(expected, actual);
 
     }
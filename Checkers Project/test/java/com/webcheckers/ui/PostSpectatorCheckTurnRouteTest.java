@@ -0,0 +1,91 @@
+package com.webcheckers.ui;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.webcheckers.appl.PlayerLobby;
+import com.webcheckers.appl.SpectatorCenter;
+import com.webcheckers.model.Game;
+import com.webcheckers.model.GameSnapshot;
+import com.webcheckers.model.Player;
+import java.io.IOException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import spark.Request;
+import spark.Response;
+import spark.Session;
+
+@Tag("UI-Tier")
+public class PostSpectatorCheckTurnRouteTest {
+
+    private static final String WATCHER_ID = "3";
+    private static final String CHANGED_JSON = "{\"text\":\"true\",\"type\":\"info\"}";
+    private static final String NOT_CHANGED_JSON = "{\"text\":\"false\",\"type\":\"info\"}";
+
+    // Component Under Test
+    private PostSpectatorCheckTurnRoute CuT;
+
+    // Friendly objects
+    private PlayerLobby playerLobby;
+    private SpectatorCenter spectatorCenter;
+    private Player watcher;
+    private Game game;
+    private JsonResponseTester responseTester;
+
+    // Mocked objects
+    private Request request;
+    private Response response;
+
+    @BeforeEach
+    public void setup() throws IOException {
+        playerLobby = new PlayerLobby();
+        playerLobby.signIn("red", "1");
+        playerLobby.signIn("white", "2");
+        playerLobby.signIn("watcher", WATCHER_ID);
+        watcher = playerLobby.getPlayerBySessionID(WATCHER_ID);
+        game = playerLobby.startGame(playerLobby.getPlayerBySessionID("1"), playerLobby.getPlayerBySessionID("2"));
+        spectatorCenter = new SpectatorCenter(playerLobby);
+
+        request = mock(Request.class);
+        Session session = mock(Session.class);
+        when(request.session()).thenReturn(session);
+        when(session.id()).thenReturn(WATCHER_ID);
+        when(request.body()).thenReturn(Integer.toString(game.getGameID()));
+        response = mock(Response.class);
+        responseTester = new JsonResponseTester();
+        responseTester.attach(response);
+
+        CuT = new PostSpectatorCheckTurnRoute(playerLobby, spectatorCenter);
+    }
+
+    @Test
+    public void testNotChanged() throws IOException {
+        GameSnapshot snapshot = spectatorCenter.startWatching(watcher, game.getGameID());
+        spectatorCenter.markSeen(watcher, game.getGameID(), snapshot.getVersion());
+
+        CuT.handle(request, response);
+        assertEquals(NOT_CHANGED_JSON, responseTester.getBody());
+    }
+
+    @Test
+    public void testChanged() throws IOException {
+        GameSnapshot snapshot = spectatorCenter.startWatching(watcher, game.getGameID());
+        spectatorCenter.markSeen(watcher, game.getGameID(), snapshot.getVersion());
+        game.applyTurnMoves();
+
+        CuT.handle(request, response);
+        assertEquals(CHANGED_JSON, responseTester.getBody());
+    }
+
+    /**
+     * Make sure someone who isn't watching is told to reload, which takes
+     * them back home.
+     */
+    @Test
+    public void testNotWatching() throws IOException {
+        CuT.handle(request, response);
+        assertEquals(CHANGED_JSON, responseTester.getBody());
+    }
+}
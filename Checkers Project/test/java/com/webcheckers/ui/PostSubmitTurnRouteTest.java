@@ -2,6 +2,7 @@ package com.webcheckers.ui;
 
 import com.google.gson.Gson;
 import com.webcheckers.appl.PlayerLobby;
+import com.webcheckers.appl.TurnController;
 import com.webcheckers.model.Board;
 import com.webcheckers.model.Game;
 import com.webcheckers.model.Game.Turn;
@@ -13,6 +14,7 @@ import com.webcheckers.model.Player;
 import com.webcheckers.model.Position;
 import com.webcheckers.model.SimpleMove;
 import com.webcheckers.ui.Message.MessageType;
+import java.io.IOException;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.BeforeEach;
@@ -42,11 +44,13 @@ public class PostSubmitTurnRouteTest {
 
   private Request request;
   private Response response;
+  private final JsonResponseTester responseTester = new JsonResponseTester();
   private Session session;
 
   @BeforeEach
-  void setup() {
+  void setup() throws IOException {
     response = mock(Response.class);
+    responseTester.attach(response);
     request = mock(Request.class);
     session = mock(Session.class);
     when(request.session()).thenReturn(session);
@@ -64,11 +68,11 @@ public class PostSubmitTurnRouteTest {
     game = playerLobby.getGame(thisPlayer);
     board = game.getBoard();
 
-    CuT = new PostSubmitTurnRoute(playerLobby);
+    CuT = new PostSubmitTurnRoute(playerLobby, new TurnController(playerLobby, JsonCodec.GSON));
   }
 
   @Test
-  public void testGoodSimpleMove() {
+  public void testGoodSimpleMove() throws IOException {
     for (int i = 0; i < 8; i++) {
       for (int j = 0; j < 8; j++) {
         board.getSpace(new Position(i, j)).removePiece();
@@ -77,14 +81,16 @@ public class PostSubmitTurnRouteTest {
     board.getSpace(new Position(5, 0)).addPiece(new Piece(PColor.red, PType.single));
     game.addMoveToCurrentTurn(new SimpleMove(new Position(5, 0), new Position(4, 1)));
 
-    assertEquals(GOOD_COMPARE, CuT.handle(request, response));
+    CuT.handle(request, response);
+
+    assertEquals(GOOD_COMPARE, responseTester.getBody());
     assertTrue(game.getTurn() == Turn.WHITE);
     assertFalse(game.getBoard().getSpace(new Position(5, 0)).doesHasPiece());
     assertTrue(game.getBoard().getSpace(new Position(4, 1)).doesHasPiece());
   }
 
   @Test
-  public void testGoodJumpMove() {
+  public void testGoodJumpMove() throws IOException {
     for (int i = 0; i < 8; i++) {
       for (int j = 0; j < 8; j++) {
         board.getSpace(new Position(i, j)).removePiece();
@@ -95,20 +101,22 @@ public class PostSubmitTurnRouteTest {
     board.getSpace(new Position(4, 1)).addPiece(new Piece(PColor.white, PType.single));
 
     game.addMoveToCurrentTurn(new JumpMove(new Position(5, 0), new Position(3, 2)));
-    Object result = CuT.handle(request, response);
+    CuT.handle(request, response);
+    Object result = responseTester.getBody();
     assertEquals(GOOD_COMPARE, result);
     assertFalse(board.getSpace(new Position(5, 0)).doesHasPiece());
     assertTrue(board.getSpace(new Position(3, 2)).doesHasPiece());
   }
 
-  @Test public void testSubmitMidMultiJumpFailure() {
+  @Test public void testSubmitMidMultiJumpFailure() throws IOException {
       playerLobby = mock(PlayerLobby.class);
       Game mockGame = mock(Game.class);
       when(playerLobby.getPlayerBySessionID("id")).thenReturn(thisPlayer);
       when(playerLobby.getGame(thisPlayer)).thenReturn(mockGame);
       when(mockGame.movesLeft()).thenReturn(true);
-      CuT = new PostSubmitTurnRoute(playerLobby);
-      Object actual = CuT.handle(request, response);
+      CuT = new PostSubmitTurnRoute(playerLobby, new TurnController(playerLobby, JsonCodec.GSON));
+      CuT.handle(request, response);
+      Object actual = responseTester.getBody();
       assertEquals(actual, BAD_COMPARE);
 
   }
@@ -7,6 +7,7 @@ import com.webcheckers.appl.PlayerLobby;
 import com.webcheckers.appl.TurnController;
 import com.webcheckers.appl.TurnControllerTest;
 import com.webcheckers.ui.Message.MessageType;
+import java.io.IOException;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
@@ -29,6 +30,7 @@ public class PostValidateMoveTest {
     // Mocked Objects
     Request request;
     Response response;
+    private final JsonResponseTester responseTester = new JsonResponseTester();
     PlayerLobby playerLobby;
     TurnController turnController;
 
@@ -42,10 +44,11 @@ public class PostValidateMoveTest {
     }
 
     @Test
-    public void testHandle() {
+    public void testHandle() throws IOException {
         Message msg = new Message(MSG_BODY, MessageType.info);
         Session session = mock(Session.class);
         response = mock(Response.class);
+        responseTester.attach(response);
         request = mock(Request.class);
         turnController = mock(TurnController.class);
         playerLobby = mock(PlayerLobby.class);
@@ -53,11 +56,11 @@ public class PostValidateMoveTest {
         when(request.session().id()).thenReturn(TEST_ID);
         when(request.body()).thenReturn(JSON_MOVE_PASS);
         when(turnController.handleValidation(JSON_MOVE_PASS, TEST_ID)).thenReturn(msg);
-        when(turnController.MessageFromModeltoUI(msg)).thenReturn(MSG_BODY);
 
         CuT = new PostValidateMoveRoute(playerLobby, turnController);
-        Object serv_response = CuT.handle(request, response);
-        Assertions.assertEquals(MSG_BODY, serv_response);
+        CuT.handle(request, response);
+        Object serv_response = responseTester.getBody();
+        Assertions.assertEquals(JSON_SERVER_RES, serv_response);
     }
 
 
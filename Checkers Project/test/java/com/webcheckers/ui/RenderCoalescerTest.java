@@ -0,0 +1,84 @@
+package com.webcheckers.ui;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+@Tag("UI-Tier")
+public class RenderCoalescerTest {
+
+    // Component Under Test
+    private RenderCoalescer<String> CuT;
+
+    @BeforeEach
+    public void setup() {
+        CuT = new RenderCoalescer<>();
+    }
+
+    @Test
+    public void testConcurrentRendersShared() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger calls = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<String> first = executor.submit(() -> CuT.render("\"1-4-r-0\"", () -> {
+                calls.incrementAndGet();
+                started.countDown();
+                await(release);
+                return "page";
+            }));
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+
+            Future<String> second = executor.submit(() -> CuT.render("\"1-4-r-0\"", () -> {
+                calls.incrementAndGet();
+                return "other page";
+            }));
+            // Let the waiting request reach the running render
+            while (CuT.getSharedCount() == 0) {
+                Thread.sleep(1);
+            }
+            release.countDown();
+
+            assertEquals("page", first.get(5, TimeUnit.SECONDS));
+            assertEquals("page", second.get(5, TimeUnit.SECONDS));
+            assertEquals(1, calls.get());
+            assertEquals(1, CuT.getRenderCount());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testFinishedRenderNotKept() {
+        assertEquals("one", CuT.render("key", () -> "one"));
+        assertEquals("two", CuT.render("key", () -> "two"));
+        assertEquals(2, CuT.getRenderCount());
+        assertEquals(0, CuT.getSharedCount());
+    }
+
+    @Test
+    public void testFailedRender() {
+        assertThrows(IllegalStateException.class, () -> CuT.render("key", () -> {
+            throw new IllegalStateException("broken template");
+        }));
+        // The failure is not remembered
+        assertEquals("page", CuT.render("key", () -> "page"));
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -43,14 +43,19 @@ public class RowViewTest {
     //
     @Test
     public void testConstructorStandard() {
-        assertEquals(blackSpace, rowView.listSpaceViews.get(0), "RowView did not construct correctly");
+        assertEquals(blackSpace, rowView.iterator().next(), "RowView did not construct correctly");
     }
 
     @Test
     public void testConstructorReverse() {
         // Override default with a reversed RowView
         rowView = new RowView(spaces, ROW_INDEX, true);
-        assertEquals(whiteSpace, rowView.listSpaceViews.get(0), "RowView did not reverse correctly");
+        assertEquals(whiteSpace, rowView.iterator().next(), "RowView did not reverse correctly");
+    }
+
+    @Test
+    public void testSharedSpaces() {
+        assertSame(SpaceView.of(spaces[0], 0), rowView.iterator().next(), "RowView did not use the shared space");
     }
 
     @Test
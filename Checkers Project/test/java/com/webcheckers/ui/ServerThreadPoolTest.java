@@ -0,0 +1,102 @@
+package com.webcheckers.ui;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.eclipse.jetty.util.thread.QueuedThreadPool;
+import org.eclipse.jetty.util.thread.ThreadPool;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * The unit test suite for the {@link ServerThreadPool} component.
+ */
+@Tag("UI-tier")
+public class ServerThreadPoolTest {
+
+    /**
+     * Make sure the default settings match Spark's own.
+     */
+    @Test
+    public void testDefaults() {
+        ServerThreadPool CuT = new ServerThreadPool();
+        assertEquals(ServerThreadPool.DEFAULT_MAX_THREADS, CuT.getMaxThreads());
+        assertEquals(ServerThreadPool.DEFAULT_MIN_THREADS, CuT.getMinThreads());
+        assertEquals(ServerThreadPool.DEFAULT_IDLE_TIMEOUT_MILLIS, CuT.getIdleTimeoutMillis());
+        assertFalse(CuT.isVirtualThreads());
+    }
+
+    /**
+     * Make sure the queued thread pool is made with the given settings.
+     */
+    @Test
+    public void testCreateQueuedThreadPool() {
+        ServerThreadPool CuT = new ServerThreadPool(50, 4, 1000, 100, false);
+        ThreadPool pool = CuT.create();
+        assertTrue(pool instanceof QueuedThreadPool);
+        QueuedThreadPool queued = (QueuedThreadPool) pool;
+        assertEquals(50, queued.getMaxThreads());
+        assertEquals(4, queued.getMinThreads());
+        assertEquals(1000, queued.getIdleTimeout());
+    }
+
+    /**
+     * Make sure virtual threads are used when the runtime has them, and the
+     * queued thread pool otherwise.
+     */
+    @Test
+    public void testCreateVirtualThreads() {
+        ServerThreadPool CuT = new ServerThreadPool(50, 4, 1000, 100, true);
+        ThreadPool pool = CuT.create();
+        if (ServerThreadPool.virtualThreadsAvailable()) {
+            assertTrue(pool instanceof ServerThreadPool.ExecutorPool);
+        } else {
+            assertTrue(pool instanceof QueuedThreadPool);
+        }
+    }
+
+    /**
+     * Make sure the pool for virtual threads runs Jetty's tasks on its
+     * executor and shuts the executor down when the server stops.
+     */
+    @Test
+    public void testExecutorPool() throws Exception {
+        ExecutorService executor = Executors.newCachedThreadPool();
+        ServerThreadPool.ExecutorPool CuT = new ServerThreadPool.ExecutorPool(executor);
+        CuT.start();
+
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CuT.execute(() -> {
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        assertEquals(1, CuT.getThreads());
+        assertFalse(CuT.isLowOnThreads());
+
+        release.countDown();
+        CuT.stop();
+        CuT.join();
+        assertTrue(executor.isShutdown());
+        assertEquals(0, CuT.getThreads());
+    }
+
+    /**
+     * Make sure settings that can't make a pool are refused.
+     */
+    @Test
+    public void testInvalidSettings() {
+        assertThrows(IllegalArgumentException.class, () -> new ServerThreadPool(4, 8, 1000, 100, false));
+        assertThrows(IllegalArgumentException.class, () -> new ServerThreadPool(8, 0, 1000, 100, false));
+        assertThrows(IllegalArgumentException.class, () -> new ServerThreadPool(8, 4, -1, 100, false));
+        assertThrows(IllegalArgumentException.class, () -> new ServerThreadPool(8, 4, 1000, 0, false));
+    }
+}
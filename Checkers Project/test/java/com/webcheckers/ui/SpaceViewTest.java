@@ -108,4 +108,25 @@ public class SpaceViewTest {
         // Should return the index value originally set
         assertEquals(CuT.getCellIdx(), CELL_INDEX);
     }
+
+    /**
+     * Test that spaces of the same kind in the same cell are shared.
+     */
+    @Test
+    public void should_beShared_when_sameKindAndCell() {
+        PieceView king = PieceView.of(PieceView.Color.RED, PieceView.Type.KING);
+        SpaceView CuT = SpaceView.black(king, CELL_INDEX);
+
+        assertSame(CuT, SpaceView.black(new PieceView(PieceView.Color.RED, PieceView.Type.KING), CELL_INDEX));
+        assertSame(king, CuT.getPieceView());
+        assertFalse(CuT.isValid());
+        assertNotSame(CuT, SpaceView.black(king, CELL_INDEX + 1));
+        assertTrue(SpaceView.black(null, CELL_INDEX).isValid());
+        assertFalse(SpaceView.white(CELL_INDEX).isValid());
+
+        // Built from a space, it is the same space as the shared one
+        when(blackSpace.doesHasPiece()).thenReturn(false);
+        assertSame(SpaceView.black(null, CELL_INDEX), SpaceView.of(blackSpace, CELL_INDEX));
+        assertEquals(SpaceView.black(null, CELL_INDEX), new SpaceView(blackSpace, CELL_INDEX));
+    }
 }